@@ -45,7 +45,9 @@ public class TCDocLinkAnnotation extends TCAnnotation
 {
 	private static final long serialVersionUID = 1L;
 	
-	private static Stack<TCDocLinkAnnotation> stack = new Stack<TCDocLinkAnnotation>();
+	/** Per thread, because modules and classes may be type checked in parallel. */
+	private static ThreadLocal<Stack<TCDocLinkAnnotation>> stack =
+		ThreadLocal.withInitial(() -> new Stack<TCDocLinkAnnotation>());
 
 	public TCDocLinkAnnotation(TCIdentifierToken name, TCExpressionList args)
 	{
@@ -55,68 +57,68 @@ public class TCDocLinkAnnotation extends TCAnnotation
 	@Override
 	public void tcBefore(TCModule module, ModuleEnvironment env)
 	{
-		stack.clear();
-		stack.push(this);
+		stack.get().clear();
+		stack.get().push(this);
 		check();
 	}
 
 	@Override
 	public void tcBefore(TCClassDefinition clazz, PrivateClassEnvironment env)
 	{
-		stack.clear();
-		stack.push(this);
+		stack.get().clear();
+		stack.get().push(this);
 		check();
 	}
 
 	@Override
 	public void tcBefore(TCDefinition def, Environment env, NameScope scope)
 	{
-		stack.push(this);
+		stack.get().push(this);
 		check();
 	}
 
 	@Override
 	public void tcBefore(TCStatement stmt, Environment env, NameScope scope)
 	{
-		stack.push(this);
+		stack.get().push(this);
 		check();
 	}
 	
 	@Override
 	public void tcBefore(TCExpression exp, Environment env, NameScope scope)
 	{
-		stack.push(this);
+		stack.get().push(this);
 		check();
 	}
 	
 	@Override
 	public void tcAfter(TCClassDefinition m, PrivateClassEnvironment env)
 	{
-		stack.pop();
+		stack.get().pop();
 	}
 
 	@Override
 	public void tcAfter(TCModule m, ModuleEnvironment e)
 	{
-		stack.pop();
+		stack.get().pop();
 	}
 
 	@Override
 	public void tcAfter(TCDefinition def, TCType type, Environment env, NameScope scope)
 	{
-		stack.pop();
+		stack.get().pop();
 	}
 	
 	@Override
 	public void tcAfter(TCExpression exp, TCType type, Environment env, NameScope scope)
 	{
-		stack.pop();
+		stack.get().pop();
 	}
 
 	@Override
 	public void tcAfter(TCStatement stmt, TCType type, Environment env, NameScope scope)
 	{
-		stack.pop();
+		stack.get().pop();
 	}
 
 	public void check()
@@ -139,6 +141,6 @@ public class TCDocLinkAnnotation extends TCAnnotation
 	
 	public static Stack<TCDocLinkAnnotation> enclosing()
 	{
-		return stack;
+		return stack.get();
 	}
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package annotations;
+
+import java.io.File;
+import java.net.URL;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.in.INNode;
+import com.fujitsu.vdmj.in.modules.INModuleList;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.runtime.ModuleInterpreter;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+import com.fujitsu.vdmj.values.MemoTable;
+
+import junit.framework.TestCase;
+
+public class MemoAnnotationTest extends TestCase
+{
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.release = Release.VDM_10;
+		Settings.dialect = Dialect.VDM_SL;
+		Settings.annotations = true;
+		Settings.memoise = false;
+	}
+
+	private TCModuleList check(String resource) throws Exception
+	{
+		URL rurl = getClass().getResource(resource);
+		LexTokenReader ltr = new LexTokenReader(new File(rurl.getPath()), Dialect.VDM_SL);
+		ModuleReader mr = new ModuleReader(ltr);
+		ASTModuleList parsed = mr.readModules();
+		assertEquals("Parse errors", 0, mr.getErrorCount());
+
+		TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ModuleTypeChecker(checked).typeCheck();
+		return checked;
+	}
+
+	public void testMemo() throws Exception
+	{
+		TCModuleList checked = check("/memotest/memo.vdm");
+		assertEquals("Type check errors", 0, TypeChecker.getErrorCount());
+
+		INModuleList runnable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(checked);
+		ModuleInterpreter interpreter = new ModuleInterpreter(runnable, checked);
+		interpreter.init();
+
+		// Only the annotated function is memoised
+		assertEquals("6765", interpreter.execute("plain(20)").toString());
+		assertTrue(MemoTable.getTables().isEmpty());
+		assertEquals("6765", interpreter.execute("fib(20)").toString());
+		assertEquals(1, MemoTable.getTables().size());
+
+		MemoTable fib = MemoTable.getTables().get(0);
+		assertEquals("fib", fib.name);
+		assertEquals(21, fib.size());
+		assertEquals(18, fib.getHits());
+	}
+
+	public void testErrors() throws Exception
+	{
+		check("/memotest/memoerr.vdm");
+		assertEquals(2, TypeChecker.getErrorCount());
+		assertTrue(TypeChecker.getErrors().toString().contains("@Memo only applies to functions"));
+		assertTrue(TypeChecker.getErrors().toString().contains("@Memo has no arguments"));
+	}
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package benchmarks;
+
+import java.io.File;
+
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.definitions.ASTBUSClassDefinition;
+import com.fujitsu.vdmj.ast.definitions.ASTCPUClassDefinition;
+import com.fujitsu.vdmj.ast.definitions.ASTClassList;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.in.INNode;
+import com.fujitsu.vdmj.in.definitions.INClassList;
+import com.fujitsu.vdmj.in.modules.INModuleList;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.po.PONode;
+import com.fujitsu.vdmj.po.definitions.POClassList;
+import com.fujitsu.vdmj.po.modules.POModuleList;
+import com.fujitsu.vdmj.pog.ProofObligationList;
+import com.fujitsu.vdmj.runtime.ClassInterpreter;
+import com.fujitsu.vdmj.runtime.Interpreter;
+import com.fujitsu.vdmj.runtime.ModuleInterpreter;
+import com.fujitsu.vdmj.syntax.ClassReader;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.definitions.TCClassList;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.typechecker.ClassTypeChecker;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+
+/**
+ * Generate the specifications in the corpus, and process them through the
+ * same stages as the VDMJ plugins. Each stage fails if there are errors, so that
+ * a broken corpus is not silently benchmarked.
+ */
+public class Corpus
+{
+	public static String read(Dialect dialect, int size)
+	{
+		return SpecGenerator.generate(dialect, size);
+	}
+
+	public static File file(Dialect dialect, int size)
+	{
+		return new File(SpecGenerator.fileName(dialect, size));
+	}
+
+	/**
+	 * Parse the content, returning an ASTModuleList or ASTClassList.
+	 */
+	public static Object parse(Dialect dialect, String content, File file) throws Exception
+	{
+		Settings.dialect = dialect;
+		LexTokenReader ltr = new LexTokenReader(content, dialect, file);
+
+		if (dialect == Dialect.VDM_SL)
+		{
+			ModuleReader reader = new ModuleReader(ltr);
+			ASTModuleList modules = reader.readModules();
+			reader.close();
+			check(reader.getErrorCount(), "syntax");
+			return modules;
+		}
+		else
+		{
+			ClassReader reader = new ClassReader(ltr);
+			ASTClassList classes = reader.readClasses();
+			reader.close();
+			check(reader.getErrorCount(), "syntax");
+
+			if (dialect == Dialect.VDM_RT)
+			{
+				classes.add(new ASTCPUClassDefinition());
+				classes.add(new ASTBUSClassDefinition());
+			}
+
+			return classes;
+		}
+	}
+
+	/**
+	 * Map a parsed AST to a new TC tree and type check it, returning a TCModuleList
+	 * or TCClassList.
+	 */
+	public static Object typeCheck(Dialect dialect, Object parsed) throws Exception
+	{
+		TypeChecker.clearErrors();
+
+		if (dialect == Dialect.VDM_SL)
+		{
+			TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert((ASTModuleList)parsed);
+			checked.combineDefaults();
+			new ModuleTypeChecker(checked).typeCheck();
+			check(TypeChecker.getErrorCount(), "type");
+			return checked;
+		}
+		else
+		{
+			TCClassList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert((ASTClassList)parsed);
+			new ClassTypeChecker(checked).typeCheck();
+			check(TypeChecker.getErrorCount(), "type");
+			return checked;
+		}
+	}
+
+	public static ProofObligationList getProofObligations(Dialect dialect, Object checked) throws Exception
+	{
+		if (dialect == Dialect.VDM_SL)
+		{
+			POModuleList list = ClassMapper.getInstance(PONode.MAPPINGS).init().convert((TCModuleList)checked);
+			return list.getProofObligations();
+		}
+		else
+		{
+			POClassList list = ClassMapper.getInstance(PONode.MAPPINGS).init().convert((TCClassList)checked);
+			return list.getProofObligations();
+		}
+	}
+
+	/**
+	 * Create and initialize an interpreter for a type checked specification.
+	 */
+	public static Interpreter interpreter(Dialect dialect, Object checked) throws Exception
+	{
+		Interpreter interpreter = null;
+
+		if (dialect == Dialect.VDM_SL)
+		{
+			TCModuleList modules = (TCModuleList)checked;
+			INModuleList runnable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(modules);
+			interpreter = new ModuleInterpreter(runnable, modules);
+		}
+		else
+		{
+			TCClassList classes = (TCClassList)checked;
+			INClassList runnable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(classes);
+			interpreter = new ClassInterpreter(runnable, classes);
+		}
+
+		interpreter.init();
+		return interpreter;
+	}
+
+	public static Interpreter load(Dialect dialect, int size) throws Exception
+	{
+		Object parsed = parse(dialect, read(dialect, size), file(dialect, size));
+		return interpreter(dialect, typeCheck(dialect, parsed));
+	}
+
+	private static void check(int errors, String kind) throws Exception
+	{
+		if (errors > 0)
+		{
+			throw new Exception("Corpus has " + errors + " " + kind + " errors");
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fujitsu.vdmj.ast.expressions.ASTExpression;
+import com.fujitsu.vdmj.in.INNode;
+import com.fujitsu.vdmj.in.expressions.INExpression;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.runtime.Interpreter;
+import com.fujitsu.vdmj.syntax.ExpressionReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.expressions.TCExpression;
+import com.fujitsu.vdmj.values.CPUValue;
+import com.fujitsu.vdmj.values.Value;
+
+/**
+ * Evaluate expressions in the context of the VDM-SL corpus specification. The
+ * expressions are parsed and type checked once per trial, so only the evaluation
+ * is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark
+{
+	@Param({
+		"set_union", "set_comprehension", "seq_concat", "seq_index",
+		"map_merge", "map_override", "forall", "exists", "function_calls", "cases"
+	})
+	public String expression;
+
+	private INExpression inexp;
+	private Context ctxt;
+
+	private static String source(String name)
+	{
+		switch (name)
+		{
+			case "set_union":			return "dunion { {x, x + 1, x + 2} | x in set {1, ..., 500} }";
+			case "set_comprehension":	return "{ x * y | x, y in set {1, ..., 40} & (x + y) mod 3 = 0 }";
+			case "seq_concat":			return "conc [ [x, x + 1] | x in set {1, ..., 500} ]";
+			case "seq_index":			return "let s = [ x | x in set {1, ..., 500} ] in sum10(0, [ s(i) | i in set inds s & i mod 2 = 0 ])";
+			case "map_merge":			return "merge { {x |-> x * 2} | x in set {1, ..., 500} }";
+			case "map_override":		return "let m = { x |-> x | x in set {1, ..., 500} } in m ++ evens10(dom m)";
+			case "forall":				return "forall x in set {1, ..., 2000} & x < 2001";
+			case "exists":				return "exists x, y in set {1, ..., 50} & x * y = 2500";
+			case "function_calls":		return "sum10(0, [ x | x in set {1, ..., 300} ])";
+			case "cases":				return "[ kind10(if x mod 2 = 0 then <Q10> else mk_R10(x, [x])) | x in set {1, ..., 500} ]";
+			default:					throw new IllegalArgumentException("Unknown expression " + name);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		Interpreter interpreter = Corpus.load(Dialect.VDM_SL, 100);
+
+		LexTokenReader ltr = new LexTokenReader(source(expression), Dialect.VDM_SL);
+		ExpressionReader reader = new ExpressionReader(ltr);
+		reader.setCurrentModule("Bench");
+		ASTExpression ast = reader.readExpression();
+		ltr.close();
+
+		TCExpression tcexp = ClassMapper.getInstance(TCNode.MAPPINGS).convertLocal(ast);
+		interpreter.typeCheck(tcexp);
+		inexp = ClassMapper.getInstance(INNode.MAPPINGS).convertLocal(tcexp);
+
+		ctxt = new Context(LexLocation.ANY, "benchmark", interpreter.getInitialContext());
+		ctxt.setThreadState(CPUValue.vCPU);
+	}
+
+	@Benchmark
+	public Value evaluate()
+	{
+		return inexp.eval(ctxt);
+	}
+}
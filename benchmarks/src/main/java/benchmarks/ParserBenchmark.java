@@ -0,0 +1,105 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fujitsu.vdmj.ast.lex.LexToken;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.lex.Token;
+
+/**
+ * Lex and parse the corpus specifications.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark
+{
+	@Param({"VDM_SL", "VDM_PP", "VDM_RT"})
+	public Dialect dialect;
+
+	@Param({"100", "1000"})
+	public int size;
+
+	private String content;
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		content = Corpus.read(dialect, size);
+		file = Corpus.file(dialect, size);
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown()
+	{
+		LexLocation.resetLocations();	// Otherwise these accumulate
+	}
+
+	@Benchmark
+	public int lex() throws Exception
+	{
+		LexTokenReader ltr = new LexTokenReader(content, dialect, file);
+		LexToken token = ltr.nextToken();
+		int count = 0;
+
+		while (!token.is(Token.EOF))
+		{
+			count++;
+			token = ltr.nextToken();
+		}
+
+		ltr.close();
+		return count;
+	}
+
+	@Benchmark
+	public Object parse() throws Exception
+	{
+		return Corpus.parse(dialect, content, file);
+	}
+}
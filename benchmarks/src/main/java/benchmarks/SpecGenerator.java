@@ -0,0 +1,284 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package benchmarks;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import com.fujitsu.vdmj.lex.Dialect;
+
+/**
+ * Generate scalable specifications for the benchmarks. The size is the number of
+ * groups of definitions, each of which has a record type, four functions, an
+ * operation and (for every tenth group) a trace. VDM++ and VDM-RT specifications
+ * put ten groups in each class, with some classes inheriting from the previous one,
+ * and VDM-RT adds a system class that deploys an instance of each class.
+ * 
+ * The benchmarks generate their corpus in memory, but the main method will write
+ * the same specifications to a directory, so that they can be examined or run
+ * with VDMJ directly.
+ */
+public class SpecGenerator
+{
+	public static final int GROUPS_PER_CLASS = 10;
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length < 2)
+		{
+			System.err.println("Usage: SpecGenerator <directory> <size>...");
+			System.exit(1);
+		}
+
+		File dir = new File(args[0]);
+		dir.mkdirs();
+
+		for (int i = 1; i < args.length; i++)
+		{
+			int size = Integer.parseInt(args[i]);
+
+			for (Dialect dialect: new Dialect[] { Dialect.VDM_SL, Dialect.VDM_PP, Dialect.VDM_RT })
+			{
+				File file = new File(dir, fileName(dialect, size));
+
+				try (PrintWriter out = new PrintWriter(new FileWriter(file)))
+				{
+					out.print(generate(dialect, size));
+				}
+
+				System.out.println("Generated " + file);
+			}
+		}
+	}
+
+	public static String fileName(Dialect dialect, int size)
+	{
+		switch (dialect)
+		{
+			case VDM_SL:	return "bench" + size + ".vdmsl";
+			case VDM_PP:	return "bench" + size + ".vdmpp";
+			case VDM_RT:	return "bench" + size + ".vdmrt";
+			default:		throw new IllegalArgumentException("Unknown dialect " + dialect);
+		}
+	}
+
+	public static String generate(Dialect dialect, int size)
+	{
+		StringBuilder sb = new StringBuilder();
+
+		if (dialect == Dialect.VDM_SL)
+		{
+			generateModule(sb, size);
+		}
+		else
+		{
+			int classes = (size + GROUPS_PER_CLASS - 1) / GROUPS_PER_CLASS;
+
+			for (int c = 0; c < classes; c++)
+			{
+				int first = c * GROUPS_PER_CLASS;
+				int last = Math.min(size, first + GROUPS_PER_CLASS);
+				generateClass(sb, c, first, last);
+			}
+
+			if (dialect == Dialect.VDM_RT)
+			{
+				generateSystem(sb, classes);
+			}
+		}
+
+		return sb.toString();
+	}
+
+	private static void generateModule(StringBuilder sb, int size)
+	{
+		sb.append("module Bench\n");
+		sb.append("exports all\n");
+		sb.append("definitions\n\n");
+
+		sb.append("types\n");
+
+		for (int i = 0; i < size; i++)
+		{
+			types(sb, "", i);
+		}
+
+		sb.append("state Sigma of\n");
+		sb.append("  counter : nat\n");
+		sb.append("  data : map nat to seq of nat\n");
+		sb.append("init s == s = mk_Sigma(0, {|->})\n");
+		sb.append("end\n\n");
+
+		sb.append("functions\n");
+
+		for (int i = 0; i < size; i++)
+		{
+			functions(sb, "", i);
+		}
+
+		sb.append("operations\n");
+
+		for (int i = 0; i < size; i++)
+		{
+			operations(sb, "", i);
+		}
+
+		sb.append("traces\n");
+
+		for (int i = 0; i < size; i += 10)
+		{
+			traces(sb, i);
+		}
+
+		sb.append("end Bench\n");
+	}
+
+	private static void generateClass(StringBuilder sb, int c, int first, int last)
+	{
+		sb.append("class C" + c);
+
+		if (c % 5 != 0)
+		{
+			sb.append(" is subclass of C" + (c - 1));
+		}
+
+		sb.append("\n\n");
+
+		sb.append("types\n");
+
+		for (int i = first; i < last; i++)
+		{
+			types(sb, "public ", i);
+		}
+
+		if (c % 5 == 0)		// Inherited by the others
+		{
+			sb.append("instance variables\n");
+			sb.append("  protected counter : nat := 0;\n");
+			sb.append("  protected data : map nat to seq of nat := {|->};\n\n");
+		}
+
+		sb.append("functions\n");
+
+		for (int i = first; i < last; i++)
+		{
+			functions(sb, "public ", i);
+		}
+
+		sb.append("operations\n");
+
+		for (int i = first; i < last; i++)
+		{
+			operations(sb, "public ", i);
+		}
+
+		sb.append("traces\n");
+		sb.append("  T" + first + ": let a in set {1, 2, 3} in let obj = new C" + c + "() in\n");
+		sb.append("    (obj.op" + first + "(a); obj.op" + first + "(a + 1)){1,2};\n\n");
+
+		sb.append("end C" + c + "\n\n");
+	}
+
+	private static void generateSystem(StringBuilder sb, int classes)
+	{
+		sb.append("system Sys\n\n");
+		sb.append("instance variables\n");
+		sb.append("  cpu : CPU := new CPU(<FP>, 1E6);\n");
+
+		for (int c = 0; c < classes; c++)
+		{
+			sb.append("  obj" + c + " : C" + c + " := new C" + c + "();\n");
+		}
+
+		sb.append("\noperations\n");
+		sb.append("  public Sys: () ==> Sys\n");
+		sb.append("  Sys() ==\n");
+		sb.append("  (\n");
+
+		for (int c = 0; c < classes; c++)
+		{
+			sb.append("    cpu.deploy(obj" + c + ");\n");
+		}
+
+		sb.append("    skip\n");
+		sb.append("  );\n\n");
+		sb.append("end Sys\n");
+	}
+
+	private static void types(StringBuilder sb, String access, int i)
+	{
+		sb.append("  " + access + "R" + i + " ::\n");
+		sb.append("    a : nat\n");
+		sb.append("    b : seq of nat\n");
+		sb.append("  inv r == r.a < 1000000;\n\n");
+		sb.append("  " + access + "U" + i + " = R" + i + " | seq of char | <Q" + i + ">;\n\n");
+	}
+
+	private static void functions(StringBuilder sb, String access, int i)
+	{
+		sb.append("  " + access + "sum" + i + ": nat * seq of nat -> nat\n");
+		sb.append("  sum" + i + "(x, s) ==\n");
+		sb.append("    if s = [] then x else sum" + i + "(x + hd s, tl s)\n");
+		sb.append("  measure len s;\n\n");
+
+		sb.append("  " + access + "check" + i + ": R" + i + " -> bool\n");
+		sb.append("  check" + i + "(r) ==\n");
+		sb.append("    forall e in set elems r.b & e <= r.a\n");
+		sb.append("  pre r.a > 0\n");
+		sb.append("  post RESULT <=> not exists e in set elems r.b & e > r.a;\n\n");
+
+		sb.append("  " + access + "evens" + i + ": set of nat -> map nat to nat\n");
+		sb.append("  evens" + i + "(s) ==\n");
+		sb.append("    { x |-> x * " + i + " | x in set s & x mod 2 = 0 };\n\n");
+
+		sb.append("  " + access + "kind" + i + ": U" + i + " -> nat\n");
+		sb.append("  kind" + i + "(u) ==\n");
+		sb.append("    cases u:\n");
+		sb.append("      mk_R" + i + "(a, b) -> sum" + i + "(a, b),\n");
+		sb.append("      <Q" + i + "> -> " + i + ",\n");
+		sb.append("      others -> len u\n");
+		sb.append("    end;\n\n");
+	}
+
+	private static void operations(StringBuilder sb, String access, int i)
+	{
+		sb.append("  " + access + "op" + i + ": nat ==> nat\n");
+		sb.append("  op" + i + "(n) ==\n");
+		sb.append("  (\n");
+		sb.append("    counter := counter + n;\n");
+		sb.append("    data := data ++ { n |-> [n, " + i + "] };\n");
+		sb.append("    return sum" + i + "(counter, data(n))\n");
+		sb.append("  )\n");
+		sb.append("  pre n < 1000;\n\n");
+	}
+
+	private static void traces(StringBuilder sb, int i)
+	{
+		sb.append("  T" + i + ": let a in set {1, 2, 3} in\n");
+		sb.append("    (op" + i + "(a); op" + i + "(a + 1)){1,2};\n\n");
+	}
+}
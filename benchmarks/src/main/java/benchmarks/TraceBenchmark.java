@@ -0,0 +1,92 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package benchmarks;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.messages.ConsolePrintWriter;
+import com.fujitsu.vdmj.runtime.Interpreter;
+import com.fujitsu.vdmj.traces.TraceReductionType;
+
+/**
+ * Run a combinatorial trace from the corpus end to end, with and without the
+ * saved trace state. The output of the trace is discarded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TraceBenchmark
+{
+	@Param({"VDM_SL", "VDM_PP"})
+	public Dialect dialect;
+
+	@Param({"false", "true"})
+	public boolean saveState;
+
+	private Interpreter interpreter;
+	private String trace;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		Properties.traces_save_state = saveState;
+		interpreter = Corpus.load(dialect, 100);
+		trace = (dialect == Dialect.VDM_SL) ? "T0" : "C0`T0";
+		Interpreter.setTraceOutput(new ConsolePrintWriter(OutputStream.nullOutputStream()));
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown()
+	{
+		LexLocation.clearLocations();
+	}
+
+	@Benchmark
+	public boolean runtrace() throws Exception
+	{
+		return interpreter.runtrace(trace, 0, 0, false, 1.0F, TraceReductionType.NONE, 0);
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.pog.ProofObligationList;
+
+/**
+ * Type check and generate proof obligations for the corpus specifications. The
+ * type check includes the mapping from the AST, since a TC tree can only be
+ * checked once. The POG uses a tree that is checked once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeCheckBenchmark
+{
+	@Param({"VDM_SL", "VDM_PP", "VDM_RT"})
+	public Dialect dialect;
+
+	@Param({"100", "1000"})
+	public int size;
+
+	private Object parsed;
+	private Object checked;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception
+	{
+		parsed = Corpus.parse(dialect, Corpus.read(dialect, size), Corpus.file(dialect, size));
+		checked = Corpus.typeCheck(dialect, parsed);
+	}
+
+	@Benchmark
+	public Object typeCheck() throws Exception
+	{
+		return Corpus.typeCheck(dialect, parsed);
+	}
+
+	@Benchmark
+	public int pog() throws Exception
+	{
+		ProofObligationList list = Corpus.getProofObligations(dialect, checked);
+		return list.size();
+	}
+}
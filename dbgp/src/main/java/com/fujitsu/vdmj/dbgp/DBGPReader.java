@@ -2851,8 +2851,8 @@ public class DBGPReader extends DebugLink implements VDMJMain
 		try
 		{
 			String[] parts = c.data.split("\\s+");
-			int startTest = Integer.parseInt(parts[1]);
-			int endTest = Integer.parseInt(parts[2]);
+			long startTest = Long.parseLong(parts[1]);
+			long endTest = Long.parseLong(parts[2]);
 			boolean debug = Boolean.parseBoolean(parts[3]);
 
 			ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -705,8 +705,8 @@ public class ProcessCommandLine extends CommandLine
    		}
 
 		String[] parts = line.split("\\s+");
-		int startTest = 0;
-		int endTest = 0;
+		long startTest = 0;
+		long endTest = 0;
 		String name = null;
 
 		switch (parts.length)
@@ -725,7 +725,7 @@ public class ProcessCommandLine extends CommandLine
     			try
     			{
     				name = parts[1];
-    				startTest = Integer.parseInt(parts[2]);
+    				startTest = Long.parseLong(parts[2]);
     				endTest = startTest;
     			}
     			catch (NumberFormatException e)
@@ -739,8 +739,8 @@ public class ProcessCommandLine extends CommandLine
     			try
     			{
     				name = parts[1];
-    				startTest = Integer.parseInt(parts[2]);
-    				endTest = Integer.parseInt(parts[3]);
+    				startTest = Long.parseLong(parts[2]);
+    				endTest = Long.parseLong(parts[3]);
     			}
     			catch (NumberFormatException e)
     			{
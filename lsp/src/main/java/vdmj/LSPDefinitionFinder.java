@@ -239,7 +239,7 @@ public class LSPDefinitionFinder
 		}
 	}
 	
-	private TCDefinition lookupNodeDefinition(TCNode node, Environment env, String fromModule)
+	TCDefinition lookupNodeDefinition(TCNode node, Environment env, String fromModule)
 	{
 		if (node instanceof TCDefinition)	// node is already a definition (eg. a func or param name)
 		{
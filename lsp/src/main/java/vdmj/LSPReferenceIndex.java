@@ -0,0 +1,416 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package vdmj;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.TCVisitorSet;
+import com.fujitsu.vdmj.tc.definitions.TCClassDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCClassList;
+import com.fujitsu.vdmj.tc.definitions.TCDefinition;
+import com.fujitsu.vdmj.tc.modules.TCModule;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.tc.types.TCParameterType;
+import com.fujitsu.vdmj.tc.types.TCUnresolvedType;
+import com.fujitsu.vdmj.typechecker.Environment;
+import com.fujitsu.vdmj.typechecker.ModuleEnvironment;
+import com.fujitsu.vdmj.typechecker.PrivateClassEnvironment;
+import com.fujitsu.vdmj.typechecker.PublicClassEnvironment;
+
+import workspace.Diag;
+
+/**
+ * An index of the definitions referred to by the names in each module or class. This
+ * is built by finding every TCNode that the LSPDefinitionFinder could locate in the
+ * module or class, with the location that it would match, and resolving them in the
+ * same way. So references can be found without a tree search for every occurrence of
+ * a name.
+ * 
+ * The index for a module or class is built on first use, and is discarded when the
+ * module or class is checked again (ie. when it is no longer in the checked list).
+ * Names in imports and exports are not indexed.
+ */
+public class LSPReferenceIndex
+{
+	private static class Reference
+	{
+		public final LexLocation span;
+		public final LexLocation defined;
+
+		public Reference(LexLocation span, LexLocation defined)
+		{
+			this.span = span;
+			this.defined = defined;
+		}
+	}
+
+	/** References in a module or class, by file and line number */
+	private static class References extends HashMap<File, Map<Integer, List<Reference>>>
+	{
+		private static final long serialVersionUID = 1L;
+
+		public void add(LexLocation span, LexLocation defined)
+		{
+			Map<Integer, List<Reference>> lines = get(span.file);
+
+			if (lines == null)
+			{
+				lines = new HashMap<Integer, List<Reference>>();
+				put(span.file, lines);
+			}
+
+			Reference ref = new Reference(span, defined);
+
+			for (int line = span.startLine; line <= span.endLine; line++)
+			{
+				List<Reference> list = lines.get(line);
+
+				if (list == null)
+				{
+					list = new Vector<Reference>();
+					lines.put(line, list);
+				}
+
+				list.add(ref);
+			}
+		}
+
+		/**
+		 * Return null if nothing is indexed at the position, else whether anything
+		 * at the position refers to the definition location.
+		 */
+		public Boolean refersTo(File file, int line, int col, LexLocation defined)
+		{
+			Map<Integer, List<Reference>> lines = get(file);
+			List<Reference> list = (lines == null) ? null : lines.get(line);
+			Boolean result = null;
+
+			if (list != null)
+			{
+				for (Reference ref: list)
+				{
+					if (touches(line, col, ref.span))
+					{
+						if (ref.defined.equals(defined))
+						{
+							return true;
+						}
+
+						result = false;
+					}
+				}
+			}
+
+			return result;
+		}
+
+		/**
+		 * As LexLocation.touches, without creating a LexLocation for the position.
+		 */
+		private boolean touches(int line, int col, LexLocation span)
+		{
+			return
+				(line > span.startLine || (line == span.startLine && col >= span.startPos)) &&
+				(line < span.endLine || (line == span.endLine && col <= span.endPos + 1));
+		}
+	}
+
+	/**
+	 * A location that every node "touches", which records the last span it was
+	 * compared with. The finders add a node straight after it touches the location
+	 * that matches it.
+	 */
+	private static class ProbeLocation extends LexLocation
+	{
+		private static final long serialVersionUID = 1L;
+		public LexLocation last = null;
+
+		public ProbeLocation()
+		{
+			super(new File("?"), "?", 0, 0, 0, 0);
+		}
+
+		@Override
+		public boolean touches(LexLocation span)
+		{
+			last = span;
+			return true;
+		}
+
+		@Override
+		public boolean within(LexLocation span)
+		{
+			last = span;
+			return true;
+		}
+	}
+
+	/**
+	 * A location finder that records the span of every node found, the first time
+	 * it is added to any collection. All of the sub-visitors must use these
+	 * collections, else nodes are only added (and recorded) after the probe has moved on.
+	 */
+	private static class Recorder extends LSPDefinitionLocationFinder
+	{
+		public final ProbeLocation probe = new ProbeLocation();
+		public final Map<TCNode, LexLocation> spans = new IdentityHashMap<TCNode, LexLocation>();
+
+		public Recorder()
+		{
+			visitorSet = new TCVisitorSet<TCNode, Set<TCNode>, LexLocation>()
+			{
+				@Override
+				protected void setVisitors()
+				{
+					definitionVisitor = Recorder.this;
+
+					expressionVisitor = new LSPExpressionLocationFinder(this)
+					{
+						@Override
+						protected Set<TCNode> newCollection()
+						{
+							return Recorder.this.newCollection();
+						}
+					};
+
+					statementVisitor = new LSPStatementLocationFinder(this)
+					{
+						@Override
+						protected Set<TCNode> newCollection()
+						{
+							return Recorder.this.newCollection();
+						}
+					};
+
+					patternVisitor = new LSPPatternLocationFinder(this)
+					{
+						@Override
+						protected Set<TCNode> newCollection()
+						{
+							return Recorder.this.newCollection();
+						}
+					};
+
+					bindVisitor = new LSPBindLocationFinder(this)
+					{
+						@Override
+						protected Set<TCNode> newCollection()
+						{
+							return Recorder.this.newCollection();
+						}
+					};
+
+					multiBindVisitor = new LSPMultipleBindLocationFinder(this)
+					{
+						@Override
+						protected Set<TCNode> newCollection()
+						{
+							return Recorder.this.newCollection();
+						}
+					};
+				}
+
+				@Override
+				protected Set<TCNode> newCollection()
+				{
+					return Recorder.this.newCollection();
+				}
+			};
+		}
+
+		@Override
+		protected Set<TCNode> newCollection()
+		{
+			return new HashSet<TCNode>()
+			{
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public boolean add(TCNode node)
+				{
+					if (!spans.containsKey(node))
+					{
+						spans.put(node, spanOf(node));
+					}
+
+					return super.add(node);
+				}
+			};
+		}
+
+		private LexLocation spanOf(TCNode node)
+		{
+			// These are not added straight after the probe touches them.
+
+			if (node instanceof TCUnresolvedType)
+			{
+				return ((TCUnresolvedType)node).typename.getLocation();
+			}
+			else if (node instanceof TCParameterType)
+			{
+				return ((TCParameterType)node).name.getLocation();
+			}
+			else if (node instanceof TCDefinition && ((TCDefinition)node).name != null)
+			{
+				return ((TCDefinition)node).name.getLocation();
+			}
+			else
+			{
+				return probe.last;
+			}
+		}
+	}
+
+	private final Map<TCNode, References> index = new IdentityHashMap<TCNode, References>();
+
+	/**
+	 * Discard the references of any module or class that is not in the list passed.
+	 */
+	public synchronized void retain(Collection<? extends TCNode> checked)
+	{
+		Set<TCNode> keep = Collections.newSetFromMap(new IdentityHashMap<TCNode, Boolean>());
+		keep.addAll(checked);
+		index.keySet().retainAll(keep);
+	}
+
+	public synchronized void clear()
+	{
+		index.clear();
+	}
+
+	/**
+	 * Return null if nothing is indexed at the (1-based) line and column, else whether
+	 * a name at the position refers to the definition location passed.
+	 */
+	public synchronized Boolean refersTo(TCModuleList modules, File file, int line, int col, LexLocation defined)
+	{
+		Boolean result = null;
+
+		for (TCModule module: modules)
+		{
+			if (module.files.contains(file))
+			{
+				References refs = index.get(module);
+
+				if (refs == null)
+				{
+					refs = build(module.defs, new ModuleEnvironment(module), module.name.getName());
+					index.put(module, refs);
+				}
+
+				Boolean r = refs.refersTo(file, line, col, defined);
+
+				if (r != null)
+				{
+					if (r) return true;
+					result = false;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	public synchronized Boolean refersTo(TCClassList classes, File file, int line, int col, LexLocation defined)
+	{
+		Boolean result = null;
+		PublicClassEnvironment globals = null;
+
+		for (TCClassDefinition cdef: classes)
+		{
+			if (cdef.location.file.equals(file))
+			{
+				References refs = index.get(cdef);
+
+				if (refs == null)
+				{
+					if (globals == null) globals = new PublicClassEnvironment(classes);
+					PrivateClassEnvironment env = new PrivateClassEnvironment(cdef, globals);
+					refs = build(Arrays.asList((TCDefinition)cdef), env, cdef.name.getName());
+					index.put(cdef, refs);
+				}
+
+				Boolean r = refs.refersTo(file, line, col, defined);
+
+				if (r != null)
+				{
+					if (r) return true;
+					result = false;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private References build(List<TCDefinition> defs, Environment env, String fromModule)
+	{
+		Recorder recorder = new Recorder();
+		LSPDefinitionFinder finder = new LSPDefinitionFinder();
+		References refs = new References();
+
+		for (TCDefinition def: defs)
+		{
+			def.apply(recorder, recorder.probe);
+		}
+
+		for (Entry<TCNode, LexLocation> entry: recorder.spans.entrySet())
+		{
+			if (entry.getValue() == null || entry.getValue().file.getName().equals("?"))
+			{
+				continue;	// Should not happen
+			}
+
+			try
+			{
+				TCDefinition def = finder.lookupNodeDefinition(entry.getKey(), env, fromModule);
+
+				if (def != null)
+				{
+					refs.add(entry.getValue(), def.location);
+				}
+			}
+			catch (Exception e)
+			{
+				Diag.fine("Cannot index %s: %s", entry.getKey(), e);	// Found on demand instead
+			}
+		}
+
+		return refs;
+	}
+}
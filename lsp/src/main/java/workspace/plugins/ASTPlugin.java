@@ -26,7 +26,13 @@ package workspace.plugins;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.Vector;
 
 import com.fujitsu.vdmj.ast.definitions.ASTDefinition;
@@ -45,7 +51,10 @@ import com.fujitsu.vdmj.ast.types.ASTField;
 import com.fujitsu.vdmj.ast.types.ASTNamedType;
 import com.fujitsu.vdmj.ast.types.ASTRecordType;
 import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.mapper.Mappable;
+import com.fujitsu.vdmj.messages.VDMError;
+import com.fujitsu.vdmj.messages.VDMWarning;
 
 import json.JSONArray;
 import json.JSONObject;
@@ -68,6 +77,31 @@ public abstract class ASTPlugin extends AnalysisPlugin implements EventListener
 	protected static final boolean STRUCTURED_OUTLINE = true;
 	protected boolean dirty;
 	
+	/**
+	 * If incremental, files are only re-parsed by checkLoadedFiles if their content
+	 * has changed since the last check, which is usually only the file(s) being edited.
+	 */
+	protected static class ParsedFile<T>
+	{
+		public final File file;
+		public final String content;
+		public final T result;
+		public final List<VDMError> errors;
+		public final List<VDMWarning> warnings;
+		
+		public ParsedFile(File file, String content, T result, List<VDMError> errors, List<VDMWarning> warnings)
+		{
+			this.file = file;
+			this.content = content;
+			this.result = result;
+			this.errors = errors;
+			this.warnings = warnings;
+		}
+	}
+	
+	/** Files edited since the last check, which have LexLocations from parseFile */
+	private final Set<File> editedFiles = new HashSet<File>();
+	
 	public static ASTPlugin factory(Dialect dialect)
 	{
 		switch (dialect)
@@ -188,6 +222,7 @@ public abstract class ASTPlugin extends AnalysisPlugin implements EventListener
 	private RPCMessageList didChange(ChangeFileEvent event) throws Exception
 	{
 		messagehub.clearPluginMessages(this);
+		editedFiles.add(event.file);
 		parseFile(event.file);
 		return messagehub.getDiagnosticResponses(event.file);	// Includes TC errs etc
 	}
@@ -202,6 +237,91 @@ public abstract class ASTPlugin extends AnalysisPlugin implements EventListener
 	 */
 	abstract public void checkLoadedFiles(CheckSyntaxEvent ev);
 	
+	/**
+	 * Remove any parsed files that are no longer in the project, with their locations.
+	 * If nothing is cached, or incremental parsing is disabled, all locations are reset.
+	 */
+	protected <T> void prepareParsedFiles(Map<File, ParsedFile<T>> parsedFiles, Set<File> projectFiles)
+	{
+		if (!incremental || parsedFiles.isEmpty())
+		{
+			LexLocation.resetLocations();
+			parsedFiles.clear();
+			editedFiles.clear();
+		}
+		else
+		{
+			Iterator<File> iter = parsedFiles.keySet().iterator();
+			
+			while (iter.hasNext())
+			{
+				File file = iter.next();
+				
+				if (!projectFiles.contains(file))
+				{
+					LexLocation.removeLocations(file);
+					iter.remove();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Return the cached parse of a file if its content is unchanged, else null. In
+	 * the latter case, any locations from an earlier parse of the file are removed.
+	 */
+	protected <T> ParsedFile<T> getParsedFile(Map<File, ParsedFile<T>> parsedFiles, File file, String content)
+	{
+		ParsedFile<T> parsed = parsedFiles.get(file);
+		boolean edited = editedFiles.remove(file);
+		
+		if (parsed != null && !edited && parsed.content.equals(content))
+		{
+			return parsed;
+		}
+		
+		if (parsed != null || edited)
+		{
+			LexLocation.removeLocations(file);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Return the content of the project files that must be parsed again, in project
+	 * file order. These can then be parsed concurrently.
+	 */
+	protected <T> Map<File, String> getChangedFiles(Map<File, ParsedFile<T>> parsedFiles, Map<File, StringBuilder> projectFiles)
+	{
+		Map<File, String> changed = new LinkedHashMap<File, String>();
+		
+		for (Entry<File, StringBuilder> entry: projectFiles.entrySet())
+		{
+			String content = entry.getValue().toString();
+			
+			if (getParsedFile(parsedFiles, entry.getKey(), content) == null)
+			{
+				changed.put(entry.getKey(), content);
+			}
+		}
+		
+		return changed;
+	}
+	
+	protected void addParseMessages(ParsedFile<?> parsed)
+	{
+		if (!parsed.errors.isEmpty())
+		{
+			messagehub.addPluginMessages(this, parsed.errors);
+		}
+		
+		if (!parsed.warnings.isEmpty())
+		{
+			messagehub.addPluginMessages(this, parsed.warnings);
+		}
+	}
+	
 	/**
 	 * We register the launch/debug code lens here, if the tree is dirty. Else it
 	 * is registered by the TCPlugin.
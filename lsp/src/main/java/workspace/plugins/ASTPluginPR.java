@@ -26,9 +26,10 @@ package workspace.plugins;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Vector;
 
 import com.fujitsu.vdmj.RemoteSimulation;
 import com.fujitsu.vdmj.Settings;
@@ -45,6 +46,7 @@ import com.fujitsu.vdmj.lex.LexTokenReader;
 import com.fujitsu.vdmj.lex.Token;
 import com.fujitsu.vdmj.mapper.Mappable;
 import com.fujitsu.vdmj.syntax.ClassReader;
+import com.fujitsu.vdmj.syntax.ParallelParser;
 import com.fujitsu.vdmj.syntax.ExpressionReader;
 import com.fujitsu.vdmj.syntax.ParserException;
 
@@ -59,6 +61,7 @@ public class ASTPluginPR extends ASTPlugin
 {
 	private ASTClassList astClassList = null;
 	private ASTClassList dirtyClassList = null;
+	private final Map<File, ParsedFile<ASTClassList>> parsedFiles = new HashMap<File, ParsedFile<ASTClassList>>();
 	
 	public ASTPluginPR()
 	{
@@ -79,7 +82,7 @@ public class ASTPluginPR extends ASTPlugin
 		dirtyClassList = null;
 		
 		Map<File, StringBuilder> projectFiles = LSPPlugin.getInstance().getProjectFiles();
-		LexLocation.resetLocations();
+		prepareParsedFiles(parsedFiles, projectFiles.keySet());
 		
 		if (Settings.dialect == Dialect.VDM_RT)
 		{
@@ -96,21 +99,27 @@ public class ASTPluginPR extends ASTPlugin
 			}
 		}
 		
-		for (Entry<File, StringBuilder> entry: projectFiles.entrySet())
+		Map<File, String> changed = getChangedFiles(parsedFiles, projectFiles);
+		
+		List<ParsedFile<ASTClassList>> reparsed = ParallelParser.parse(new Vector<File>(changed.keySet()), file ->
 		{
-			LexTokenReader ltr = new LexTokenReader(entry.getValue().toString(), Settings.dialect, entry.getKey());
+			String content = changed.get(file);
+			LexTokenReader ltr = new LexTokenReader(content, Settings.dialect, file);
 			ClassReader mr = new ClassReader(ltr);
-			astClassList.addAll(mr.readClasses());
-			
-			if (mr.getErrorCount() > 0)
-			{
-				messagehub.addPluginMessages(this, mr.getErrors());
-			}
-			
-			if (mr.getWarningCount() > 0)
-			{
-				messagehub.addPluginMessages(this, mr.getWarnings());
-			}
+			ASTClassList classes = mr.readClasses();
+			return new ParsedFile<ASTClassList>(file, content, classes, mr.getErrors(), mr.getWarnings());
+		});
+		
+		for (ParsedFile<ASTClassList> parsed: reparsed)
+		{
+			parsedFiles.put(parsed.file, parsed);
+		}
+		
+		for (File file: projectFiles.keySet())
+		{
+			ParsedFile<ASTClassList> parsed = parsedFiles.get(file);
+			astClassList.addAll(parsed.result);
+			addParseMessages(parsed);
 		}
 		
 		String remoteSimulation = System.getProperty("lsp.remoteSimulation");
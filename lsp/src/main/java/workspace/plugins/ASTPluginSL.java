@@ -26,9 +26,10 @@ package workspace.plugins;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Vector;
 
 import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.ast.definitions.ASTDefinition;
@@ -43,6 +44,7 @@ import com.fujitsu.vdmj.lex.Token;
 import com.fujitsu.vdmj.mapper.Mappable;
 import com.fujitsu.vdmj.syntax.ExpressionReader;
 import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.syntax.ParallelParser;
 import com.fujitsu.vdmj.syntax.ParserException;
 
 import json.JSONArray;
@@ -55,6 +57,7 @@ public class ASTPluginSL extends ASTPlugin
 {
 	private ASTModuleList astModuleList = null;
 	private ASTModuleList dirtyModuleList = null;
+	private final Map<File, ParsedFile<ASTModuleList>> parsedFiles = new HashMap<File, ParsedFile<ASTModuleList>>();
 	
 	public ASTPluginSL()
 	{
@@ -73,23 +76,28 @@ public class ASTPluginSL extends ASTPlugin
 	{
 		dirty = false;
 		Map<File, StringBuilder> projectFiles = LSPPlugin.getInstance().getProjectFiles();
-		LexLocation.resetLocations();
+		prepareParsedFiles(parsedFiles, projectFiles.keySet());
+		Map<File, String> changed = getChangedFiles(parsedFiles, projectFiles);
 		
-		for (Entry<File, StringBuilder> entry: projectFiles.entrySet())
+		List<ParsedFile<ASTModuleList>> reparsed = ParallelParser.parse(new Vector<File>(changed.keySet()), file ->
 		{
-			LexTokenReader ltr = new LexTokenReader(entry.getValue().toString(), Dialect.VDM_SL, entry.getKey());
+			String content = changed.get(file);
+			LexTokenReader ltr = new LexTokenReader(content, Dialect.VDM_SL, file);
 			ModuleReader mr = new ModuleReader(ltr);
-			astModuleList.addAll(mr.readModules());
-			
-			if (mr.getErrorCount() > 0)
-			{
-				messagehub.addPluginMessages(this, mr.getErrors());
-			}
-			
-			if (mr.getWarningCount() > 0)
-			{
-				messagehub.addPluginMessages(this, mr.getWarnings());
-			}
+			ASTModuleList modules = mr.readModules();
+			return new ParsedFile<ASTModuleList>(file, content, modules, mr.getErrors(), mr.getWarnings());
+		});
+		
+		for (ParsedFile<ASTModuleList> parsed: reparsed)
+		{
+			parsedFiles.put(parsed.file, parsed);
+		}
+		
+		for (File file: projectFiles.keySet())
+		{
+			ParsedFile<ASTModuleList> parsed = parsedFiles.get(file);
+			astModuleList.addAll(parsed.result);
+			addParseMessages(parsed);
 		}
 	}
 	
@@ -50,6 +50,12 @@ abstract public class AnalysisPlugin
 	protected final EventHub eventhub;
 	protected final MessageHub messagehub;
 	
+	/**
+	 * Plugins may reuse the results of the last check for files or modules that have
+	 * not changed. This can be disabled by setting -Dlsp.incremental=false.
+	 */
+	protected final boolean incremental = Boolean.parseBoolean(System.getProperty("lsp.incremental", "true"));
+	
 	public AnalysisPlugin()
 	{
 		lspDispatcher = RPCDispatcher.getInstance();
@@ -73,11 +73,11 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 	protected TraceIterator traceIterator = null;
 	protected INClassDefinition traceClassDef = null;
 	protected Context traceContext = null;
-	protected int traceCount = 0;
+	protected long traceCount = 0;
 	protected TCNameToken traceName = null;
 	protected TraceFilter traceFilter = null;
 	
-	protected int testNumber = 0;
+	protected long testNumber = 0;
 	protected TraceExecutor traceExecutor = null;
 	protected boolean traceRunning = false;
 	
@@ -279,7 +279,7 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 	
 			DAPPlugin.getInstance().refreshInterpreter();
 			TCNameToken tracename = Utils.stringToName(name);
-			int count = ct.generate(tracename);
+			long count = ct.generate(tracename);
 			return new RPCMessageList(request, new JSONObject("numberOfTests", count));
 		}
 		catch (LSPException e)
@@ -343,7 +343,7 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 		}
 	}
 	
-	public int generate(TCNameToken tracename) throws LSPException
+	public long generate(TCNameToken tracename) throws LSPException
 	{
 		Interpreter interpreter = DAPPlugin.getInstance().getInterpreter();
 		interpreter.init();
@@ -402,7 +402,7 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 		
 		if (endTest == null)		// To the end of the tests, if not specified
 		{
-			endTest = (long) traceCount;
+			endTest = traceCount;
 		}
 		
 		if (startTest == null || startTest == 1)
@@ -416,16 +416,10 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 			traceFilter = new TraceFilter(traceCount, 1.0F, TraceReductionType.NONE, 0);
 		}
 
-		traceIterator.reset();
-		testNumber = startTest.intValue();
+		testNumber = startTest;		// Tests are indexed directly, so no need to skip
 		traceRunning = true;
-
-		for (int i=1; i < startTest && traceIterator.hasMoreTests(); i++)
-		{
-			traceIterator.getNextTest();	// Skip first N-1 tests
-		}
 		
-		if (traceIterator.hasMoreTests())
+		if (testNumber <= traceCount)
 		{
 			traceExecutor = new TraceExecutor(request, progressToken, workDoneToken, startTest, endTest);
 			traceExecutor.start();
@@ -446,14 +440,13 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 			generate(tracename);
 		}
 		
-		traceIterator.reset();
-
-		for (int i=1; i < testNumber && traceIterator.hasMoreTests(); i++)
+		if (testNumber < 1 || testNumber > traceCount)
 		{
-			traceIterator.getNextTest();	// Skip first N-1 tests
+			throw new LSPException(RPCErrors.ContentModified,
+					"Trace " + traceName + " only has " + traceCount + " tests");
 		}
 
-		CallSequence test = traceIterator.getNextTest();
+		CallSequence test = traceIterator.getTest(testNumber - 1);
 		String callString = test.getCallString(traceContext);
 		Interpreter interpreter = DAPPlugin.getInstance().getInterpreter();
 
@@ -502,7 +495,7 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 			
 			try
 			{
-				while (traceIterator.hasMoreTests() && testNumber <= endTest)
+				while (testNumber <= endTest)
 				{
 					JSONArray batch = runBatch(BATCH_SIZE, endTest);
 					
@@ -612,9 +605,9 @@ abstract public class CTPlugin extends AnalysisPlugin implements EventListener
 			
 			Diag.fine("Starting batch at test number %d...", testNumber);
 		
-			while (traceIterator.hasMoreTests() && batchSize > 0 && testNumber <= endTest)
+			while (batchSize > 0 && testNumber <= endTest)
 			{
-				CallSequence test = traceIterator.getNextTest();
+				CallSequence test = traceIterator.getTest(testNumber - 1);
 				
 				if (traceFilter.isRemoved(test, testNumber))
 				{
@@ -1402,6 +1402,7 @@ public class LSPPlugin extends AnalysisPlugin
 		{
 			String word = def.name.getName();
 			JSONArray results = new JSONArray();
+			TCPlugin tc = registry.getPlugin("TC");
 			
 			JSONObject defRange = Utils.lexLocationToRange(def.location);
 			
@@ -1422,12 +1423,20 @@ public class LSPPlugin extends AnalysisPlugin
 							JSONObject start = range.get("start");
 							long zline2 = start.get("line");
 							long zcol2  = start.get("character");
-
-							TCDefinition def2 = findDefinition(pfile, zline2, zcol2);
 							
-							// Check by location, so that manufactured definitions for fields
-							// will match.
-							if (def2 != null && def2.location.equals(def.location))
+							// Use the reference index, if it knows the position, else search
+							Boolean refers = tc.refersTo(pfile, zline2, zcol2, def);
+							
+							if (refers == null)
+							{
+								TCDefinition def2 = findDefinition(pfile, zline2, zcol2);
+								
+								// Check by location, so that manufactured definitions for fields
+								// will match.
+								refers = (def2 != null && def2.location.equals(def.location));
+							}
+							
+							if (refers)
 							{
 								results.add(
 									new JSONObject(
@@ -56,6 +56,7 @@ import json.JSONArray;
 import json.JSONObject;
 import lsp.textdocument.SymbolKind;
 import rpc.RPCMessageList;
+import vdmj.LSPReferenceIndex;
 import workspace.Diag;
 import workspace.EventListener;
 import workspace.events.CheckPrepareEvent;
@@ -84,6 +85,9 @@ abstract public class TCPlugin extends AnalysisPlugin implements EventListener
 		}
 	}
 
+	/** The definitions referred to by names, for finding references */
+	protected final LSPReferenceIndex referenceIndex = new LSPReferenceIndex();
+
 	protected TCPlugin()
 	{
 		super();
@@ -172,6 +176,12 @@ abstract public class TCPlugin extends AnalysisPlugin implements EventListener
 
 	abstract public TCDefinition findDefinition(File file, long zline, long zcol);
 
+	/**
+	 * Return whether the name at a (zero-relative) position refers to the definition
+	 * passed, or null if this is not known from the reference index.
+	 */
+	abstract public Boolean refersTo(File file, long zline, long zcol, TCDefinition def);
+
 	abstract public TCDefinitionList lookupDefinition(String startsWith);
 	
 	abstract public void saveDependencies(File saveUri) throws IOException;
@@ -98,6 +98,8 @@ public class TCPluginPR extends TCPlugin
 		{
 			messagehub.addPluginMessages(this, TypeChecker.getWarnings());
 		}
+		
+		referenceIndex.retain(tcClassList);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -159,6 +161,19 @@ public class TCPluginPR extends TCPlugin
 		}
 	}
 
+	@Override
+	public Boolean refersTo(File file, long zline, long zcol, TCDefinition def)
+	{
+		if (incremental && tcClassList != null && !tcClassList.isEmpty())
+		{
+			return referenceIndex.refersTo(tcClassList, file, (int)zline + 1, (int)zcol + 1, def.location);
+		}
+		else
+		{
+			return null;
+		}
+	}
+
 	@Override
 	public TCDefinitionList lookupDefinition(String startsWith)
 	{
@@ -26,11 +26,22 @@ package workspace.plugins;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
 
+import com.fujitsu.vdmj.ast.modules.ASTImportFromModule;
+import com.fujitsu.vdmj.ast.modules.ASTModule;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
 import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.mapper.ClassMapper;
 import com.fujitsu.vdmj.mapper.Mappable;
+import com.fujitsu.vdmj.messages.VDMError;
+import com.fujitsu.vdmj.messages.VDMWarning;
 import com.fujitsu.vdmj.tc.TCNode;
 import com.fujitsu.vdmj.tc.definitions.TCClassList;
 import com.fujitsu.vdmj.tc.definitions.TCDefinition;
@@ -46,6 +57,7 @@ import json.JSONArray;
 import json.JSONObject;
 import lsp.textdocument.SymbolKind;
 import vdmj.LSPDefinitionFinder;
+import workspace.Diag;
 import workspace.events.CheckPrepareEvent;
 import workspace.events.CheckTypeEvent;
 import workspace.lenses.TCCodeLens;
@@ -54,6 +66,16 @@ public class TCPluginSL extends TCPlugin
 {
 	private TCModuleList tcModuleList = null;
 	
+	/**
+	 * The state of the last type check, which allows modules to be re-used by an
+	 * incremental check if their AST has not been re-parsed, and they do not import
+	 * from any module which is being checked again. See reusableModules.
+	 */
+	private Map<ASTModule, TCModule> checkedModules = new HashMap<ASTModule, TCModule>();
+	private Map<File, List<VDMWarning>> checkedWarnings = new HashMap<File, List<VDMWarning>>();
+	private Set<File> checkedErrors = new HashSet<File>();
+	private boolean checkFailed = true;
+	
 	public TCPluginSL()
 	{
 		super();
@@ -75,30 +97,217 @@ public class TCPluginSL extends TCPlugin
 	@Override
 	public <T extends Mappable> void checkLoadedFiles(T astModuleList, CheckTypeEvent event) throws Exception
 	{
+		ASTModuleList astModules = (ASTModuleList)astModuleList;
+		Map<ASTModule, TCModule> reusable = reusableModules(astModules);
+		Set<File> reusedFiles = new HashSet<File>();
+		boolean failed = false;
+
 		try
 		{
-			tcModuleList = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(astModuleList);
-			tcModuleList.combineDefaults();
-			TypeChecker tc = new ModuleTypeChecker(tcModuleList);
-			tc.typeCheck();
+			if (reusable.isEmpty())
+			{
+				tcModuleList = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(astModules);
+				tcModuleList.combineDefaults();
+				TypeChecker tc = new ModuleTypeChecker(tcModuleList);
+				tc.typeCheck();
+			}
+			else
+			{
+				ASTModuleList changed = new ASTModuleList();
+				
+				for (ASTModule module: astModules)
+				{
+					if (!reusable.containsKey(module))
+					{
+						changed.add(module);
+					}
+					else
+					{
+						reusedFiles.addAll(module.files);
+					}
+				}
+				
+				Diag.info("Type checking %d changed modules, reusing %d", changed.size(), reusable.size());
+				TCModuleList mapped = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(changed);
+				Iterator<TCModule> next = mapped.iterator();
+				tcModuleList = new TCModuleList();
+				
+				for (ASTModule module: astModules)	// Keep the original order
+				{
+					TCModule reused = reusable.get(module);
+					tcModuleList.add(reused != null ? reused : next.next());
+				}
+				
+				TypeChecker tc = new ModuleTypeChecker(tcModuleList, new HashSet<TCModule>(reusable.values()));
+				tc.typeCheck();
+			}
 		}
 		catch (TypeCheckException e)
 		{
 			TypeChecker.report(3430, e.getMessage(), e.location);
+			failed = true;
 		}
 		catch (Throwable e)
 		{
 			TypeChecker.report(3430, e.toString(), LexLocation.ANY);
+			failed = true;
+		}
+		
+		// Messages for reused modules are kept from the last check, and a re-check
+		// may produce duplicates of them (eg. cyclic dependencies), so these are removed.
+		
+		List<VDMError> errors = new Vector<VDMError>();
+		List<VDMWarning> warnings = new Vector<VDMWarning>();
+
+		for (VDMError error: TypeChecker.getErrors())
+		{
+			if (!reusedFiles.contains(error.location.file))
+			{
+				errors.add(error);
+			}
+		}
+		
+		for (VDMWarning warning: TypeChecker.getWarnings())
+		{
+			if (!reusedFiles.contains(warning.location.file))
+			{
+				warnings.add(warning);
+			}
+		}
+		
+		for (File file: reusedFiles)
+		{
+			List<VDMWarning> previous = checkedWarnings.get(file);
+			
+			if (previous != null)
+			{
+				warnings.addAll(previous);
+			}
+		}
+		
+		if (!errors.isEmpty())
+		{
+			messagehub.addPluginMessages(this, errors);
+		}
+		
+		if (!warnings.isEmpty())
+		{
+			messagehub.addPluginMessages(this, warnings);
+		}
+		
+		saveCheckedState(astModules, errors, warnings, failed);
+		referenceIndex.retain(tcModuleList);
+	}
+	
+	/**
+	 * Identify the modules from the last type check that can be reused. These must
+	 * have the same AST (ie. their file has not been re-parsed), they must not have
+	 * had any errors, and they must not import from any module that is not reusable.
+	 * Flat specifications, which are combined into one DEFAULT module, are always
+	 * checked in full.
+	 */
+	private Map<ASTModule, TCModule> reusableModules(ASTModuleList astModules)
+	{
+		Map<ASTModule, TCModule> reusable = new HashMap<ASTModule, TCModule>();
+		
+		if (!incremental || checkFailed)
+		{
+			return reusable;
+		}
+		
+		Set<String> names = new HashSet<String>();
+		
+		for (ASTModule module: astModules)
+		{
+			if (module.isFlat)
+			{
+				return new HashMap<ASTModule, TCModule>();
+			}
+			
+			TCModule previous = checkedModules.get(module);
+			
+			if (previous != null && !hasErrors(module))
+			{
+				reusable.put(module, previous);
+				names.add(module.name.name);
+			}
+		}
+		
+		boolean removed = true;
+		
+		while (removed)		// Until no more dependents are removed
+		{
+			removed = false;
+			Iterator<ASTModule> iter = reusable.keySet().iterator();
+			
+			while (iter.hasNext())
+			{
+				ASTModule module = iter.next();
+				
+				if (module.imports != null)
+				{
+					for (ASTImportFromModule from: module.imports.imports)
+					{
+						if (!names.contains(from.name.name))
+						{
+							iter.remove();
+							names.remove(module.name.name);
+							removed = true;
+							break;
+						}
+					}
+				}
+			}
+		}
+		
+		return reusable;
+	}
+	
+	private boolean hasErrors(ASTModule module)
+	{
+		for (File file: module.files)
+		{
+			if (checkedErrors.contains(file))
+			{
+				return true;
+			}
 		}
 		
-		if (TypeChecker.getErrorCount() > 0)
+		return false;
+	}
+	
+	private void saveCheckedState(ASTModuleList astModules,
+		List<VDMError> errors, List<VDMWarning> warnings, boolean failed)
+	{
+		checkedModules.clear();
+		checkedWarnings.clear();
+		checkedErrors.clear();
+		checkFailed = failed || tcModuleList.size() != astModules.size();	// Combined defaults?
+		
+		if (!checkFailed)
 		{
-			messagehub.addPluginMessages(this, TypeChecker.getErrors());
+			for (int i = 0; i < astModules.size(); i++)
+			{
+				checkedModules.put(astModules.get(i), tcModuleList.get(i));
+			}
 		}
 		
-		if (TypeChecker.getWarningCount() > 0)
+		for (VDMError error: errors)
 		{
-			messagehub.addPluginMessages(this, TypeChecker.getWarnings());
+			checkedErrors.add(error.location.file);
+		}
+		
+		for (VDMWarning warning: warnings)
+		{
+			List<VDMWarning> list = checkedWarnings.get(warning.location.file);
+			
+			if (list == null)
+			{
+				list = new Vector<VDMWarning>();
+				checkedWarnings.put(warning.location.file, list);
+			}
+			
+			list.add(warning);
 		}
 	}
 
@@ -171,6 +380,19 @@ public class TCPluginSL extends TCPlugin
 		}
 	}
 
+	@Override
+	public Boolean refersTo(File file, long zline, long zcol, TCDefinition def)
+	{
+		if (incremental && tcModuleList != null && !tcModuleList.isEmpty())
+		{
+			return referenceIndex.refersTo(tcModuleList, file, (int)zline + 1, (int)zcol + 1, def.location);
+		}
+		else
+		{
+			return null;
+		}
+	}
+
 	@Override
 	public TCDefinitionList lookupDefinition(String startsWith)
 	{
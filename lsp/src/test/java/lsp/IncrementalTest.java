@@ -0,0 +1,135 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package lsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+
+import org.junit.Test;
+
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.tc.lex.TCIdentifierToken;
+import com.fujitsu.vdmj.tc.modules.TCModule;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+
+import json.JSONArray;
+import json.JSONObject;
+import rpc.RPCMessageList;
+import rpc.RPCRequest;
+import workspace.PluginRegistry;
+import workspace.plugins.TCPlugin;
+
+public class IncrementalTest extends LSPTest
+{
+	private File testdir = new File("src/test/resources/incremental_sl").getAbsoluteFile();
+
+	@Test
+	public void testIncrementalSL() throws Exception
+	{
+		setupWorkspace(Dialect.VDM_SL);
+		initialize(testdir, new JSONObject());
+
+		TCModule a1 = getModule("A");
+		TCModule b1 = getModule("B");
+		TCModule c1 = getModule("C");
+
+		// Changing C does not affect A or B
+
+		assertEquals(true, edit("C.vdmsl", "x + v", "x + v + 1"));
+		assertSame(a1, getModule("A"));
+		assertSame(b1, getModule("B"));
+		assertNotSame(c1, getModule("C"));
+
+		// Changing A means that B, which imports A, must be checked again
+
+		TCModule c2 = getModule("C");
+		assertEquals(true, edit("A.vdmsl", "x + 1", "x + 2"));
+		assertNotSame(a1, getModule("A"));
+		assertNotSame(b1, getModule("B"));
+		assertSame(c2, getModule("C"));
+
+		// Errors in C are reported, and C is always checked until they are fixed
+
+		TCModule a3 = getModule("A");
+		assertEquals(false, edit("C.vdmsl", "x + v + 1", "x + true"));
+		assertEquals(false, edit("B.vdmsl", "* 2", "* 3"));
+		assertEquals(true, edit("C.vdmsl", "x + true", "x"));
+		assertSame(a3, getModule("A"));
+	}
+
+	@Test
+	public void testReferencesSL() throws Exception
+	{
+		setupWorkspace(Dialect.VDM_SL);
+		initialize(testdir, new JSONObject());
+
+		// References to A`f, from its definition
+
+		assertEquals(2, references("A.vdmsl", 7, 2));
+
+		// Unchanged modules keep their references, and changed ones are found again
+
+		assertEquals(true, edit("C.vdmsl", "x + v", "x + v + 1"));
+		assertEquals(2, references("A.vdmsl", 7, 2));
+		assertEquals(true, edit("B.vdmsl", "A`f(x) * 2", "A`f(A`f(x)) * 2"));
+		assertEquals(3, references("A.vdmsl", 7, 2));
+	}
+
+	/**
+	 * Replace some text in a file via didChange, then save it to cause a check.
+	 * The "checked" notification indicates whether the check was successful.
+	 */
+	private boolean edit(String name, String from, String to) throws Exception
+	{
+		File file = new File(testdir, name);
+		String text = lspManager.getProjectFiles().get(file).toString();
+		
+		lspManager.lspDidOpen(RPCRequest.create("textDocument/didOpen", null), file, text);
+		lspManager.lspDidChange(RPCRequest.create("textDocument/didChange", null), file, null, text.replace(from, to));
+		RPCMessageList result = lspManager.lspDidSave(RPCRequest.create("textDocument/didSave", null), file, null);
+		lspManager.lspDidClose(RPCRequest.create("textDocument/didClose", null), file);
+		
+		return result.get(result.size() - 1).getPath("params.successful");
+	}
+	
+	private int references(String name, long zline, long zcol) throws Exception
+	{
+		File file = new File(testdir, name);
+		RPCMessageList result = lspManager.lspReferences(RPCRequest.create(1L, "textDocument/references", null), file, zline, zcol, true);
+		JSONArray list = result.get(0).get("result");
+		return list.size();
+	}
+
+	private TCModule getModule(String name)
+	{
+		TCPlugin tc = PluginRegistry.getInstance().getPlugin("TC");
+		TCModuleList modules = tc.getTC();
+		return modules.findModule(new TCIdentifierToken(LexLocation.ANY, name, false));
+	}
+}
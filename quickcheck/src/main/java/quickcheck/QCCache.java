@@ -0,0 +1,427 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package quickcheck;
+
+import static quickcheck.commands.QCConsole.verbose;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Stack;
+import java.util.TreeSet;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.pog.POStatus;
+import com.fujitsu.vdmj.pog.ProofObligation;
+import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.runtime.Interpreter;
+import com.fujitsu.vdmj.tc.TCReferenceNames;
+import com.fujitsu.vdmj.tc.definitions.TCClassDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCClassInvariantDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCClassList;
+import com.fujitsu.vdmj.tc.definitions.TCDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCInstanceVariableDefinition;
+import com.fujitsu.vdmj.tc.definitions.visitors.TCReferenceDefinitionFinder;
+import com.fujitsu.vdmj.tc.modules.TCModule;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.util.Utils;
+
+/**
+ * A cache of QuickCheck results, held in the vdmj.qc.cache_dir directory. Each entry
+ * is the outcome of one obligation, named by a hash of the obligation source, the source
+ * of every definition that it refers to, directly or indirectly, and the strategy options.
+ * Only PROVABLE, MAYBE and FAILED outcomes are cached. Names are not qualified when
+ * finding the definitions referred to, so the hash includes every definition with a
+ * matching name, which is safe but may include more than necessary.
+ */
+public class QCCache
+{
+	public static class Result implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		public final POStatus status;
+		public final String qualifier;
+		public final String message;
+		public final String provedBy;
+		public final Context counterexample;
+		public final Context witness;
+
+		public Result(ProofObligation po)
+		{
+			this.status = po.status;
+			this.qualifier = po.qualifier;
+			this.message = po.message;
+			this.provedBy = po.provedBy;
+			this.counterexample = po.counterexample;
+			this.witness = po.witness;
+		}
+
+		public void apply(ProofObligation po)
+		{
+			po.clearAnalysis();
+			po.setStatus(status);
+			po.setQualifier(qualifier);
+			po.setMessage(message);
+			po.setProvedBy(provedBy);
+			po.counterexample = counterexample;
+			po.witness = witness;
+		}
+	}
+
+	private final File dir;
+	private final String options;
+	private Map<String, List<TCDefinition>> index = null;
+
+	/**
+	 * The options are the names of the enabled strategies and any arguments that
+	 * they took, which affect the values that they produce.
+	 */
+	public QCCache(String options)
+	{
+		this.dir = getCacheDir();
+		this.options = options;
+	}
+
+	/**
+	 * Return the cache key for an obligation. This returns null if the cache is
+	 * disabled, or the obligation cannot be cached.
+	 */
+	public String getKey(ProofObligation po)
+	{
+		if (dir == null || !po.isCheckable || po.getCheckedExpression() == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+			update(digest, Utils.getVersion());
+			update(digest, Settings.dialect);
+			update(digest, Settings.release);
+			update(digest, options);
+			update(digest, po.kind);
+			update(digest, po.location.module);
+			update(digest, po.source);
+			update(digest, po.typeParams);
+			update(digest, po.annotations);
+
+			for (TCDefinition def: getDependencies(po))
+			{
+				update(digest, def.name == null ? null : def.name.getModule());
+				update(digest, def.kind());
+				update(digest, def);
+			}
+
+			StringBuilder sb = new StringBuilder();
+
+			for (byte b: digest.digest())
+			{
+				sb.append(String.format("%02x", b));
+			}
+
+			return sb.toString();
+		}
+		catch (Throwable e)		// Including StackOverflowError
+		{
+			verbose("Cannot cache PO #%d: %s\n", po.number, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Load the cached result for a key, or return null if there is no valid entry.
+	 */
+	public Result load(String key)
+	{
+		if (key == null)
+		{
+			return null;
+		}
+
+		File file = new File(dir, key + ".qc");
+
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(
+				new BufferedInputStream(new FileInputStream(file))))
+		{
+			return (Result)in.readObject();
+		}
+		catch (Throwable e)		// Including StackOverflowError
+		{
+			verbose("Cannot load %s: %s\n", file, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Save the result of an obligation, if its outcome is PROVABLE, MAYBE or FAILED. The
+	 * entry is written to a temporary file and then renamed, so that concurrent workers
+	 * and processes never see a partial entry.
+	 */
+	public void save(String key, ProofObligation po)
+	{
+		if (key == null)
+		{
+			return;
+		}
+
+		switch (po.status)
+		{
+			case PROVABLE:
+			case MAYBE:
+			case FAILED:
+				break;
+
+			default:
+				return;
+		}
+
+		File file = new File(dir, key + ".qc");
+		File temp = null;
+
+		try
+		{
+			temp = File.createTempFile("vdmj", ".tmp", dir);
+
+			try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp))))
+			{
+				out.writeObject(new Result(po));
+			}
+
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (Throwable e)		// Including StackOverflowError
+		{
+			verbose("Cannot save %s: %s\n", file, e);
+
+			if (temp != null)
+			{
+				temp.delete();
+			}
+		}
+	}
+
+	/**
+	 * Find the definitions that the obligation refers to, directly or indirectly, in
+	 * a repeatable order. Names that are not found are local to the obligation.
+	 */
+	private List<TCDefinition> getDependencies(ProofObligation po)
+	{
+		TCReferenceDefinitionFinder finder = new TCReferenceDefinitionFinder(TCReferenceNames.SIMPLE);
+		Set<String> done = new TreeSet<String>();
+		Stack<String> pending = new Stack<String>();
+		pending.addAll(finder.getReferences(po.getCheckedExpression()));
+
+		if (Settings.dialect != Dialect.VDM_SL)
+		{
+			pending.push(po.location.module);	// The state of "self"
+		}
+
+		while (!pending.isEmpty())
+		{
+			String name = pending.pop();
+
+			if (done.add(name) && getIndex().containsKey(name))
+			{
+				for (TCDefinition def: getIndex().get(name))
+				{
+					pending.addAll(def.apply(finder, null));
+				}
+			}
+		}
+
+		List<TCDefinition> all = new Vector<TCDefinition>();
+		Set<TCDefinition> added = Collections.newSetFromMap(new IdentityHashMap<TCDefinition, Boolean>());
+
+		for (String name: done)
+		{
+			if (getIndex().containsKey(name))
+			{
+				for (TCDefinition def: getIndex().get(name))
+				{
+					if (added.add(def))		// Definitions may be indexed by several names
+					{
+						all.add(def);
+					}
+				}
+			}
+		}
+
+		return all;
+	}
+
+	/**
+	 * An index of the top level definitions in the specification, by the unqualified
+	 * names that they define. A class name also indexes the instance variables and
+	 * invariants of the class and its superclasses, which define the state of "self".
+	 */
+	private Map<String, List<TCDefinition>> getIndex()
+	{
+		if (index == null)
+		{
+			index = new HashMap<String, List<TCDefinition>>();
+			Object tc = Interpreter.getInstance().getTC();
+
+			if (tc instanceof TCModuleList)
+			{
+				for (TCModule m: (TCModuleList)tc)
+				{
+					for (TCDefinition def: m.defs)
+					{
+						addDefinition(def);
+					}
+
+					for (TCDefinition def: m.importdefs)
+					{
+						if (def.name != null)
+						{
+							add(def.name.getName(), def.deref());
+						}
+					}
+				}
+			}
+			else if (tc instanceof TCClassList)
+			{
+				for (TCClassDefinition c: (TCClassList)tc)
+				{
+					for (TCDefinition def: c.definitions)
+					{
+						addDefinition(def);
+					}
+
+					addClass(c.name.getName(), c);
+				}
+			}
+		}
+
+		return index;
+	}
+
+	private void addDefinition(TCDefinition def)
+	{
+		if (def.name != null)
+		{
+			add(def.name.getName(), def);
+		}
+
+		for (TCDefinition d: def.getDefinitions())
+		{
+			if (d.name != null)
+			{
+				add(d.name.getName(), def);
+			}
+		}
+	}
+
+	private void addClass(String name, TCClassDefinition c)
+	{
+		for (TCDefinition def: c.definitions)
+		{
+			if (def instanceof TCInstanceVariableDefinition ||
+				def instanceof TCClassInvariantDefinition)
+			{
+				add(name, def);
+			}
+		}
+
+		if (c.superdefs != null)
+		{
+			for (TCClassDefinition sdef: c.superdefs)
+			{
+				addClass(name, sdef);
+			}
+		}
+	}
+
+	private void add(String name, TCDefinition def)
+	{
+		List<TCDefinition> list = index.get(name);
+
+		if (list == null)
+		{
+			list = new Vector<TCDefinition>();
+			index.put(name, list);
+		}
+
+		for (TCDefinition existing: list)
+		{
+			if (existing == def)	// Not equals, which compares names
+			{
+				return;
+			}
+		}
+
+		list.add(def);
+	}
+
+	private static File getCacheDir()
+	{
+		if (Properties.qc_cache_dir == null)
+		{
+			return null;
+		}
+
+		File dir = new File(Properties.qc_cache_dir);
+
+		if (!dir.isDirectory() && !dir.mkdirs())
+		{
+			verbose("Cannot create QC cache directory %s\n", dir);
+			return null;
+		}
+
+		return dir;
+	}
+
+	private static void update(MessageDigest digest, Object value)
+	{
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte)0);
+	}
+}
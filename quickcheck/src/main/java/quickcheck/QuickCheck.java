@@ -38,9 +38,15 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.ast.lex.LexBooleanToken;
+import com.fujitsu.vdmj.debug.ConsoleExecTimer;
 import com.fujitsu.vdmj.in.INNode;
 import com.fujitsu.vdmj.in.annotations.INAnnotation;
 import com.fujitsu.vdmj.in.definitions.INClassDefinition;
@@ -54,6 +60,7 @@ import com.fujitsu.vdmj.po.annotations.POAnnotation;
 import com.fujitsu.vdmj.pog.POStatus;
 import com.fujitsu.vdmj.pog.ProofObligation;
 import com.fujitsu.vdmj.pog.ProofObligationList;
+import com.fujitsu.vdmj.runtime.Breakpoint;
 import com.fujitsu.vdmj.runtime.ClassInterpreter;
 import com.fujitsu.vdmj.runtime.Context;
 import com.fujitsu.vdmj.runtime.ContextException;
@@ -65,12 +72,15 @@ import com.fujitsu.vdmj.tc.lex.TCNameToken;
 import com.fujitsu.vdmj.tc.types.TCParameterType;
 import com.fujitsu.vdmj.tc.types.TCRealType;
 import com.fujitsu.vdmj.tc.types.TCType;
+import com.fujitsu.vdmj.typechecker.TypeComparator;
 import com.fujitsu.vdmj.util.GetResource;
 import com.fujitsu.vdmj.values.BooleanValue;
+import com.fujitsu.vdmj.values.CPUValue;
 import com.fujitsu.vdmj.values.ObjectValue;
 import com.fujitsu.vdmj.values.ParameterValue;
 import com.fujitsu.vdmj.values.Value;
 import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
 
 import quickcheck.annotations.IterableContext;
 import quickcheck.annotations.po.POQuickCheckAnnotation;
@@ -88,12 +98,68 @@ public class QuickCheck
 	private List<QCStrategy> strategies = null;		// Configured to be used
 	private List<QCStrategy> disabled = null;		// Known, but not to be used
 	private ProofObligationList chosenPOs = null;
+	private QCCache cache = null;
 	
 	public QuickCheck()
 	{
 		// nothing special
 	}
 	
+	/**
+	 * A QuickCheck for a worker thread, which shares the strategies of its parent,
+	 * but counts its own errors.
+	 */
+	private QuickCheck(QuickCheck parent)
+	{
+		this.strategies = parent.strategies;
+		this.disabled = parent.disabled;
+		this.chosenPOs = parent.chosenPOs;
+		this.cache = parent.cache;
+	}
+	
+	/**
+	 * Called by checkObligations with the result of each PO, in order. Returns
+	 * false to stop checking.
+	 */
+	public interface ResultHandler
+	{
+		public boolean result(ProofObligation po, double duration);
+	}
+	
+	/**
+	 * One PO being checked by a worker thread, with everything that the worker
+	 * cannot take from the shared interpreter state.
+	 */
+	private static class Task
+	{
+		public final ProofObligation po;
+		public final INBindingGlobals globals;
+		public StrategyResults results = null;
+		public INClassDefinition classdef = null;
+		public Exception failure = null;
+		public long duration = 0;
+		public int errors = 0;
+
+		public Task(ProofObligation po)
+		{
+			this.po = po;
+			this.globals = new INBindingGlobals();
+		}
+		
+		public Context getContext() throws Exception
+		{
+			if (failure != null)
+			{
+				throw failure;	// From setDefaultName
+			}
+			
+			Context ctxt = new Context(po.location, "QuickCheck worker",
+				Interpreter.getInstance().getInitialContext());
+			ctxt.setThreadState(CPUValue.vCPU);
+			return ctxt;
+		}
+	}
+	
 	public boolean hasErrors()
 	{
 		return errorCount > 0;
@@ -109,6 +175,7 @@ public class QuickCheck
 		strategies = new Vector<QCStrategy>();
 		disabled = new Vector<QCStrategy>();
 		errorCount = 0;
+		List<String> original = (argv == null) ? new Vector<String>() : new Vector<String>(argv);
 		
 		try
 		{
@@ -173,6 +240,8 @@ public class QuickCheck
 				errorln("Could not find strategy " + name);
 				errorCount++;
 			}
+			
+			cache = new QCCache(strategyOptions(original, argv));
 		}
 		catch (Throwable e)
 		{
@@ -205,6 +274,39 @@ public class QuickCheck
 		return doChecks;
 	}
 	
+	/**
+	 * The names of the enabled strategies and the arguments that the strategies took
+	 * from the original argv, leaving the rest. These affect the values generated.
+	 */
+	private String strategyOptions(List<String> original, List<String> remaining)
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		for (QCStrategy strategy: strategies)
+		{
+			sb.append(strategy.getName());
+			sb.append(" ");
+		}
+		
+		Iterator<String> iter = (remaining == null) ? original.iterator() : remaining.iterator();
+		String next = iter.hasNext() ? iter.next() : null;
+		
+		for (String arg: original)
+		{
+			if (arg.equals(next))
+			{
+				next = iter.hasNext() ? iter.next() : null;		// Not taken
+			}
+			else
+			{
+				sb.append(arg);
+				sb.append(" ");
+			}
+		}
+		
+		return sb.toString();
+	}
+	
 	private List<QCStrategy> getEnabledStrategies()
 	{
 		return strategies;
@@ -301,16 +403,32 @@ public class QuickCheck
 	public StrategyResults getValues(ProofObligation po)
 	{
 		Map<String, ValueList> union = new HashMap<String, ValueList>();
+		Map<String, Iterator<Value>> generators = new HashMap<String, Iterator<Value>>();
 		
 		if (!po.isCheckable)
 		{
 			return new StrategyResults();
 		}
 		
+		String key = (cache == null) ? null : cache.getKey(po);
+		
+		if (key != null)
+		{
+			QCCache.Result cached = cache.load(key);
+			
+			if (cached != null)
+			{
+				verbose("PO #%d, using cached result\n", po.number);
+				StrategyResults sresults = new StrategyResults();
+				sresults.setCache(key, cached);
+				return sresults;
+			}
+		}
+		
 		INExpression poexp = getINExpression(po);
 		List<INBindingOverride> binds = getINBindList(poexp);
 		Context ctxt = Interpreter.getInstance().getInitialContext();
-		ctxt = addSelf(po, ctxt);
+		ctxt = addSelf(po, ctxt, null);
 		IterableContext ictxt = addTypeParams(po, ctxt);
 		boolean hasAllValues = false;
 		
@@ -346,6 +464,7 @@ public class QuickCheck
 					verbose("Obligation resolved by %s\n", strategy.getName());
 					sresults.setBinds(binds);
 					sresults.setInExpression(poexp);
+					sresults.setCache(key, null);
 					return sresults;
 				}
 
@@ -373,6 +492,21 @@ public class QuickCheck
 					}
 				}
 				
+				for (String bind: sresults.generators.keySet())
+				{
+					Iterator<Value> generator = sresults.generators.get(bind);
+					verbose("%s returned a generator for %s\n", strategy.getName(), bind);
+					
+					if (generators.containsKey(bind))
+					{
+						generators.put(bind, chain(generators.get(bind), generator));
+					}
+					else
+					{
+						generators.put(bind, generator);
+					}
+				}
+				
 				hasAllValues = hasAllValues || sresults.hasAllValues;	// At least one strategy has all values
 			}
 			
@@ -383,7 +517,7 @@ public class QuickCheck
 		{
 			ValueList values = union.get(bind.toString());
 			
-			if (values == null)
+			if (values == null && !generators.containsKey(bind.toString()))
 			{
 				// Generate some values for missing bindings, using the fixed method
 				verbose("Generating fixed values for %s\n", bind);
@@ -393,17 +527,211 @@ public class QuickCheck
 			}
 		}
 		
-		StrategyResults results = new StrategyResults(union, hasAllValues);
+		StrategyResults results = new StrategyResults(union, generators, hasAllValues);
 		results.setBinds(binds);
 		results.setInExpression(poexp);
+		results.setCache(key, null);
 		return results;
 	}
 	
+	private Iterator<Value> chain(Iterator<Value> first, Iterator<Value> second)
+	{
+		return new Iterator<Value>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return first.hasNext() || second.hasNext();
+			}
+
+			@Override
+			public Value next()
+			{
+				return first.hasNext() ? first.next() : second.next();
+			}
+		};
+	}
+	
+	/**
+	 * Check a list of obligations on a pool of worker threads. The values for each PO are
+	 * generated on this thread, in order, because strategies are not thread safe and some
+	 * depend on the order in which they are called. The evaluations then run concurrently,
+	 * each with its own binding globals, context and timeout. The handler is called on this
+	 * thread with each PO in list order, so the results are reported as a serial check.
+	 */
+	public void checkObligations(ProofObligationList chosen, long timeout, int workers, ResultHandler handler)
+	{
+		ExecutorService pool = Executors.newFixedThreadPool(workers, r ->
+		{
+			Thread thread = new Thread(r, "qc-worker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+		List<Future<Task>> futures = new Vector<Future<Task>>();
+		int reported = 0;
+		boolean stopped = false;
+
+		try
+		{
+			for (ProofObligation po: chosen)
+			{
+				verbose("Processing PO #%s\n", po.number);
+				long before = System.currentTimeMillis();
+				Task task = new Task(po);
+
+				try
+				{
+					INBindingGlobals.setInstance(task.globals);		// Captured by TypeBindFinder
+					task.results = getValues(po);
+				}
+				finally
+				{
+					INBindingGlobals.setInstance(null);
+				}
+
+				try
+				{
+					Interpreter.getInstance().setDefaultName(po.location.module);
+					
+					if (Settings.dialect != Dialect.VDM_SL)
+					{
+						task.classdef = ClassInterpreter.getInstance().getDefaultClass();
+					}
+				}
+				catch (Exception e)
+				{
+					task.failure = e;
+				}
+
+				task.duration = System.currentTimeMillis() - before;
+				futures.add(pool.submit(() -> check(task, timeout)));
+				
+				while (reported < futures.size() && futures.get(reported).isDone())
+				{
+					if (!report(futures.get(reported++), handler))
+					{
+						stopped = true;
+						break;
+					}
+				}
+				
+				if (stopped)
+				{
+					break;
+				}
+			}
+			
+			while (!stopped && reported < futures.size())
+			{
+				stopped = !report(futures.get(reported++), handler);
+			}
+		}
+		finally
+		{
+			pool.shutdownNow();		// Queued POs are not started
+			
+			try
+			{
+				pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException e)
+			{
+				// Carry on
+			}
+		}
+	}
+	
+	private boolean report(Future<Task> future, ResultHandler handler)
+	{
+		try
+		{
+			Task task = future.get();
+			errorCount += task.errors;
+			return handler.result(task.po, (double)task.duration/1000);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof Error)
+			{
+				throw (Error)e.getCause();
+			}
+			
+			throw new RuntimeException(e.getCause());
+		}
+		catch (InterruptedException e)
+		{
+			return false;
+		}
+	}
+	
+	private Task check(Task task, long timeout)
+	{
+		Thread thread = Thread.currentThread();
+		ConsoleExecTimer execTimer = new ConsoleExecTimer(timeout, thread);
+		QuickCheck worker = new QuickCheck(this);
+		long before = System.currentTimeMillis();
+		
+		try
+		{
+			INBindingGlobals.setInstance(task.globals);
+			TypeComparator.setCurrentModule(task.po.location.module);
+			execTimer.start();
+			worker.checkObligation(task.po, task.results, task);
+		}
+		finally
+		{
+			execTimer.interrupt();
+
+			try
+			{
+				execTimer.join();
+			}
+			catch (InterruptedException e)
+			{
+				// Carry on
+			}
+
+			Breakpoint.setExecInterrupt(thread, Breakpoint.NONE);	// In case it just fired
+			INBindingGlobals.setInstance(null);
+		}
+		
+		task.duration += System.currentTimeMillis() - before;
+		task.errors = worker.errorCount;
+		return task;
+	}
+	
 	public void checkObligation(ProofObligation po, StrategyResults sresults)
+	{
+		checkObligation(po, sresults, null);
+	}
+	
+	/**
+	 * The task is null for serial checks, which use the interpreter's initial context
+	 * and default class. Otherwise the task provides them. Results from the cache are
+	 * applied without evaluation, and new results are saved if there are no errors.
+	 */
+	private void checkObligation(ProofObligation po, StrategyResults sresults, Task task)
 	{
 		verbose("------------------------ Checking PO #%d\n", po.number);
 		resetErrors();		// Only flag fatal errors
 		
+		if (sresults.cached != null)
+		{
+			sresults.cached.apply(po);
+			return;
+		}
+		
+		evaluateObligation(po, sresults, task);
+		
+		if (sresults.cacheKey != null && errorCount == 0)
+		{
+			cache.save(sresults.cacheKey, po);
+		}
+	}
+	
+	private void evaluateObligation(ProofObligation po, StrategyResults sresults, Task task)
+	{
 		INBindingGlobals globals = INBindingGlobals.getInstance();
 		globals.clear();	// Clear before each obligation run
 
@@ -438,8 +766,15 @@ public class QuickCheck
 			for (INBindingOverride mbind: sresults.binds)
 			{
 				ValueList values = sresults.counterexamples.get(mbind.toString());
+				Iterator<Value> generator = sresults.generators.get(mbind.toString());
 				
-				if (values != null)
+				if (generator != null)
+				{
+					verbose("PO #%d, setting %s, %d values and a generator\n", po.number, mbind.toString(),
+						values == null ? 0 : values.size());
+					mbind.setBindSource(new ValueSource(values, generator));
+				}
+				else if (values != null)
 				{
 					verbose("PO #%d, setting %s, %d values\n", po.number, mbind.toString(), values.size());
 					mbind.setBindValues(values);
@@ -452,10 +787,19 @@ public class QuickCheck
 			}
 			
 			globals.setAllValues(sresults.hasAllValues);
-			Context ctxt = Interpreter.getInstance().getInitialContext();
-			Interpreter.getInstance().setDefaultName(po.location.module);
+			Context ctxt = null;
+			
+			if (task == null)
+			{
+				ctxt = Interpreter.getInstance().getInitialContext();
+				Interpreter.getInstance().setDefaultName(po.location.module);
+				ctxt = addSelf(po, ctxt, null);
+			}
+			else
+			{
+				ctxt = addSelf(po, task.getContext(), task.classdef);
+			}
 			
-			ctxt = addSelf(po, ctxt);
 			IterableContext ictxt = addTypeParams(po, ctxt);
 			Value execResult = new BooleanValue(false);
 			ContextException execException = null;
@@ -728,14 +1072,17 @@ public class QuickCheck
 		return ictxt;
 	}
 	
-	private Context addSelf(ProofObligation po, Context ctxt)
+	private Context addSelf(ProofObligation po, Context ctxt, INClassDefinition classdef)
 	{
 		if (Settings.dialect != Dialect.VDM_SL)
 		{
 			try
 			{
-				ClassInterpreter in = ClassInterpreter.getInstance();
-				INClassDefinition classdef = in.getDefaultClass();
+				if (classdef == null)
+				{
+					classdef = ClassInterpreter.getInstance().getDefaultClass();
+				}
+
 				ObjectValue object = null;
 
 				if (po.annotations != null)
@@ -753,7 +1100,7 @@ public class QuickCheck
 									qca.newexp = ClassMapper.getInstance(INNode.MAPPINGS).convert(qca.tc.qcConstructor);
 								}
 								
-								object = (ObjectValue) qca.newexp.eval(in.getInitialContext());
+								object = (ObjectValue) qca.newexp.eval(ctxt);
 								break;
 							}
 						}
@@ -884,6 +1231,7 @@ public class QuickCheck
 		println("  -?|-help           - show command help");
 		println("  -q|-v|-n           - run with minimal, verbose, basic output");
 		println("  -t <msecs>         - timeout in millisecs");
+		println("  -w <workers>       - check POs on this many threads");
 		println("  -i <status>        - only show this result status");
 		println("  -s <strategy>      - enable this strategy (below)");
 		println("  -<strategy:option> - pass option to strategy");
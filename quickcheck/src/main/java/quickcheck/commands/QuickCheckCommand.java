@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Vector;
 
 import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.config.Properties;
 import com.fujitsu.vdmj.debug.ConsoleDebugReader;
 import com.fujitsu.vdmj.debug.ConsoleExecTimer;
 import com.fujitsu.vdmj.lex.Dialect;
@@ -48,7 +49,7 @@ import quickcheck.strategies.StrategyResults;
 
 public class QuickCheckCommand extends AnalysisCommand
 {
-	private final static String CMD = "quickcheck [-?|-help][-q|-v|-n][-t <msecs>][-i <status>]* [-s <strategy>]* [-<strategy:option>]* [<PO numbers/ranges/patterns>]";
+	private final static String CMD = "quickcheck [-?|-help][-q|-v|-n][-t <msecs>][-w <workers>][-i <status>]* [-s <strategy>]* [-<strategy:option>]* [<PO numbers/ranges/patterns>]";
 	private final static String SHORT = "quickcheck [-help][<options>][<POs>]";
 	private final static String USAGE = "Usage: " + CMD;
 	public  final static String HELP = SHORT + " - lightweight PO verification";
@@ -70,6 +71,7 @@ public class QuickCheckCommand extends AnalysisCommand
 		List<String> poNames = new Vector<String>();
 		List<POStatus> includes = new Vector<POStatus>();
 		long timeout = -1;
+		int workers = Properties.qc_workers;
 		boolean nominal = false;
 		
 		QuickCheck qc = new QuickCheck();
@@ -115,6 +117,11 @@ public class QuickCheckCommand extends AnalysisCommand
 						timeout = Integer.parseInt(arglist.get(i));
 						break;
 						
+					case "-w":
+						i++;
+						workers = Integer.parseInt(arglist.get(i));
+						break;
+						
 					case "-i":
 						try
 						{
@@ -190,8 +197,44 @@ public class QuickCheckCommand extends AnalysisCommand
 		}
 
 		timeout = (timeout < 0) ? QuickCheck.DEFAULT_TIMEOUT : timeout;
+		final boolean brief = nominal;
 
-		if (qc.initStrategies())
+		if (!qc.initStrategies())
+		{
+			return null;
+		}
+		else if (workers > 1)
+		{
+			ConsoleDebugReader dbg = null;
+			
+			try
+			{
+				dbg = new ConsoleDebugReader();
+				dbg.start();
+
+				qc.checkObligations(chosen, timeout, workers, (po, duration) ->
+				{
+					if (includes.isEmpty() || includes.contains(po.status))
+					{
+						qc.printQuickCheckResult(po, duration, brief);
+					}
+					
+					return true;
+				});
+			}
+			catch (Exception e)
+			{
+				errorln(e);
+			}
+			finally
+			{
+				if (dbg != null)
+				{
+					dbg.interrupt();
+				}
+			}
+		}
+		else
 		{
 			for (ProofObligation po: chosen)
 			{
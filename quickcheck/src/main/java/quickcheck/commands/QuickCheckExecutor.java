@@ -49,6 +49,7 @@ public class QuickCheckExecutor extends AsyncExecutor
 {
 	private final QuickCheck qc;
 	private final long timeout;
+	private final int workers;
 	private final List<Integer> poList;
 	private final List<String> poNames;
 	private final boolean nominal;
@@ -57,12 +58,13 @@ public class QuickCheckExecutor extends AsyncExecutor
 	private String answer;
 
 	public QuickCheckExecutor(DAPRequest request, QuickCheck qc,
-			long timeout, List<Integer> poList, List<String> poNames, boolean nominal,
+			long timeout, int workers, List<Integer> poList, List<String> poNames, boolean nominal,
 			List<POStatus> includes)
 	{
 		super("qc", request);
 		this.qc = qc;
 		this.timeout = timeout;
+		this.workers = workers;
 		this.poList = poList;
 		this.poNames = poNames;
 		this.nominal = nominal;
@@ -96,40 +98,55 @@ public class QuickCheckExecutor extends AsyncExecutor
 		
 		if (qc.initStrategies())
 		{
-			for (ProofObligation po: chosen)
+			if (workers > 1)
 			{
-				long before = System.currentTimeMillis();
-				StrategyResults results = qc.getValues(po);
+				qc.checkObligations(chosen, timeout, workers, (po, duration) ->
+				{
+					if (includes.isEmpty() || includes.contains(po.status))
+					{
+						qc.printQuickCheckResult(po, duration, nominal);
+					}
 				
-				if (!qc.hasErrors())
+					return !cancelled;
+				});
+			}
+			else
+			{
+				for (ProofObligation po: chosen)
 				{
-					ConsoleExecTimer execTimer = null;
-					
-					try
+					long before = System.currentTimeMillis();
+					StrategyResults results = qc.getValues(po);
+				
+					if (!qc.hasErrors())
 					{
-						execTimer = new ConsoleExecTimer(timeout);
-						execTimer.start();
+						ConsoleExecTimer execTimer = null;
+					
+						try
+						{
+							execTimer = new ConsoleExecTimer(timeout);
+							execTimer.start();
 
-						qc.checkObligation(po, results);
+							qc.checkObligation(po, results);
 
-						if (includes.isEmpty() || includes.contains(po.status))
-						{
-							double duration = (double)(System.currentTimeMillis() - before)/1000;
-							qc.printQuickCheckResult(po, duration, nominal);
+							if (includes.isEmpty() || includes.contains(po.status))
+							{
+								double duration = (double)(System.currentTimeMillis() - before)/1000;
+								qc.printQuickCheckResult(po, duration, nominal);
+							}
 						}
-					}
-					finally
-					{
-						if (execTimer != null)
+						finally
 						{
-							execTimer.interrupt();
+							if (execTimer != null)
+							{
+								execTimer.interrupt();
+							}
 						}
 					}
-				}
 				
-				if (cancelled)
-				{
-					break;
+					if (cancelled)
+					{
+						break;
+					}
 				}
 			}
 		}
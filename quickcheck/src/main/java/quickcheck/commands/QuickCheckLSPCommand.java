@@ -31,6 +31,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Vector;
 
+import com.fujitsu.vdmj.config.Properties;
 import com.fujitsu.vdmj.pog.POStatus;
 
 import dap.DAPMessageList;
@@ -43,7 +44,7 @@ import vdmj.commands.ScriptRunnable;
 
 public class QuickCheckLSPCommand extends AnalysisCommand implements InitRunnable, ScriptRunnable
 {
-	public final static String CMD = "quickcheck [-?|-help][-q|-v|-n][-t <msecs>][-i <status>]* [-s <strategy>]* [-<strategy:option>]* [<PO numbers/ranges/patterns>]";
+	public final static String CMD = "quickcheck [-?|-help][-q|-v|-n][-t <msecs>][-w <workers>][-i <status>]* [-s <strategy>]* [-<strategy:option>]* [<PO numbers/ranges/patterns>]";
 	public final static String SHORT = "quickcheck [-help][<options>][<POs>]";
 	private final static String USAGE = "Usage: " + CMD;
 	
@@ -51,6 +52,7 @@ public class QuickCheckLSPCommand extends AnalysisCommand implements InitRunnabl
 	private List<String> poNames = new Vector<String>();
 	private List<POStatus> includes = new Vector<POStatus>();
 	private long timeout = -1;
+	private int workers = Properties.qc_workers;
 	private boolean nominal = false;
 	private QuickCheck qc = new QuickCheck();
 	
@@ -118,6 +120,11 @@ public class QuickCheckLSPCommand extends AnalysisCommand implements InitRunnabl
 						timeout = Integer.parseInt(arglist.get(i));
 						break;
 
+					case "-w":
+						i++;
+						workers = Integer.parseInt(arglist.get(i));
+						break;
+
 					case "-i":
 						try
 						{
@@ -189,7 +196,7 @@ public class QuickCheckLSPCommand extends AnalysisCommand implements InitRunnabl
 		if (errs == null)
 		{
 			QuickCheckExecutor executor =
-				new QuickCheckExecutor(request, qc, timeout, poList, poNames, nominal, includes);
+				new QuickCheckExecutor(request, qc, timeout, workers, poList, poNames, nominal, includes);
 			executor.start();
 		}
 		
@@ -206,7 +213,7 @@ public class QuickCheckLSPCommand extends AnalysisCommand implements InitRunnabl
 			try
 			{
 				QuickCheckExecutor executor =
-					new QuickCheckExecutor(request, qc, timeout, poList, poNames, nominal, includes);
+					new QuickCheckExecutor(request, qc, timeout, workers, poList, poNames, nominal, includes);
 				executor.exec();	// Note, not start!
 				executor.clean();	// Send POG updated notification
 				return executor.getAnswer();
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Vector;
 
+import com.fujitsu.vdmj.config.Properties;
 import com.fujitsu.vdmj.debug.ConsoleExecTimer;
 import com.fujitsu.vdmj.messages.VDMMessage;
 import com.fujitsu.vdmj.messages.VDMWarning;
@@ -60,6 +61,9 @@ public class QuickCheckThread extends CancellableThread
 	private final POPlugin pog;
 	private final Object workDoneToken;
 	private final long timeout;
+	
+	private long percentDone;
+	private int count;
 
 	public QuickCheckThread(RPCRequest request, QuickCheck qc, ProofObligationList chosenPOs, long timeout)
 	{
@@ -88,71 +92,44 @@ public class QuickCheckThread extends CancellableThread
 			
 			List<VDMMessage> messages = new Vector<VDMMessage>();
 			JSONArray list = new JSONArray();
-			long percentDone = -1;
-			int count = 0;
+			percentDone = -1;
+			count = 0;
 			
-			for (ProofObligation po: chosenPOs)
+			if (Properties.qc_workers > 1)
 			{
-				StrategyResults results = qc.getValues(po);
-				
-				if (!qc.hasErrors())
-				{
-					ConsoleExecTimer execTimer = null;
-					
-					try
-					{
-						execTimer = new ConsoleExecTimer(timeout);
-						execTimer.start();
-
-						qc.checkObligation(po, results);
-					}
-					finally
-					{
-						if (execTimer != null)
-						{
-							execTimer.interrupt();
-						}
-					}
-				}
-				
-				list.add(getQCResponse(po, messages));
-				count++;
-				
-				if (workDoneToken != null)
+				qc.checkObligations(chosenPOs, timeout, Properties.qc_workers,
+					(po, duration) -> checked(po, list, messages));
+			}
+			else
+			{
+				for (ProofObligation po: chosenPOs)
 				{
-					long done = (100 * count)/chosenPOs.size();
+					StrategyResults results = qc.getValues(po);
 					
-					if (done != percentDone)	// Only if changed %age
+					if (!qc.hasErrors())
 					{
-						JSONObject value = null;
+						ConsoleExecTimer execTimer = null;
 						
-						if (percentDone < 0)
+						try
 						{
-							value = new JSONObject(
-								"kind",			"begin",
-								"title",		"Executing QuickCheck",
-								"message",		"Processing QuickCheck",
-								"percentage",	done);
+							execTimer = new ConsoleExecTimer(timeout);
+							execTimer.start();
+	
+							qc.checkObligation(po, results);
 						}
-						else
+						finally
 						{
-							value = new JSONObject(
-								"kind",			"report",
-								"message",		"Processing QuickCheck",
-								"percentage",	done);
+							if (execTimer != null)
+							{
+								execTimer.interrupt();
+							}
 						}
-						
-						JSONObject params = new JSONObject("token", workDoneToken, "value", value);
-						Diag.fine("Sending QC work done = %d%%", done);
-						server.writeMessage(RPCRequest.notification("$/progress", params));
-						percentDone = done;
 					}
-				}
-				
-				if (cancelled)
-				{
-					list.clear();
-					break;
+					
+					if (!checked(po, list, messages))
+					{
+						break;
+					}
 				}
 			}
 
@@ -180,6 +157,62 @@ public class QuickCheckThread extends CancellableThread
 		}
 	}
 
+	/**
+	 * Add the response for a checked PO and send any progress. Returns false if
+	 * the request has been cancelled.
+	 */
+	private boolean checked(ProofObligation po, JSONArray list, List<VDMMessage> messages)
+	{
+		list.add(getQCResponse(po, messages));
+		count++;
+		
+		if (workDoneToken != null)
+		{
+			long done = (100 * count)/chosenPOs.size();
+			
+			if (done != percentDone)	// Only if changed %age
+			{
+				JSONObject value = null;
+				
+				if (percentDone < 0)
+				{
+					value = new JSONObject(
+						"kind",			"begin",
+						"title",		"Executing QuickCheck",
+						"message",		"Processing QuickCheck",
+						"percentage",	done);
+				}
+				else
+				{
+					value = new JSONObject(
+						"kind",			"report",
+						"message",		"Processing QuickCheck",
+						"percentage",	done);
+				}
+				
+				try
+				{
+					JSONObject params = new JSONObject("token", workDoneToken, "value", value);
+					Diag.fine("Sending QC work done = %d%%", done);
+					LSPServer.getInstance().writeMessage(RPCRequest.notification("$/progress", params));
+					percentDone = done;
+				}
+				catch (IOException e)
+				{
+					Diag.error(e);
+				}
+			}
+		}
+		
+		if (cancelled)
+		{
+			list.clear();
+			return false;
+		}
+		
+		return true;
+	}
+
 	private JSONObject getQCResponse(ProofObligation po, List<VDMMessage> messages)
 	{
 		JSONObject json = new JSONObject(
@@ -27,13 +27,20 @@ package quickcheck.strategies;
 import static com.fujitsu.vdmj.plugins.PluginConsole.println;
 import static quickcheck.commands.QCConsole.verbose;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
 
 import com.fujitsu.vdmj.in.patterns.INBindingOverride;
 import com.fujitsu.vdmj.pog.ProofObligation;
 import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.tc.types.TCType;
+import com.fujitsu.vdmj.values.Value;
 import com.fujitsu.vdmj.values.ValueList;
 import com.fujitsu.vdmj.values.ValueSet;
 
@@ -43,6 +50,8 @@ import quickcheck.visitors.RandomRangeCreator;
 
 public class RandomQCStrategy extends QCStrategy
 {
+	private static final int BATCH_SIZE = 1000;	// Larger sizes are generated on demand
+
 	private int expansionLimit = 20;	// Overall returned value limit
 	private long seed = System.currentTimeMillis();
 
@@ -127,6 +136,7 @@ public class RandomQCStrategy extends QCStrategy
 	public StrategyResults getValues(ProofObligation po, List<INBindingOverride> binds, Context ctxt)
 	{
 		HashMap<String, ValueList> result = new HashMap<String, ValueList>();
+		HashMap<String, Iterator<Value>> generators = new HashMap<String, Iterator<Value>>();
 		
 		if (po.isCheckable && po.getCheckedExpression() != null)
 		{
@@ -140,6 +150,11 @@ public class RandomQCStrategy extends QCStrategy
 					ValueSet extras = bind.getType().apply(visitor, expansionLimit);
 					list.addAll(extras);
 				}
+				else if (expansionLimit > BATCH_SIZE)
+				{
+					generators.put(bind.toString(), new RandomGenerator(bind.getType(), ctxt, seed++));
+					continue;
+				}
 				else
 				{
 					RandomRangeCreator visitor = new RandomRangeCreator(ctxt, seed++);
@@ -151,7 +166,71 @@ public class RandomQCStrategy extends QCStrategy
 			}
 		}
 		
-		return new StrategyResults(result, false);
+		return new StrategyResults(result, generators, false);
+	}
+	
+	/**
+	 * Generate random values in batches, as the evaluation needs them, so that large
+	 * sizes are not held in memory before the evaluation starts, and values after a
+	 * counterexample is found are never generated.
+	 */
+	private class RandomGenerator implements Iterator<Value>
+	{
+		private final TCType type;
+		private final Context ctxt;
+		private final Random seeds;
+		private final Set<Value> seen;
+		private long seed;
+		private int remaining;
+		private Iterator<Value> batch;
+		
+		public RandomGenerator(TCType type, Context ctxt, long seed)
+		{
+			this.type = type;
+			this.ctxt = ctxt;
+			this.seeds = new Random(seed);
+			this.seen = new HashSet<Value>();
+			this.seed = seed;
+			this.remaining = expansionLimit;
+			this.batch = Collections.emptyIterator();
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while (!batch.hasNext() && remaining > 0)
+			{
+				int size = Math.min(remaining, BATCH_SIZE);
+				ValueSet values = type.apply(new RandomRangeCreator(ctxt, seed), size);
+				ValueList fresh = new ValueList();
+				
+				for (Value value: values)
+				{
+					if (seen.add(value))	// Batches can repeat values
+					{
+						fresh.add(value);
+					}
+				}
+				
+				// A batch with nothing new means the type has few values, so stop there
+				remaining = fresh.isEmpty() ? 0 : remaining - size;
+				seed = seeds.nextLong();
+				batch = fresh.iterator();
+			}
+			
+			return batch.hasNext();
+		}
+
+		@Override
+		public Value next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			
+			return batch.next();
+		}
 	}
 
 	@Override
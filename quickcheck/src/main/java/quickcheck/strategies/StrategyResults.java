@@ -25,21 +25,27 @@
 package quickcheck.strategies;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import com.fujitsu.vdmj.in.expressions.INExpression;
 import com.fujitsu.vdmj.in.patterns.INBindingOverride;
 import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.values.Value;
 import com.fujitsu.vdmj.values.ValueList;
 
+import quickcheck.QCCache;
+
 /**
  * A class to hold the return values of a getValues() call on a QC plugin.
  * The (dis)provedBy fields indicate that the PO probably has no counterexamples.
  * Otherwise, counterexamples contains known or possible values to check. The
  * hasAllValues field indicates that all possible values of all bindings are included
  * (probably from the "finite" strategy) and hence if no counterexamples are found,
- * the PO is provable.
+ * the PO is provable. Values can also be generated on demand, during the evaluation,
+ * by adding a generator for the bind. These follow any counterexamples for it.
+ * If the result of the PO is in the QC cache, that is returned instead of values.
  */
 public class StrategyResults
 {
@@ -50,10 +56,13 @@ public class StrategyResults
 	public final Context witness;			// Any witness found (can be a disproof witness)
 	
 	public final Map<String, ValueList> counterexamples;
+	public final Map<String, Iterator<Value>> generators;
 	public final boolean hasAllValues;		// Contains all possible values from all binds
 	
 	public INExpression inExpression;		// The INExpression
 	public List<INBindingOverride> binds;	// The binds used	
+	public String cacheKey;					// The QC cache key, if caching
+	public QCCache.Result cached;			// The result from the QC cache
 
 	public StrategyResults()
 	{
@@ -64,6 +73,7 @@ public class StrategyResults
 		this.witness = null;
 		
 		this.counterexamples = new HashMap<String, ValueList>();
+		this.generators = new HashMap<String, Iterator<Value>>();
 		this.hasAllValues = false;
 	}
 
@@ -75,11 +85,18 @@ public class StrategyResults
 		this.message = null;
 		this.witness = witness;
 
-		this.counterexamples = new HashMap<String, ValueList>();;
+		this.counterexamples = new HashMap<String, ValueList>();
+		this.generators = new HashMap<String, Iterator<Value>>();
 		this.hasAllValues = false;
 	}
 
 	public StrategyResults(Map<String, ValueList> counterexamples, boolean hasAllValues)
+	{
+		this(counterexamples, new HashMap<String, Iterator<Value>>(), hasAllValues);
+	}
+
+	public StrategyResults(Map<String, ValueList> counterexamples,
+		Map<String, Iterator<Value>> generators, boolean hasAllValues)
 	{
 		this.provedBy = null;
 		this.disprovedBy = null;
@@ -88,6 +105,7 @@ public class StrategyResults
 		this.witness = null;
 
 		this.counterexamples = counterexamples;
+		this.generators = generators;
 		this.hasAllValues = hasAllValues;
 	}
 
@@ -100,6 +118,7 @@ public class StrategyResults
 		this.witness = witness;
 
 		this.counterexamples = new HashMap<String, ValueList>();
+		this.generators = new HashMap<String, Iterator<Value>>();
 		this.hasAllValues = false;
 	}
 
@@ -112,4 +131,10 @@ public class StrategyResults
 	{
 		this.binds = binds;
 	}
+
+	public void setCache(String cacheKey, QCCache.Result cached)
+	{
+		this.cacheKey = cacheKey;
+		this.cached = cached;
+	}
 }
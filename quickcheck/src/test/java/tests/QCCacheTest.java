@@ -0,0 +1,140 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Vector;
+
+import org.junit.Test;
+
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.debug.ConsoleExecTimer;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.pog.POStatus;
+import com.fujitsu.vdmj.pog.ProofObligation;
+import com.fujitsu.vdmj.pog.ProofObligationList;
+import com.fujitsu.vdmj.runtime.Interpreter;
+
+import json.JSONObject;
+import quickcheck.QuickCheck;
+import quickcheck.strategies.StrategyResults;
+import workspace.PluginRegistry;
+import workspace.plugins.DAPPlugin;
+import workspace.plugins.POPlugin;
+
+public class QCCacheTest extends LSPTest
+{
+	private static final long TIMEOUT = 5000;
+
+	private JSONObject capabilities = new JSONObject(
+			"experimental", new JSONObject("proofObligationGeneration", true));
+
+	private int cached = 0;
+	private int cacheable = 0;
+
+	private String check()
+	{
+		QuickCheck qc = new QuickCheck();
+		qc.loadStrategies(new Vector<String>());
+		assertTrue(!qc.hasErrors());
+
+		POPlugin pog = PluginRegistry.getInstance().getPlugin("PO");
+		List<String> names = new Vector<String>();
+		names.add(".*");
+		ProofObligationList chosen = qc.getPOs(pog.getProofObligations(), new Vector<Integer>(), names);
+		assertTrue(qc.initStrategies());
+
+		StringBuilder sb = new StringBuilder();
+		cached = 0;
+		cacheable = 0;
+
+		for (ProofObligation po: chosen)
+		{
+			StrategyResults results = qc.getValues(po);
+			ConsoleExecTimer execTimer = new ConsoleExecTimer(TIMEOUT);
+			execTimer.start();
+			qc.checkObligation(po, results);
+			execTimer.interrupt();
+
+			if (results.cached != null)
+			{
+				cached++;
+			}
+
+			if (po.status == POStatus.PROVABLE || po.status == POStatus.MAYBE || po.status == POStatus.FAILED)
+			{
+				cacheable++;
+			}
+
+			sb.append("PO #" + po.number + " " + po.status + " " + po.qualifier + " " +
+				po.message + " " + po.counterexample + " " + po.witness + "\n");
+		}
+
+		return sb.toString();
+	}
+
+	@Test
+	public void testCache() throws Exception
+	{
+		File cachedir = Files.createTempDirectory("qccache").toFile();
+		String saved = Properties.qc_cache_dir;
+
+		try
+		{
+			setupWorkspace(Dialect.VDM_SL);
+			File testdir = new File("src/test/resources/qcparallel");
+			initialize(testdir, capabilities);
+			Properties.qc_cache_dir = cachedir.getPath();	// After properties are loaded
+
+			DAPPlugin manager = DAPPlugin.getInstance();
+			manager.refreshInterpreter();
+			Interpreter interpreter = manager.getInterpreter();
+			interpreter.init();
+
+			String expected = check();
+			assertTrue(expected.contains("Failed"));
+			assertTrue(cachedir.listFiles().length > 0);	// POs with the same source share entries
+
+			assertEquals(expected, check());
+			assertEquals(cacheable, cached);
+		}
+		finally
+		{
+			Properties.qc_cache_dir = saved;
+
+			for (File file: cachedir.listFiles())
+			{
+				file.delete();
+			}
+
+			cachedir.delete();
+		}
+	}
+}
@@ -28,6 +28,8 @@ import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.List;
+import java.util.Vector;
 
 import com.fujitsu.vdmj.ast.expressions.ASTExpression;
 import com.fujitsu.vdmj.in.INNode;
@@ -53,6 +55,7 @@ import com.fujitsu.vdmj.values.TupleValue;
 import com.fujitsu.vdmj.values.Value;
 import com.fujitsu.vdmj.values.ValueList;
 
+import util.CsvIndex;
 import util.CsvParser;
 import util.CsvResult;
 import util.CsvValueBuilder;
@@ -189,6 +192,71 @@ public class CSV implements Serializable
 		return new TupleValue(result);
 	}
 
+	/**
+	 * Read every line of a CSV file as a seq of seq of ? in VDM, in one pass
+	 * 
+	 * @param fval
+	 *            name of the file to read from
+	 * @return true + seq of seq of ? or false and nil
+	 */
+	@VDMFunction
+	public static Value freadall(Value fval)
+	{
+		try
+		{
+			File file = getFile(fval);
+			List<String> lines = new Vector<String>();
+
+			try (BufferedReader bufRdr = new BufferedReader(new FileReader(file)))
+			{
+				String line = bufRdr.readLine();
+
+				while (line != null)
+				{
+					lines.add(line);
+					line = bufRdr.readLine();
+				}
+			}
+
+			return readResult(parseLines(lines, "freadall"));
+		}
+		catch (Exception e)
+		{
+			lastError = e.toString();
+			return readResult(null);
+		}
+	}
+
+	/**
+	 * Read a batch of lines from a CSV file as a seq of seq of ? in VDM
+	 * 
+	 * @param fval
+	 *            name of the file to read from
+	 * @param indexVal
+	 *            the first line index
+	 * @param countVal
+	 *            the number of lines to read, fewer if the file ends first
+	 * @return true + seq of seq of ? or false and nil
+	 */
+	@VDMFunction
+	public static Value freadrows(Value fval, Value indexVal, Value countVal)
+	{
+		try
+		{
+			File file = getFile(fval);
+			long index = indexVal.intValue(null);
+			long count = countVal.intValue(null);
+			List<String> lines = CsvIndex.getIndex(file).getLines(index, count);
+
+			return readResult(parseLines(lines, "freadrows"));
+		}
+		catch (Exception e)
+		{
+			lastError = e.toString();
+			return readResult(null);
+		}
+	}
+
 	/**
 	 * Gets the line count of the CSV file
 	 * 
@@ -221,56 +289,65 @@ public class CSV implements Serializable
 
 	private static int getLineCount(File file) throws IOException
 	{
-		BufferedReader bufRdr = new BufferedReader(new FileReader(file));
-		int lines = 0;
-		try
-		{
-			while (bufRdr.readLine() != null)
-			{
-				lines++;
-			}
-		} finally
-		{
-			bufRdr.close();
-		}
-		return lines;
+		return CsvIndex.getIndex(file).getLineCount();
 	}
 
 	private static String getLine(File file, long index) throws IOException
 	{
-		BufferedReader bufRdr = new BufferedReader(new FileReader(file));
-		String line = null;
-		int lineIndex = 0;
+		return CsvIndex.getIndex(file).getLine(index);
+	}
 
-		if (index < 1)
+	/**
+	 * Parse a list of CSV lines, returning a seq of seq of values, or null if any
+	 * line cannot be parsed, with lastError set.
+	 */
+	private static SeqValue parseLines(List<String> lines, String method)
+	{
+		CsvParser parser = new CsvParser(new CsvValueBuilder()
 		{
-			bufRdr.close();
-			throw new IOException("CSV line index before first entry");
-		}
+			@Override
+			public Value createValue(String value) throws Exception
+			{
+				return CSV.createValue("CSV", method, value);
+			}
+		});
 
-		try
+		ValueList rows = new ValueList(lines.size());
+
+		for (String line: lines)
 		{
-			while ((line = bufRdr.readLine()) != null)
-			{
-				lineIndex++;
-				if (lineIndex == index)
-				{
-					break;
-				}
+			CsvResult res = parser.parseValues(line);
 
+			if (!res.dataOk())
+			{
+				lastError = res.getErrorMsg();
+				return null;
 			}
+
+			ValueList cells = new ValueList(res.getValues().size());
+			cells.addAll(res.getValues());
+			rows.add(new SeqValue(cells));
 		}
-		finally
+
+		return new SeqValue(rows);
+	}
+
+	private static Value readResult(SeqValue rows)
+	{
+		ValueList result = new ValueList();
+
+		if (rows == null)
 		{
-			bufRdr.close();
+			result.add(new BooleanValue(false));
+			result.add(new NilValue());
 		}
-
-		if (line == null)
+		else
 		{
-			throw new IOException("CSV no data read. Empty line.");
+			result.add(new BooleanValue(true));
+			result.add(rows);
 		}
 
-		return line;
+		return new TupleValue(result);
 	}
 
 	private static Value createValue(String module, String method, String value)
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+/**
+ * An index of the start offset of every line in a CSV file, so that lines can be read
+ * directly rather than by reading the file from the start. Indexes are cached by file,
+ * and rebuilt if the file's modification time or length changes (eg. after fwriteval).
+ * The cache is a synchronized LRU of at most CACHE_SIZE files. Lines end with LF, CR
+ * or CRLF, as for BufferedReader.readLine.
+ */
+public class CsvIndex
+{
+	private static final int CACHE_SIZE = 32;
+
+	@SuppressWarnings("serial")
+	private static final Map<File, CsvIndex> cache = new LinkedHashMap<File, CsvIndex>(16, 0.75f, true)
+	{
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<File, CsvIndex> eldest)
+		{
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	private final File file;
+	private final long modified;
+	private final long length;
+
+	private long[] starts = new long[1024];
+	private int count = 0;
+
+	private CsvIndex(File file) throws IOException
+	{
+		this.file = file;
+		this.modified = file.lastModified();
+		this.length = file.length();
+
+		build();
+	}
+
+	public static CsvIndex getIndex(File file) throws IOException
+	{
+		synchronized (cache)
+		{
+			CsvIndex index = cache.get(file);
+
+			if (index == null || index.modified != file.lastModified() || index.length != file.length())
+			{
+				index = new CsvIndex(file);
+				cache.put(file, index);
+			}
+
+			return index;
+		}
+	}
+
+	public static void reset()
+	{
+		synchronized (cache)
+		{
+			cache.clear();
+		}
+	}
+
+	public static int getCacheSize()
+	{
+		synchronized (cache)
+		{
+			return cache.size();
+		}
+	}
+
+	public int getLineCount()
+	{
+		return count;
+	}
+
+	/**
+	 * Read "n" lines starting at line "from", numbering the lines from 1. Fewer than
+	 * n lines are returned if the file ends first.
+	 */
+	public List<String> getLines(long from, long n) throws IOException
+	{
+		if (from < 1)
+		{
+			throw new IOException("CSV line index before first entry");
+		}
+
+		List<String> lines = new Vector<String>();
+
+		if (from > count || n < 1)
+		{
+			return lines;
+		}
+
+		int first = (int)(from - 1);
+		int last = (int)Math.min(count, from - 1 + n);		// Exclusive
+		long start = starts[first];
+		long end = (last < count) ? starts[last] : length;
+		byte[] bytes = new byte[(int)(end - start)];
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			raf.seek(start);
+			raf.readFully(bytes);
+		}
+
+		BufferedReader reader = new BufferedReader(
+			new InputStreamReader(new ByteArrayInputStream(bytes), Charset.defaultCharset()));
+		String line = reader.readLine();
+
+		while (line != null)
+		{
+			lines.add(line);
+			line = reader.readLine();
+		}
+
+		return lines;
+	}
+
+	public String getLine(long index) throws IOException
+	{
+		List<String> lines = getLines(index, 1);
+
+		if (lines.isEmpty())
+		{
+			throw new IOException("CSV no data read. Empty line.");
+		}
+
+		return lines.get(0);
+	}
+
+	private void build() throws IOException
+	{
+		try (InputStream in = new BufferedInputStream(new FileInputStream(file)))
+		{
+			byte[] buffer = new byte[65536];
+			long pos = 0;
+			boolean atStart = true;
+			boolean afterCR = false;
+			int read;
+
+			while ((read = in.read(buffer)) > 0)
+			{
+				for (int i = 0; i < read; i++, pos++)
+				{
+					byte b = buffer[i];
+
+					if (afterCR)
+					{
+						afterCR = false;
+
+						if (b == '\n')
+						{
+							continue;	// Second half of CRLF
+						}
+					}
+
+					if (atStart)
+					{
+						add(pos);
+						atStart = false;
+					}
+
+					if (b == '\n')
+					{
+						atStart = true;
+					}
+					else if (b == '\r')
+					{
+						atStart = true;
+						afterCR = true;
+					}
+				}
+			}
+		}
+	}
+
+	private void add(long start)
+	{
+		if (count == starts.length)
+		{
+			starts = Arrays.copyOf(starts, count * 2);
+		}
+
+		starts[count++] = start;
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fujitsu.vdmj.in.modules.INModuleList;
+import com.fujitsu.vdmj.runtime.ModuleInterpreter;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.values.NaturalOneValue;
+import com.fujitsu.vdmj.values.NaturalValue;
+import com.fujitsu.vdmj.values.QuoteValue;
+import com.fujitsu.vdmj.values.SeqValue;
+import com.fujitsu.vdmj.values.Value;
+import com.fujitsu.vdmj.values.ValueList;
+
+import util.CsvIndex;
+
+public class CSVTest
+{
+	private static final String[] ROWS = { "1,2,3", "4,5,6", "\"a\",7,8", "9,10,11" };
+	private static final String ALL = "mk_(true, [[1, 2, 3], [4, 5, 6], [\"a\", 7, 8], [9, 10, 11]])";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void setUp() throws Exception
+	{
+		new ModuleInterpreter(new INModuleList(), new TCModuleList()).init();	// To evaluate cells
+		CsvIndex.reset();
+	}
+
+	@Test
+	public void testLF() throws Exception
+	{
+		checkFile("\n");
+	}
+
+	@Test
+	public void testCRLF() throws Exception
+	{
+		checkFile("\r\n");
+	}
+
+	@Test
+	public void testCR() throws Exception
+	{
+		checkFile("\r");
+	}
+
+	@Test
+	public void testRange() throws Exception
+	{
+		Value file = name(createFile("\n"));
+
+		assertEquals("mk_(true, [[9, 10, 11]])", freadrows(file, 4, 10).toString());
+		assertEquals("mk_(true, [])", freadrows(file, 5, 1).toString());
+		assertEquals("mk_(true, [])", freadrows(file, 2, 0).toString());
+		assertEquals("mk_(false, nil)", CSV.freadrows(file, new NaturalValue(0), new NaturalValue(1)).toString());
+		assertTrue(CSV.ferror().toString().contains("before first entry"));
+	}
+
+	@Test
+	public void testIndexCache() throws Exception
+	{
+		File file = createFile("\n");
+		CsvIndex index = CsvIndex.getIndex(file);
+		assertSame(index, CsvIndex.getIndex(file));
+
+		CSV.fwriteval(name(file), new SeqValue(new ValueList(new NaturalValue(12))), new QuoteValue("append"));
+		file.setLastModified(file.lastModified() + 1000);	// In case of coarse timestamps
+		CsvIndex updated = CsvIndex.getIndex(file);
+		assertNotSame(index, updated);
+		assertEquals(5, updated.getLineCount());
+
+		for (int i = 0; i < 40; i++)
+		{
+			CsvIndex.getIndex(folder.newFile());
+		}
+
+		assertEquals(32, CsvIndex.getCacheSize());
+	}
+
+	private void checkFile(String eol) throws Exception
+	{
+		Value file = name(createFile(eol));
+
+		assertEquals(ALL, CSV.freadall(file).toString());
+		assertEquals(ALL, freadrows(file, 1, 4).toString());
+		assertEquals("mk_(true, [[4, 5, 6], [\"a\", 7, 8]])", freadrows(file, 2, 2).toString());
+		assertEquals("mk_(true, [[9, 10, 11]])", freadrows(file, 4, 1).toString());
+		assertEquals("mk_(true, 4)", CSV.flinecount(file).toString());
+	}
+
+	private Value freadrows(Value file, long index, long count) throws Exception
+	{
+		return CSV.freadrows(file, new NaturalOneValue(index), new NaturalValue(count));
+	}
+
+	private File createFile(String eol) throws Exception
+	{
+		File file = folder.newFile();
+		Files.write(file.toPath(), (String.join(eol, ROWS) + eol).getBytes());
+		return file;
+	}
+
+	private Value name(File file)
+	{
+		return new SeqValue(file.getPath());
+	}
+}
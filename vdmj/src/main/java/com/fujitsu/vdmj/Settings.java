@@ -35,6 +35,7 @@ import com.fujitsu.vdmj.lex.Dialect;
 public class Settings
 {
 	public static Class<? extends VDMJMain> mainClass = null;
+	public static String[] mainArgs = null;
 	public static Release release = Release.DEFAULT;
 	public static Dialect dialect = null;
 	public static Charset filecharset = Charset.defaultCharset();
@@ -46,6 +47,7 @@ public class Settings
 	public static boolean measureChecks = true;
 	public static boolean exceptions = false;
 	public static boolean annotations = false;
+	public static boolean memoise = false;
 	public static boolean verbose = false;
 	public static boolean strict = false;
 	
@@ -50,6 +50,9 @@ public class Properties
 	/** Allow T! and mk_R! types */
 	public static boolean parser_maximal_types = false;
 	
+	/** The number of threads to parse files, or 0 for one per processor. */
+	public static int parser_threads = 1;
+	
 	/** The package list for annotation classes to load. */
 	public static String annotations_packages = "com.fujitsu.vdmj.ast.annotations;annotations.ast";
 	
@@ -67,6 +70,18 @@ public class Properties
 	
 	/** The maximum TC errors reported before "Too many errors". */
 	public static int tc_max_errors = 100;
+
+	/** The maximum number of type comparison results cached, or zero for none. */
+	public static int tc_comparator_cache = 10000;
+
+	/** The number of threads to type check modules and classes, or 0 for one per processor. */
+	public static int tc_threads = 1;
+
+	/** The directory of cached type checked specifications, or null for no cache. */
+	public static String tc_cache_dir = null;
+
+	/** The size of the LRU cache of parsed proof obligations, or zero for none. */
+	public static int pog_parse_cache = 5000;
 	
 	
 	/** The default timeslice (statements executed) for a FCFS policy */
@@ -87,6 +102,15 @@ public class Properties
 	
 	/** The size below which trace function args are expanded. */
 	public static int traces_max_arg_length = 50;
+	
+	/** The number of worker processes to use for runtrace, or 1 for serial. */
+	public static int traces_workers = 1;
+
+	/** The number of worker threads to use for quickcheck, or 1 for serial. */
+	public static int qc_workers = 1;
+
+	/** The directory of cached quickcheck results, or null for no cache. */
+	public static String qc_cache_dir = null;
 
 	
 	/** The default duration for RT statements. */
@@ -107,6 +131,12 @@ public class Properties
 	/** Enable extra RT log diagnostics for timesteps. */
 	public static boolean rt_diags_timestep = false;
 
+	/** Validate RT conjectures as events are logged. */
+	public static boolean rt_validate_online = false;
+
+	/** Stop an RT simulation at the first online conjecture violation. */
+	public static boolean rt_stop_on_violation = false;
+
 	
 	/** The class name for the DebugLink */
 	public static String debug_link_class = null;
@@ -123,6 +153,9 @@ public class Properties
 	/** Whether to do checks during initialization */
 	public static boolean in_init_checks = true;
 
+	/** The maximum number of results held per memoised function */
+	public static int in_memo_limit = 1000;
+
 	/**
 	 * When the class is initialized, which uses the vdmj.properties file, and any System
 	 * properties, to set the static fields above.
@@ -182,6 +215,7 @@ public class Properties
 		parser_comment_nesting = get(vdmj, "vdmj.parser.comment_nesting", 3);
 		parser_merge_comments = get(vdmj, "vdmj.parser.merge_comments", false);
 		parser_maximal_types = get(vdmj, "vdmj.parser.maximal_types", false);
+		parser_threads = get(vdmj, "vdmj.parser.threads", 1);
 
 		annotations_packages = get(vdmj, "vdmj.annotations.packages", "com.fujitsu.vdmj.ast.annotations;annotations.ast");
 		annotations_debug = get(vdmj, "vdmj.annotations.debug", false);
@@ -191,6 +225,10 @@ public class Properties
 		tc_skip_recursive_check = get(vdmj, "vdmj.tc.skip_recursive_check", false);
 		tc_skip_cyclic_check = get(vdmj, "vdmj.tc.skip_cyclic_check", false);
 		tc_max_errors = get(vdmj, "vdmj.tc.max_errors", 100);
+		tc_comparator_cache = get(vdmj, "vdmj.tc.comparator_cache", 10000);
+		tc_threads = get(vdmj, "vdmj.tc.threads", 1);
+		tc_cache_dir = get(vdmj, "vdmj.tc.cache_dir", null);
+		pog_parse_cache = get(vdmj, "vdmj.pog.parse_cache", 5000);
 		
 		scheduler_fcfs_timeslice = get(vdmj, "vdmj.scheduler.fcfs_timeslice", 10);
 		scheduler_virtual_timeslice = get(vdmj, "vdmj.scheduler.virtual_timeslice", 10000);
@@ -199,6 +237,9 @@ public class Properties
 		traces_max_repeats = get(vdmj, "vdmj.traces.max_repeats", 5);
 		traces_save_state = get(vdmj, "vdmj.traces.save_state", false);
 		traces_max_arg_length = get(vdmj, "vdmj.traces.max_arg_length", 50);
+		traces_workers = get(vdmj, "vdmj.traces.workers", 1);
+		qc_workers = get(vdmj, "vdmj.qc.workers", 1);
+		qc_cache_dir = get(vdmj, "vdmj.qc.cache_dir", null);
 		
 		rt_duration_default = get(vdmj, "vdmj.rt.duration_default", 2);
 		rt_duration_transactions = get(vdmj, "vdmj.rt.duration_transactions", false);
@@ -206,10 +247,13 @@ public class Properties
 		rt_max_periodic_overlaps = get(vdmj, "vdmj.rt.max_periodic_overlaps", 20);
 		rt_diags_guards = get(vdmj, "vdmj.rt.diags_guards", false);
 		rt_diags_timestep = get(vdmj, "vdmj.rt.diags_timestep", false);
+		rt_validate_online = get(vdmj, "vdmj.rt.validate_online", false);
+		rt_stop_on_violation = get(vdmj, "vdmj.rt.stop_on_violation", false);
 		
 		in_powerset_limit = get(vdmj, "vdmj.in.powerset_limit", 30);
 		in_typebind_limit = get(vdmj, "vdmj.in.typebind_limit", 100000);
 		in_init_checks = get (vdmj, "vdmj.in.init_checks", true);
+		in_memo_limit = get(vdmj, "vdmj.in.memo_limit", 1000);
 
 		debug_link_class = get(vdmj, "vdmj.debug.link_class", null);		
 		diag_max_stack = get(vdmj, "vdmj.diag.max_stack", 1);
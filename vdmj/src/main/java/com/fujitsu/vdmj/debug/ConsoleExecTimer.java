@@ -32,10 +32,20 @@ import com.fujitsu.vdmj.runtime.Breakpoint;
 public class ConsoleExecTimer extends Thread
 {
 	private final long timer;
+	private final Thread target;
 
 	public ConsoleExecTimer(long timer)
+	{
+		this(timer, null);
+	}
+	
+	/**
+	 * Interrupt only the target thread, or every thread if the target is null.
+	 */
+	public ConsoleExecTimer(long timer, Thread target)
 	{
 		this.timer = timer;
+		this.target = target;
 		setName("ExecTimer");
 	}
 	
@@ -47,7 +57,15 @@ public class ConsoleExecTimer extends Thread
 			try
 			{
 				Thread.sleep(timer);
-				Breakpoint.setExecInterrupt(Breakpoint.TERMINATE);
+				
+				if (target == null)
+				{
+					Breakpoint.setExecInterrupt(Breakpoint.TERMINATE);
+				}
+				else
+				{
+					Breakpoint.setExecInterrupt(target, Breakpoint.TERMINATE);
+				}
 			}
 			catch (InterruptedException e)
 			{
@@ -51,7 +51,8 @@ public abstract class INAnnotation extends INNode implements MappingOptional
 	private static final Set<Class<? extends INAnnotation>> declared = new HashSet<Class<? extends INAnnotation>>(); 
 	private static final List<INAnnotation> instances = new Vector<INAnnotation>();
 	
-	public static boolean suspended = false;
+	public static volatile boolean suspended = false;
+	private static int suspensions = 0;
 
 	public INAnnotation(TCIdentifierToken name, INExpressionList args)
 	{
@@ -69,9 +70,22 @@ public abstract class INAnnotation extends INNode implements MappingOptional
 		instances.clear();
 	}
 	
-	public static void suspend(boolean flag)
+	/**
+	 * Suspensions are counted, so that several threads can suspend annotations
+	 * at once, and they are only resumed when the last thread resumes them.
+	 */
+	public static synchronized void suspend(boolean flag)
 	{
-		suspended = flag;	// Used in INAnnotatedExpression and Statement
+		if (flag)
+		{
+			suspensions++;
+		}
+		else if (suspensions > 0)
+		{
+			suspensions--;
+		}
+
+		suspended = suspensions > 0;	// Used in INAnnotatedExpression and Statement
 	}
 
 	public static void init(Context ctxt)
@@ -156,4 +170,12 @@ public abstract class INAnnotation extends INNode implements MappingOptional
 	{
 		// Do nothing
 	}
+
+	/**
+	 * Override this to return true if the annotated function's results may be memoised.
+	 */
+	public boolean isMemoised()
+	{
+		return false;
+	}
 }
@@ -69,4 +69,20 @@ public class INAnnotationList extends INMappedList<TCAnnotation, INAnnotation>
 		
 		return null;
 	}
+
+	/**
+	 * True if any annotation in the list requests that function results are memoised.
+	 */
+	public boolean isMemoised()
+	{
+		for (INAnnotation instance: this)
+		{
+			if (instance.isMemoised())
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
 }
@@ -70,7 +70,7 @@ public class INAndExpression extends INBooleanBinaryExpression
 				return rv;
 			}
 
-			return new BooleanValue(false);
+			return BooleanValue.valueOf(false);
 		}
 		catch (ValueException e)
 		{
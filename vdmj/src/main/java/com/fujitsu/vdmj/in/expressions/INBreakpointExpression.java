@@ -77,7 +77,7 @@ public class INBreakpointExpression extends INExpression
 				break;
 		}
 
-		return new BooleanValue(rv);
+		return BooleanValue.valueOf(rv);
 	}
 
 	@Override
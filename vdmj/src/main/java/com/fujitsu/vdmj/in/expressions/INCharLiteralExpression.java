@@ -51,7 +51,7 @@ public class INCharLiteralExpression extends INExpression
 	public Value eval(Context ctxt)
 	{
 		breakpoint.check(location, ctxt);
-		return new CharacterValue(value.unicode);
+		return CharacterValue.valueOf(value.unicode);
 	}
 
 	@Override
@@ -59,7 +59,7 @@ public class INDistConcatExpression extends INUnaryExpression
 
     		for (Value v: seqseq)
     		{
-   				result.addAll(v.seqValue(ctxt));
+   				result.append(v.seqValue(ctxt));
     		}
 
     		return new SeqValue(result);
@@ -80,7 +80,7 @@ public class INExists1Expression extends INExpression
 				{
 					if (alreadyFound)
 					{
-						return new BooleanValue(false);
+						return BooleanValue.valueOf(false);
 					}
 
 					alreadyFound = true;
@@ -96,7 +96,7 @@ public class INExists1Expression extends INExpression
 			}
 		}
 
-		return new BooleanValue(alreadyFound);
+		return BooleanValue.valueOf(alreadyFound);
 	}
 
 	@Override
@@ -37,7 +37,7 @@ import com.fujitsu.vdmj.values.NameValuePairList;
 import com.fujitsu.vdmj.values.Quantifier;
 import com.fujitsu.vdmj.values.QuantifierList;
 import com.fujitsu.vdmj.values.Value;
-import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
 
 public class INExistsExpression extends INExpression
 {
@@ -72,7 +72,7 @@ public class INExistsExpression extends INExpression
 
 			for (INMultipleBind mb: bindList)
 			{
-				ValueList bvals = mb.getBindValues(ctxt, false);
+				ValueSource bvals = mb.getBindSource(ctxt, false);
 
 				for (INPattern p: mb.plist)
 				{
@@ -117,7 +117,7 @@ public class INExistsExpression extends INExpression
 							globals.setMaybe(false);
 						}
 						
-						return new BooleanValue(true);
+						return BooleanValue.valueOf(true);
 					}
 				}
 				catch (ValueException e)
@@ -136,7 +136,7 @@ public class INExistsExpression extends INExpression
 			globals.setMaybe(!bindList.hasAllValues());
 		}
 		
-		return new BooleanValue(false);
+		return BooleanValue.valueOf(false);
 	}
 
 	@Override
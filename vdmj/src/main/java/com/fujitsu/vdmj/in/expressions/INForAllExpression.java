@@ -40,7 +40,7 @@ import com.fujitsu.vdmj.values.NameValuePairList;
 import com.fujitsu.vdmj.values.Quantifier;
 import com.fujitsu.vdmj.values.QuantifierList;
 import com.fujitsu.vdmj.values.Value;
-import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
 
 public class INForAllExpression extends INExpression
 {
@@ -75,7 +75,7 @@ public class INForAllExpression extends INExpression
 
 			for (INMultipleBind mb: bindList)
 			{
-				ValueList bvals = mb.getBindValues(ctxt, false);
+				ValueSource bvals = mb.getBindSource(ctxt, false);
 
 				for (INPattern p: mb.plist)
 				{
@@ -120,7 +120,7 @@ public class INForAllExpression extends INExpression
 							globals.setMaybe(false);
 						}
 						
-						return new BooleanValue(false);
+						return BooleanValue.valueOf(false);
 					}
 				}
 				catch (ContextException e)
@@ -149,7 +149,7 @@ public class INForAllExpression extends INExpression
 			globals.setMaybe(!bindList.hasAllValues());
 		}
 		
-		return new BooleanValue(true);
+		return BooleanValue.valueOf(true);
 	}
 
 	@Override
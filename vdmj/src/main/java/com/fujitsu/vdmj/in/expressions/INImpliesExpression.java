@@ -62,7 +62,7 @@ public class INImpliesExpression extends INBooleanBinaryExpression
 				return right.eval(ctxt);
 			}
 
-			return new BooleanValue(true);
+			return BooleanValue.valueOf(true);
 		}
 		catch (ValueException e)
 		{
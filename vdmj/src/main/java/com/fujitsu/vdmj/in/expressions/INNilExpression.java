@@ -50,7 +50,7 @@ public class INNilExpression extends INExpression
 	{
 		breakpoint.check(location, ctxt);
 
-		return new NilValue();
+		return NilValue.valueOf();
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class INNotEqualExpression extends INBinaryExpression
 		Value lv = left.eval(ctxt);
 		Value rv = right.eval(ctxt);
 
-		return new BooleanValue(!lv.equals(rv));
+		return BooleanValue.valueOf(!lv.equals(rv));
 	}
 
 	@Override
@@ -58,6 +58,7 @@ public class INNotYetSpecifiedExpression extends INExpression
 	public Value eval(Context ctxt)
 	{
 		breakpoint.check(location, ctxt);
+		ctxt.threadState.addDelegation();
 
 		if (Settings.dialect == Dialect.VDM_SL)
 		{
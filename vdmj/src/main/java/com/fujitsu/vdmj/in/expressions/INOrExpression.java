@@ -68,7 +68,7 @@ public class INOrExpression extends INBooleanBinaryExpression
 
 				if (lb || rb)
 				{
-					return new BooleanValue(true);
+					return BooleanValue.valueOf(true);
 				}
 				else
 				{
@@ -61,7 +61,7 @@ public class INSameBaseClassExpression extends INExpression
 			if (!l.isType(ObjectValue.class) ||
 				!r.isType(ObjectValue.class))
 			{
-				return new BooleanValue(false);
+				return BooleanValue.valueOf(false);
 			}
 
 			ObjectValue lv = l.objectValue(ctxt);
@@ -74,11 +74,11 @@ public class INSameBaseClassExpression extends INExpression
 			{
 				if (rbases.contains(ltype))
 				{
-					return new BooleanValue(true);
+					return BooleanValue.valueOf(true);
 				}
 			}
 
-			return new BooleanValue(false);
+			return BooleanValue.valueOf(false);
 		}
 		catch (ValueException e)
 		{
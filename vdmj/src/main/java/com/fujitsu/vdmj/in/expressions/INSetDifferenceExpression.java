@@ -55,10 +55,7 @@ public class INSetDifferenceExpression extends INBinaryExpression
 			togo = right.eval(ctxt).setValue(ctxt);
 			result.addAll(left.eval(ctxt).setValue(ctxt));
 
-			for (Value r: togo)
-			{
-				result.remove(r);
-			}
+			result.removeAll(togo);		// Uses togo's hashed contains
 
 			return new SetValue(result);
 		}
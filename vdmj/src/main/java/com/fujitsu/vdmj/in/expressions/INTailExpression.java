@@ -56,7 +56,7 @@ public class INTailExpression extends INUnaryExpression
 
 		try
 		{
-			seq = new ValueList(exp.eval(ctxt).seqValue(ctxt));
+			seq = exp.eval(ctxt).seqValue(ctxt);
 		}
 		catch (ValueException e)
 		{
@@ -68,8 +68,7 @@ public class INTailExpression extends INUnaryExpression
 			abort(4033, "Tail sequence is empty", ctxt);
 		}
 
-		seq.remove(0);
-		return new SeqValue(seq);
+		return new SeqValue(new ValueList(seq, 1, seq.size()));
 	}
 
 	@Override
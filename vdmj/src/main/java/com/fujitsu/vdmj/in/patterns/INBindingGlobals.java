@@ -29,8 +29,15 @@ import com.fujitsu.vdmj.runtime.Context;
 public class INBindingGlobals
 {
 	private static INBindingGlobals INSTANCE = null;
+	private static final ThreadLocal<INBindingGlobals> LOCAL = new ThreadLocal<INBindingGlobals>();
 	
-	public static synchronized INBindingGlobals getInstance()
+	public static INBindingGlobals getInstance()
+	{
+		INBindingGlobals local = LOCAL.get();
+		return local != null ? local : getShared();
+	}
+	
+	private static synchronized INBindingGlobals getShared()
 	{
 		if (INSTANCE == null)
 		{
@@ -40,12 +47,29 @@ public class INBindingGlobals
 		return INSTANCE;
 	}
 	
+	/**
+	 * Set the instance returned by getInstance for the current thread, so that
+	 * several evaluations can run concurrently. Passing null reverts to the
+	 * shared instance.
+	 */
+	public static void setInstance(INBindingGlobals globals)
+	{
+		if (globals == null)
+		{
+			LOCAL.remove();
+		}
+		else
+		{
+			LOCAL.set(globals);
+		}
+	}
+	
 	private Context bindCounterexample = null;
 	private Context bindWitness = null;
 	private boolean bindAllValues = false;
 	private boolean maybe = false;
 
-	private INBindingGlobals()
+	public INBindingGlobals()
 	{
 		clear();
 	}
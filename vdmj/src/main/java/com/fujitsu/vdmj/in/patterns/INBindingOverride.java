@@ -26,12 +26,13 @@ package com.fujitsu.vdmj.in.patterns;
 
 import com.fujitsu.vdmj.tc.types.TCType;
 import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
 
 public class INBindingOverride
 {
 	private final String key;
 	private final TCType type;
-	private ValueList bindValues = null;
+	private ValueSource bindValues = null;
 
 	public INBindingOverride(String key, TCType type)
 	{
@@ -58,14 +59,28 @@ public class INBindingOverride
 		}
 		else
 		{
-			bindValues = new ValueList();
-			bindValues.addAll(values);
+			ValueList copy = new ValueList();
+			copy.addAll(values);
+			bindValues = new ValueSource(copy);
 		}
 	}
 	
+	/**
+	 * Set values that may be generated on demand, as the bind is evaluated.
+	 */
+	public void setBindSource(ValueSource source)
+	{
+		bindValues = source;
+	}
+	
 	public ValueList getBindValues()
 	{
-		return this.bindValues;
+		return bindValues == null ? null : bindValues.getValues();
+	}
+	
+	public ValueSource getBindSource()
+	{
+		return bindValues;
 	}
 	
 	public TCType getType()
@@ -35,6 +35,7 @@ import com.fujitsu.vdmj.runtime.ContextException;
 import com.fujitsu.vdmj.runtime.ValueException;
 import com.fujitsu.vdmj.values.Value;
 import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
 
 /**
  * The parent class of {@link INMultipleSetBind} and {@link INMultipleTypeBind}.
@@ -69,6 +70,12 @@ public abstract class INMultipleBind extends INNode
 	/** Get a list of all the possible values to bind the variables to. */ 
 	abstract public ValueList getBindValues(Context ctxt, boolean permuted) throws ValueException;
 
+	/** Get the values to bind the variables to, which may be generated on demand. */
+	public ValueSource getBindSource(Context ctxt, boolean permuted) throws ValueException
+	{
+		return new ValueSource(getBindValues(ctxt, permuted));
+	}
+
 	/**
 	 * @see org.INDefinition.vdmj.definitions.Definition#abort
 	 */
@@ -35,6 +35,7 @@ import com.fujitsu.vdmj.runtime.ValueException;
 import com.fujitsu.vdmj.tc.types.TCType;
 import com.fujitsu.vdmj.tc.types.visitors.TCParameterCollector;
 import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
 
 public class INMultipleTypeBind extends INMultipleBind
 {
@@ -64,6 +65,17 @@ public class INMultipleTypeBind extends INMultipleBind
 		return type;
 	}
 
+	@Override
+	public ValueSource getBindSource(Context ctxt, boolean permuted) throws ValueException
+	{
+		if (setter != null && setter.hasOverride())
+		{
+			return setter.getBindSource();
+		}
+		
+		return super.getBindSource(ctxt, permuted);
+	}
+
 	@Override
 	public ValueList getBindValues(Context ctxt, boolean permuted) throws ValueException
 	{
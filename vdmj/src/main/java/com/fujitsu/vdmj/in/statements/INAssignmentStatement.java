@@ -31,6 +31,8 @@ import com.fujitsu.vdmj.in.statements.visitors.INStatementVisitor;
 import com.fujitsu.vdmj.lex.Dialect;
 import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.messages.RTLogger;
+import com.fujitsu.vdmj.messages.rtlog.RTEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTInstVarEvent;
 import com.fujitsu.vdmj.runtime.Context;
 import com.fujitsu.vdmj.runtime.ValueException;
 import com.fujitsu.vdmj.tc.types.TCType;
@@ -83,26 +85,11 @@ public class INAssignmentStatement extends INStatement
 		{
 			ObjectValue self = ctxt.getSelf();	// May be a static
 
-			// The showtrace plugin does not like "quotes", nor does it
-			// have a \" type convention, so we substitute for apostrophes.
-			String noquotes = newval.toString().replaceAll("\\\"", "\'");
-
-			if (self == null)
-			{
-    			RTLogger.log(
-    				"InstVarChange -> instnm: \"" + target.toString() + "\"" +
-    				" val: \"" + noquotes + "\"" +
-    				" objref: nil" +
-    				" id: " + Thread.currentThread().getId());
-			}
-			else
-			{
-    			RTLogger.log(
-    				"InstVarChange -> instnm: \"" + target.toString() + "\"" +
-    				" val: \"" + noquotes + "\"" +
-    				" objref: " + self.objectReference +
-    				" id: " + Thread.currentThread().getId());
-			}
+			RTLogger.log(new RTInstVarEvent(
+				target.toString(),
+				newval.toString(),
+				self == null ? RTEvent.NIL : self.objectReference,
+				Thread.currentThread().getId()));
 		}
 
 		return new VoidValue();
@@ -31,6 +31,7 @@ import com.fujitsu.vdmj.tc.types.TCMapType;
 import com.fujitsu.vdmj.tc.types.TCSeqType;
 import com.fujitsu.vdmj.values.MapValue;
 import com.fujitsu.vdmj.values.SeqValue;
+import com.fujitsu.vdmj.values.StateJournal;
 import com.fujitsu.vdmj.values.UpdatableValue;
 import com.fujitsu.vdmj.values.Value;
 import com.fujitsu.vdmj.values.ValueList;
@@ -83,6 +84,7 @@ public class INMapSeqDesignator extends INStateDesignator
 
 					UpdatableValue ur = (UpdatableValue)root;
 					result = UpdatableValue.factory(ur.listeners, mapType.to);
+					StateJournal.extending(ur);
 					map.put(index, result);
 				}
 			}
@@ -99,6 +101,7 @@ public class INMapSeqDesignator extends INStateDesignator
 						// creates the value in order to have it updated.
 
 						UpdatableValue ur = (UpdatableValue)root;
+						StateJournal.extending(ur);
 						seq.add(UpdatableValue.factory(ur.listeners, seqType.seqof));
 					}
 					else
@@ -60,6 +60,7 @@ public class INNotYetSpecifiedStatement extends INStatement
 	public Value eval(Context ctxt)
 	{
 		breakpoint.check(location, ctxt);
+		ctxt.threadState.addDelegation();
 
 		if (Settings.dialect == Dialect.VDM_SL)
 		{
@@ -102,8 +102,8 @@ public class INGetAllValuesVisitor extends TCTypeVisitor<ValueList, Context>
 	public ValueList caseBooleanType(TCBooleanType type, Context ctxt)
 	{
 		ValueList v = new ValueList();
-		v.add(new BooleanValue(true));
-		v.add(new BooleanValue(false));
+		v.add(BooleanValue.valueOf(true));
+		v.add(BooleanValue.valueOf(false));
 		return v;
 	}
 
@@ -220,7 +220,7 @@ public class INGetAllValuesVisitor extends TCTypeVisitor<ValueList, Context>
 	public ValueList caseOptionalType(TCOptionalType type, Context ctxt)
 	{
 		ValueList list = type.type.apply(this, ctxt);
-		list.add(new NilValue());
+		list.add(NilValue.valueOf());
 		return list;
 	}
 
@@ -253,7 +253,7 @@ public class INGetAllValuesVisitor extends TCTypeVisitor<ValueList, Context>
 	public ValueList caseQuoteType(TCQuoteType type, Context ctxt)
 	{
 		ValueList v = new ValueList();
-		v.add(new QuoteValue(type.value));
+		v.add(QuoteValue.valueOf(type.value));
 		return v;
 	}
 
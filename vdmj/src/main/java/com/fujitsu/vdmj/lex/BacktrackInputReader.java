@@ -52,7 +52,7 @@ public class BacktrackInputReader
 	private int pos = 0;
 
 	/** External readers */
-	private static Map<String, Class<? extends ExternalFormatReader>> externalReaders = null;
+	private static volatile Map<String, Class<? extends ExternalFormatReader>> externalReaders = null;
 	
 	/** Ifdef processing */
 	private final IfdefProcessor ifdefProcessor;
@@ -148,17 +148,24 @@ public class BacktrackInputReader
 	@SuppressWarnings("unchecked")
 	private static synchronized void buildExternalReaders() throws Exception
 	{
-		externalReaders = new HashMap<String, Class<? extends ExternalFormatReader>>();
+		if (externalReaders != null)
+		{
+			return;		// Built by another thread
+		}
+		
+		// Only published when complete, because files may be read concurrently
+		Map<String, Class<? extends ExternalFormatReader>> readers =
+			new HashMap<String, Class<? extends ExternalFormatReader>>();
 		
 		// Add the standard readers first
-		externalReaders.put(".tex", LatexStreamReader.class);	// To allow *.tex files
-		externalReaders.put(".latex", LatexStreamReader.class);	// To allow *.latex files
-		externalReaders.put(".doc", DocStreamReader.class);
-		externalReaders.put(".docx", DocxStreamReader.class);
-		externalReaders.put(".odt", ODFStreamReader.class);
-		externalReaders.put(".adoc", AsciiDocStreamReader.class);
-		externalReaders.put(".md", MarkdownStreamReader.class);
-		externalReaders.put(".markdown", MarkdownStreamReader.class);
+		readers.put(".tex", LatexStreamReader.class);	// To allow *.tex files
+		readers.put(".latex", LatexStreamReader.class);	// To allow *.latex files
+		readers.put(".doc", DocStreamReader.class);
+		readers.put(".docx", DocxStreamReader.class);
+		readers.put(".odt", ODFStreamReader.class);
+		readers.put(".adoc", AsciiDocStreamReader.class);
+		readers.put(".md", MarkdownStreamReader.class);
+		readers.put(".markdown", MarkdownStreamReader.class);
 		
 		List<String> userExtReaders = GetResource.readResource("vdmj.readers");
 		
@@ -173,7 +180,7 @@ public class BacktrackInputReader
 					if (parts.length == 2)
 					{
 						Class<? extends ExternalFormatReader> clazz = (Class<? extends ExternalFormatReader>) Class.forName(parts[1]);
-						externalReaders.put(parts[0].toLowerCase(), clazz);
+						readers.put(parts[0].toLowerCase(), clazz);
 					}
 					else
 					{
@@ -186,6 +193,8 @@ public class BacktrackInputReader
 				}
 			}
 		}
+		
+		externalReaders = readers;
 	}
 
 	/**
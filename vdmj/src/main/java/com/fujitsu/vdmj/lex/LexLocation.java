@@ -56,6 +56,21 @@ public class LexLocation implements Serializable, Comparable<LexLocation>
 	/** A map of f/op/class names to their lexical span, for coverage. */
 	private static Map<LexNameToken, LexLocation> nameSpans = new HashMap<LexNameToken, LexLocation>();
 
+	/** The locations and spans created by a thread that is parsing concurrently. */
+	private static ThreadLocal<LocationBuffer> buffers = new ThreadLocal<LocationBuffer>();
+
+	/**
+	 * The locations and spans created while parsing a file on a worker thread. These
+	 * are merged into the static collections above in file order, so that they are the
+	 * same as they would have been if the files were parsed sequentially.
+	 */
+	public static class LocationBuffer
+	{
+		private final List<LexLocation> locations = new Vector<LexLocation>();
+		private final List<LexNameToken> spanNames = new Vector<LexNameToken>();
+		private final List<LexLocation> spans = new Vector<LexLocation>();
+	}
+
 	/** A dummy location meaning "nowhere" */
 	public static final LexLocation ANY = new LexLocation();
 	
@@ -104,8 +119,17 @@ public class LexLocation implements Serializable, Comparable<LexLocation>
 		if (!file.getName().equals("console") &&
 			!file.getName().equals("?"))	// Don't remember junk
 		{
-			allLocations.add(this);
-			uniqueLocations.put(this, this);
+			LocationBuffer buffer = buffers.get();
+			
+			if (buffer != null)
+			{
+				buffer.locations.add(this);
+			}
+			else
+			{
+				allLocations.add(this);
+				uniqueLocations.put(this, this);
+			}
 		}
 	}
 
@@ -245,14 +269,28 @@ public class LexLocation implements Serializable, Comparable<LexLocation>
 		nameSpans =	new HashMap<LexNameToken, LexLocation>();
 	}
 
+	/**
+	 * Remove all of the locations for a file, and any name spans within it. This
+	 * is used when a file is re-parsed, but locations in other files are kept.
+	 */
+	public static void removeLocations(File file)
+	{
+		allLocations.removeIf(l -> l.file.equals(file));
+		uniqueLocations.keySet().removeIf(l -> l.file.equals(file));
+		nameSpans.values().removeIf(span -> span.file.equals(file));
+	}
+
 	public static void clearAfter(File file, int linecount, int charpos)
 	{
 		// Called from the LexTokenReader's pop method, to remove any
 		// locations "popped". We assume any pushes are on the end of
-		// the vector.
+		// the vector, or the thread's buffer if parsing concurrently.
+
+		LocationBuffer buffer = buffers.get();
+		List<LexLocation> locations = (buffer != null) ? buffer.locations : allLocations;
 
 		ListIterator<LexLocation> it =
-			allLocations.listIterator(allLocations.size());
+			locations.listIterator(locations.size());
 
 		while (it.hasPrevious())
 		{
@@ -267,7 +305,11 @@ public class LexLocation implements Serializable, Comparable<LexLocation>
 			else
 			{
 				it.remove();
-				uniqueLocations.remove(l);
+				
+				if (buffer == null)
+				{
+					uniqueLocations.remove(l);
+				}
 			}
 		}
 	}
@@ -282,6 +324,21 @@ public class LexLocation implements Serializable, Comparable<LexLocation>
 			upto.location.endLine,
 			upto.location.endPos);
 		
+		LocationBuffer buffer = buffers.get();
+		
+		if (buffer != null)
+		{
+			buffer.spanNames.add(name);		// Overloads resolved by mergeBuffer
+			buffer.spans.add(span);
+		}
+		else
+		{
+			putSpan(name, span);
+		}
+	}
+	
+	private static void putSpan(LexNameToken name, LexLocation span)
+	{
 		if (nameSpans.get(name) != null)
 		{
 			// Overloaded names use line numbers to distinguish them
@@ -291,6 +348,43 @@ public class LexLocation implements Serializable, Comparable<LexLocation>
 		nameSpans.put(name, span);
 	}
 	
+	/**
+	 * Make the locations and spans created by this thread go into a buffer, rather
+	 * than the static collections. This is used by threads parsing files concurrently.
+	 */
+	public static void startBuffer()
+	{
+		buffers.set(new LocationBuffer());
+	}
+	
+	/**
+	 * Stop buffering this thread's locations, returning those created since startBuffer.
+	 */
+	public static LocationBuffer endBuffer()
+	{
+		LocationBuffer buffer = buffers.get();
+		buffers.remove();
+		return buffer;
+	}
+	
+	/**
+	 * Add the buffered locations and spans from endBuffer. Buffers should be merged
+	 * in the order in which the files would have been parsed sequentially.
+	 */
+	public static synchronized void mergeBuffer(LocationBuffer buffer)
+	{
+		for (LexLocation location: buffer.locations)
+		{
+			allLocations.add(location);
+			uniqueLocations.put(location, location);
+		}
+		
+		for (int i = 0; i < buffer.spanNames.size(); i++)
+		{
+			putSpan(buffer.spanNames.get(i), buffer.spans.get(i));
+		}
+	}
+
 	public static LexLocation getSpan(LexNameToken name)
 	{
 		return nameSpans.get(name);
@@ -26,27 +26,25 @@ package com.fujitsu.vdmj.messages;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.PrintWriter;
-import java.util.LinkedList;
-import java.util.List;
+import java.io.IOException;
 
-import com.fujitsu.vdmj.scheduler.SystemClock;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.messages.rtlog.RTEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTLogWriter;
+import com.fujitsu.vdmj.messages.rtlog.RTTextEvent;
 
 public class RTLogger
 {
-	private static boolean enabled = false;
-	private static List<String> events = new LinkedList<String>();
+	private static volatile boolean enabled = false;
 	private static File logfile;
-	private static PrintWriter writer = null;
-	private static String cached = null;
+	private static volatile RTLogWriter writer = new RTLogWriter();	// Console.out
+	private static boolean validating = false;
 
 	public static synchronized void enable(boolean on)
 	{
 		if (!on)
 		{
 			dump(true);
-			cached = null;
 		}
 
 		enabled = on;
@@ -57,101 +55,56 @@ public class RTLogger
 		return enabled;
 	}
 
-	public static synchronized void log(String event)
+	public static void log(String event)
 	{
-		if (!enabled)
+		if (enabled)
 		{
-			return;
+			log(new RTTextEvent(event));
 		}
-
-		event = event + " time: " + SystemClock.getWallTime();
-
-		if (event.startsWith("ThreadSwapIn") ||
-			event.startsWith("DelayedThreadSwapIn"))
-		{
-			if (cached != null)
-			{
-				doLog(cached);
-			}
-
-			cached = event;
-			return;
-		}
-
-		if (cached != null)
-		{
-			if (event.startsWith("ThreadSwapOut"))
-			{
-				String[] cparts = cached.split("\\s+");
-				String[] eparts = event.split("\\s+");
-
-				if (cparts[0].equals("DelayedThreadSwapIn") &&
-					cparts[3].equals(eparts[3]) &&	// thread
-					cparts[15].equals(eparts[13]))	// time
-				{
-					cached = null;
-					return;
-				}
-
-				if (cparts[0].equals("ThreadSwapIn") &&
-					cparts[3].equals(eparts[3]) &&	// thread
-					cparts[13].equals(eparts[13]))	// time
-				{
-					cached = null;
-					return;
-				}
-			}
-
-			doLog(cached);
-			cached = null;
-		}
-
-		doLog(event);
 	}
 
-	private static void doLog(String event)
+	/**
+	 * Log an event. This does not synchronize, so that the simulation threads do
+	 * not wait for each other while the log is written.
+	 */
+	public static void log(RTEvent event)
 	{
-		if (writer == null)
+		if (enabled)
 		{
-			Console.out.println(event);
-		}
-		else
-		{
-    		events.add(event);
-
-    		if (events.size() > 1000)
-    		{
-    			dump(false);
-    		}
+			writer.add(event);
 		}
 	}
 
-	private static void setLogfile(PrintWriter out)
+	private static synchronized void setLogfile(RTLogWriter out)
 	{
 		enabled = true;
 		dump(true);		// Write out and close previous
+		validating = Properties.rt_validate_online;
+		out.setValidating(validating);
 		writer = out;
-		cached = null;
 	}
 
+	/**
+	 * Log to a file, or Console.out if null. Files with the RTLogWriter.BINARY_SUFFIX
+	 * are written in binary, and can be converted to text by RTLogConverter.
+	 */
 	public static void setLogfileName(File file) throws FileNotFoundException
 	{
 		logfile = file;
 
 		if (file != null)
 		{
-			PrintWriter p = new PrintWriter(new FileOutputStream(file, false));
-			setLogfile(p);
+			setLogfile(new RTLogWriter(file));
 		}
 		else
 		{
-			setLogfile(null);	// Use Console.out
+			setLogfile(new RTLogWriter());	// Use Console.out
 		}
 	}
 
 	public static int getLogSize()
 	{
-		return events.size();
+		return writer.size();
 	}
 	
 	public static File getLogfileName()
@@ -161,22 +114,29 @@ public class RTLogger
 
 	public static synchronized void dump(boolean close)
 	{
-		if (writer != null)
+		if (close && validating)
 		{
-    		for (String event: events)
-    		{
-    			writer.println(event);
-    		}
+			validating = false;
 
-    		writer.flush();
-    		events.clear();
+			try
+			{
+				RTValidator.stopOnline(logfile == null ? null :
+					new File(logfile.getAbsolutePath() + ".violations"));
+			}
+			catch (IOException e)
+			{
+				Console.err.println("Cannot write RT violations: " + e.getMessage());
+			}
+		}
 
-    		if (close)
-    		{
-    			writer.close();
-    			writer = null;
-    			cached = null;
-    		}
+		if (close)
+		{
+			writer.close();
+			writer = new RTLogWriter();		// Use Console.out
+		}
+		else
+		{
+			writer.flush();
 		}
 	}
 }
@@ -34,9 +34,15 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.fujitsu.vdmj.config.Properties;
 import com.fujitsu.vdmj.in.annotations.INAnnotation;
 import com.fujitsu.vdmj.in.definitions.INSystemDefinition;
 import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.messages.rtlog.RTEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTInstVarEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTLogConverter;
+import com.fujitsu.vdmj.messages.rtlog.RTLogWriter;
+import com.fujitsu.vdmj.messages.rtlog.RTOperationEvent;
 import com.fujitsu.vdmj.runtime.Context;
 import com.fujitsu.vdmj.tc.lex.TCNameToken;
 import com.fujitsu.vdmj.values.CPUValue;
@@ -53,6 +59,15 @@ public class RTValidator
 	private static final Pattern TYPE = Pattern.compile("(\\w+) ->");
 	private static final Pattern ITEM = Pattern.compile(" (\\w+): ((\"[^\"]+\")|(\\w+))");
 	private static List<INAnnotation> conjectures = null;
+
+	/**
+	 * Online validation state, used when events are processed as they are logged
+	 * rather than by reading the log after the simulation.
+	 */
+	private static List<INAnnotation> online = null;
+	private static Context onlineContext = null;
+	private static String onlineSystem = null;
+	private static int onlineFailures = 0;
 	
 	public static int validate(File logfile) throws IOException
 	{
@@ -61,6 +76,28 @@ public class RTValidator
 			throw new IOException("No conjectures found in specification");
 		}
 		
+		if (RTLogWriter.isBinary(logfile))
+		{
+			File logrt = File.createTempFile("vdmj", ".logrt");
+			
+			try
+			{
+				RTLogConverter.convert(logfile, logrt);
+				return validate(logrt, new File(logfile.getAbsolutePath() + ".violations"));
+			}
+			finally
+			{
+				logrt.delete();
+			}
+		}
+		else
+		{
+			return validate(logfile, new File(logfile.getAbsolutePath() + ".violations"));
+		}
+	}
+	
+	private static int validate(File logfile, File violations) throws IOException
+	{
 		BufferedReader br = null;
 		
 		try
@@ -69,9 +106,7 @@ public class RTValidator
 			String line = br.readLine();
 			Context ctxt = new Context(LexLocation.ANY, "Conjecture context", null);
 			ctxt.setThreadState(CPUValue.vCPU);
-
-			ObjectValue sysObject = INSystemDefinition.getSystemObject();
-			String systemName = sysObject == null ? "SYS" : sysObject.classdef.name.getName();
+			String systemName = getSystemName();
 			
 			while (line != null)
 			{
@@ -85,17 +120,7 @@ public class RTValidator
 					// InstVarChange -> instnm: "counts((A`interval + 1))" val: "1" objref: 1 id: 15 time: 255
 					// InstVarChange -> instnm: "last" val: "227" objref: 1 id: 15 time: 259
 					
-					TCNameToken tcname = new TCNameToken(LexLocation.ANY, systemName, name);
-					
-					try
-					{
-						long v = Long.parseLong(value);
-						ctxt.put(tcname, new IntegerValue(v));
-					}
-					catch (NumberFormatException e)
-					{
-						ctxt.put(tcname, new SeqValue(value));
-					}
+					setInstVar(name, value, systemName, ctxt);
 				}
 				else
 				{
@@ -105,7 +130,7 @@ public class RTValidator
 				line = br.readLine();
 			}
 			
-			return writeViolations(new File(logfile.getAbsolutePath() + ".violations"));
+			return writeViolations(conjectures, violations);
 		}
 		finally
 		{
@@ -123,6 +148,164 @@ public class RTValidator
 		}
 	}
 
+	/**
+	 * Start validating events online, as they are passed to validate(RTEvent). This
+	 * returns false if there are no conjectures in the specification.
+	 */
+	public static synchronized boolean startOnline()
+	{
+		online = INAnnotation.getInstances(ConjectureProcessor.class);
+
+		if (online.isEmpty())
+		{
+			online = null;
+			return false;
+		}
+
+		for (INAnnotation annotation: online)
+		{
+			ConjectureProcessor processor = (ConjectureProcessor) annotation;
+			processor.processReset();
+		}
+
+		onlineContext = new Context(LexLocation.ANY, "Conjecture context", null);
+		onlineContext.setThreadState(CPUValue.vCPU);
+		onlineContext.threadState.setAtomic(true);	// Conditions are evaluated on simulation threads
+		onlineSystem = getSystemName();
+		onlineFailures = 0;
+		return true;
+	}
+
+	public static synchronized boolean isOnline()
+	{
+		return online != null;
+	}
+
+	/**
+	 * Process one event online. Failures are reported as they occur, and if the
+	 * rt_stop_on_violation property is set, the first failure throws a
+	 * ConjectureException to stop the simulation thread that raised the event.
+	 */
+	public static synchronized void validate(RTEvent event)
+	{
+		if (online == null)
+		{
+			return;
+		}
+
+		if (event instanceof RTInstVarEvent)
+		{
+			RTInstVarEvent ivc = (RTInstVarEvent)event;
+			setInstVar(ivc.instnm, ivc.val.replace('"', '\''), onlineSystem, onlineContext);
+		}
+		else if (event instanceof RTOperationEvent)
+		{
+			Map<String, String> record = record((RTOperationEvent)event);
+
+			for (INAnnotation annotation: online)
+			{
+				ConjectureProcessor processor = (ConjectureProcessor) annotation;
+
+				if (!processor.process(record, onlineContext))
+				{
+					onlineFailures++;
+					String message = "Conjecture " + annotation + " failed at " + event;
+					Console.err.println(message);
+
+					if (Properties.rt_stop_on_violation)
+					{
+						throw new ConjectureException(message);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stop online validation, writing the violations file if one is passed, and
+	 * returning the number of failures found.
+	 */
+	public static synchronized int stopOnline(File violations) throws IOException
+	{
+		if (online == null)
+		{
+			return 0;
+		}
+
+		try
+		{
+			if (violations == null)
+			{
+				return onlineFailures;
+			}
+
+			return writeViolations(online, violations);
+		}
+		finally
+		{
+			online = null;
+			onlineContext = null;
+		}
+	}
+
+	/**
+	 * Create the same record for an operation event as parse() produces from its text.
+	 */
+	private static Map<String, String> record(RTOperationEvent event)
+	{
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		int paren = event.opname.indexOf('(');
+		String opname = paren < 0 ? event.opname : event.opname.substring(0, paren);
+
+		map.put(KIND, event.kind.text);
+		map.put("id", Long.toString(event.id));
+		map.put("opname", "\"" + event.opname + "\"");
+		map.put("objref", event.objref == RTEvent.NIL ? "nil" : Long.toString(event.objref));
+		map.put("clnm", event.clnm == null ? "nil" : "\"" + event.clnm + "\"");
+		map.put("cpunm", Long.toString(event.cpunm));
+		map.put("async", Boolean.toString(event.async));
+		map.put("time", Long.toString(event.time));
+		map.put(OPNAME, opname);
+
+		switch (event.kind)
+		{
+			case REQUEST:
+				map.put(HISTORY, "#req(" + opname + ")");
+				break;
+
+			case ACTIVATE:
+				map.put(HISTORY, "#act(" + opname + ")");
+				break;
+
+			case COMPLETED:
+				map.put(HISTORY, "#fin(" + opname + ")");
+				break;
+		}
+
+		return map;
+	}
+
+	private static String getSystemName()
+	{
+		ObjectValue sysObject = INSystemDefinition.getSystemObject();
+		return sysObject == null ? "SYS" : sysObject.classdef.name.getName();
+	}
+
+	private static void setInstVar(String name, String value, String systemName, Context ctxt)
+	{
+		TCNameToken tcname = new TCNameToken(LexLocation.ANY, systemName, name);
+		
+		try
+		{
+			long v = Long.parseLong(value);
+			ctxt.put(tcname, new IntegerValue(v));
+		}
+		catch (NumberFormatException e)
+		{
+			ctxt.put(tcname, new SeqValue(value));
+		}
+	}
+
 	private static Map<String, String> parse(String line) throws IOException
 	{
 		Map<String, String> map = new LinkedHashMap<String, String>();
@@ -193,18 +376,18 @@ public class RTValidator
 		for (INAnnotation annotation: conjectures)
 		{
 			ConjectureProcessor processor = (ConjectureProcessor) annotation;
-			result = result && processor.process(record, ctxt);
+			result = processor.process(record, ctxt) && result;	// Every processor sees every record
 		}
 		
 		return result;
 	}
 
-	private static int writeViolations(File violations) throws IOException
+	private static int writeViolations(List<INAnnotation> processors, File violations) throws IOException
 	{
 		int count = 0;
 		violations.delete();
 		
-		for (INAnnotation annotation: conjectures)
+		for (INAnnotation annotation: processors)
 		{
 			ConjectureProcessor processor = (ConjectureProcessor) annotation;
 			count += processor.processComplete(violations);
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fujitsu.vdmj.scheduler.SystemClock;
+
+/**
+ * The root of all VDM-RT log events. An event is stamped with the wall time when it
+ * is created. Events can be written in a compact binary form, and read back, or
+ * converted to the text of the traditional logrt format.
+ */
+abstract public class RTEvent
+{
+	/** Binary type tags for each event class */
+	protected static final int THREAD = 1;
+	protected static final int MESSAGE = 2;
+	protected static final int OPERATION = 3;
+	protected static final int INSTVAR = 4;
+	protected static final int TEXT = 5;
+
+	/** An objref for "nil" */
+	public static final long NIL = -1;
+
+	public final long time;
+
+	protected RTEvent()
+	{
+		this.time = SystemClock.getWallTime();
+	}
+
+	protected RTEvent(DataInput in) throws IOException
+	{
+		this.time = in.readLong();
+	}
+
+	/**
+	 * The logrt text of the event, without the time.
+	 */
+	abstract public String getText();
+
+	abstract protected int getType();
+
+	abstract protected void writeFields(DataOutput out) throws IOException;
+
+	public void write(DataOutput out) throws IOException
+	{
+		out.writeByte(getType());
+		out.writeLong(time);
+		writeFields(out);
+	}
+
+	/**
+	 * Read the next event, as written by the write method.
+	 */
+	public static RTEvent read(DataInput in) throws IOException
+	{
+		int type = in.readByte();
+
+		switch (type)
+		{
+			case THREAD:
+				return new RTThreadEvent(in);
+
+			case MESSAGE:
+				return new RTMessageEvent(in);
+
+			case OPERATION:
+				return new RTOperationEvent(in);
+
+			case INSTVAR:
+				return new RTInstVarEvent(in);
+
+			case TEXT:
+				return new RTTextEvent(in);
+
+			default:
+				throw new IOException("Unknown RT event type " + type);
+		}
+	}
+
+	@Override
+	public String toString()
+	{
+		return getText() + " time: " + time;
+	}
+
+	/**
+	 * Strings can be null, and are not limited to 64K like writeUTF.
+	 */
+	protected static void writeString(DataOutput out, String s) throws IOException
+	{
+		if (s == null)
+		{
+			out.writeInt(-1);
+		}
+		else
+		{
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	protected static String readString(DataInput in) throws IOException
+	{
+		int length = in.readInt();
+
+		if (length < 0)
+		{
+			return null;
+		}
+		else
+		{
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	protected static String objref(long ref)
+	{
+		return ref == NIL ? "nil" : Long.toString(ref);
+	}
+
+	protected static String clnm(String name)
+	{
+		return name == null ? "nil" : "\"" + name + "\"";
+	}
+}
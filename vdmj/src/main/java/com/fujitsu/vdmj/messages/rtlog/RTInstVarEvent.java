@@ -0,0 +1,85 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Instance variable change events, for variables that are used in conjectures.
+ */
+public class RTInstVarEvent extends RTEvent
+{
+	public final String instnm;
+	public final String val;
+	public final long objref;
+	public final long id;
+
+	public RTInstVarEvent(String instnm, String val, long objref, long id)
+	{
+		this.instnm = instnm;
+		this.val = val;
+		this.objref = objref;
+		this.id = id;
+	}
+
+	protected RTInstVarEvent(DataInput in) throws IOException
+	{
+		super(in);
+		this.instnm = readString(in);
+		this.val = readString(in);
+		this.objref = in.readLong();
+		this.id = in.readLong();
+	}
+
+	@Override
+	public String getText()
+	{
+		// The showtrace plugin does not like "quotes", nor does it
+		// have a \" type convention, so we substitute for apostrophes.
+		String noquotes = val.replaceAll("\\\"", "\'");
+
+		return "InstVarChange -> instnm: \"" + instnm + "\"" +
+			" val: \"" + noquotes + "\"" +
+			" objref: " + objref(objref) +
+			" id: " + id;
+	}
+
+	@Override
+	protected int getType()
+	{
+		return INSTVAR;
+	}
+
+	@Override
+	protected void writeFields(DataOutput out) throws IOException
+	{
+		writeString(out, instnm);
+		writeString(out, val);
+		out.writeLong(objref);
+		out.writeLong(id);
+	}
+}
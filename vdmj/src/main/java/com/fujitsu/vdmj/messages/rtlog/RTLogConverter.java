@@ -0,0 +1,83 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Convert a binary RT log into the logrt text format, for tools that need it.
+ */
+public class RTLogConverter
+{
+	public static void convert(File binary, File logrt) throws IOException
+	{
+		try (RTLogReader reader = new RTLogReader(binary);
+			 PrintWriter writer = new PrintWriter(new FileOutputStream(logrt, false)))
+		{
+			RTEvent event = reader.next();
+
+			while (event != null)
+			{
+				writer.println(event);
+				event = reader.next();
+			}
+		}
+	}
+
+	public static void main(String[] args)
+	{
+		if (args.length < 1 || args.length > 2)
+		{
+			System.err.println("Usage: RTLogConverter <file" + RTLogWriter.BINARY_SUFFIX + "> [<file.logrt>]");
+			System.exit(1);
+		}
+
+		File binary = new File(args[0]);
+		File logrt = null;
+
+		if (args.length == 2)
+		{
+			logrt = new File(args[1]);
+		}
+		else
+		{
+			String name = binary.getPath().replaceFirst("\\" + RTLogWriter.BINARY_SUFFIX + "$", "");
+			logrt = new File(name + ".logrt");
+		}
+
+		try
+		{
+			convert(binary, logrt);
+		}
+		catch (IOException e)
+		{
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+}
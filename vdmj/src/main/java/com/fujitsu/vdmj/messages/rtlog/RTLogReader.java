@@ -0,0 +1,80 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Read the events from a binary RT log, as written by RTLogWriter.
+ */
+public class RTLogReader implements Closeable
+{
+	private final DataInputStream in;
+
+	public RTLogReader(File file) throws IOException
+	{
+		in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 65536));
+
+		try
+		{
+			if (in.readInt() != RTLogWriter.MAGIC)
+			{
+				throw new IOException("Not a binary RT log: " + file);
+			}
+		}
+		catch (IOException e)
+		{
+			in.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Return the next event, or null at the end of the log.
+	 */
+	public RTEvent next() throws IOException
+	{
+		try
+		{
+			return RTEvent.read(in);
+		}
+		catch (EOFException e)
+		{
+			return null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		in.close();
+	}
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.fujitsu.vdmj.messages.Console;
+import com.fujitsu.vdmj.messages.RTValidator;
+
+/**
+ * Write RT events to a log file, or to Console.out. Events are added to a lock-free
+ * queue by the scheduling threads, and written in batches by whichever logging thread
+ * fills a batch, without making the others wait. There is no writer thread, because
+ * that would change the thread ids that appear in the log.
+ * 
+ * Files are written as logrt text, or in a compact binary form if the file name ends
+ * with BINARY_SUFFIX.
+ */
+public class RTLogWriter
+{
+	/** Log files with this suffix are written in binary */
+	public static final String BINARY_SUFFIX = ".rtbin";
+
+	/** The magic number at the start of a binary log */
+	public static final int MAGIC = 0x56524C31;	// "VRL1"
+
+	/** Queued events are written when this many are queued */
+	private static final int BATCH = 1000;
+
+	/** The logging threads wait for the writing if this many are queued */
+	private static final int LIMIT = 100000;
+
+	private final ConcurrentLinkedQueue<RTEvent> queue = new ConcurrentLinkedQueue<RTEvent>();
+	private final AtomicInteger queued = new AtomicInteger(0);
+	private final ReentrantLock lock = new ReentrantLock();
+	private final PrintWriter text;
+	private final DataOutputStream binary;
+	private RTThreadEvent cached = null;
+	private volatile boolean validating = false;
+	private IOException failure = null;
+
+	/**
+	 * Write events to Console.out, as they are logged.
+	 */
+	public RTLogWriter()
+	{
+		text = null;
+		binary = null;
+	}
+
+	public RTLogWriter(File file) throws FileNotFoundException
+	{
+		FileOutputStream out = new FileOutputStream(file, false);
+
+		if (isBinary(file))
+		{
+			binary = new DataOutputStream(new BufferedOutputStream(out, 65536));
+			text = null;
+
+			try
+			{
+				binary.writeInt(MAGIC);
+			}
+			catch (IOException e)
+			{
+				failure = e;
+			}
+		}
+		else
+		{
+			text = new PrintWriter(out);
+			binary = null;
+		}
+	}
+
+	public static boolean isBinary(File file)
+	{
+		return file.getName().endsWith(BINARY_SUFFIX);
+	}
+
+	/**
+	 * Validate events online as they are written. Events are then written as they
+	 * are logged, so that a ConjectureException is thrown to the thread that logged
+	 * the failing event.
+	 */
+	public void setValidating(boolean validating)
+	{
+		this.validating = validating;
+	}
+
+	private boolean isConsole()
+	{
+		return text == null && binary == null;
+	}
+
+	public void add(RTEvent event)
+	{
+		if (validating || isConsole())
+		{
+			lock.lock();
+
+			try
+			{
+				queue.add(event);
+				queued.incrementAndGet();
+				drain();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+		else
+		{
+			queue.add(event);
+			int size = queued.incrementAndGet();
+
+			if (size > LIMIT)
+			{
+				lock.lock();	// The writing is not keeping up
+			}
+			else if (size < BATCH || !lock.tryLock())
+			{
+				return;		// Another thread is writing
+			}
+
+			try
+			{
+				drain();
+			}
+			finally
+			{
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * The number of events that have been logged, but not written yet.
+	 */
+	public int size()
+	{
+		return queued.get();
+	}
+
+	/**
+	 * Write any queued events, in order. Thread swap-ins are held back until the
+	 * next event, so that a thread swapped in and out at the same time is not logged.
+	 * This is called with the lock held.
+	 */
+	private void drain()
+	{
+		RTEvent event = queue.poll();
+
+		while (event != null)
+		{
+			queued.decrementAndGet();
+
+			if (event instanceof RTThreadEvent && ((RTThreadEvent)event).isSwapIn())
+			{
+				if (cached != null)
+				{
+					write(cached);
+				}
+
+				cached = (RTThreadEvent)event;
+			}
+			else
+			{
+				RTThreadEvent swapin = cached;
+				cached = null;
+
+				if (swapin == null)
+				{
+					write(event);
+				}
+				else if (!isSwapOut(swapin, event))
+				{
+					write(swapin);
+					write(event);
+				}
+			}
+
+			event = queue.poll();
+		}
+	}
+
+	private boolean isSwapOut(RTThreadEvent swapin, RTEvent event)
+	{
+		if (event instanceof RTThreadEvent)
+		{
+			RTThreadEvent swap = (RTThreadEvent)event;
+
+			return swap.kind == RTThreadEvent.Kind.SWAP_OUT &&
+				swapin.id == swap.id &&
+				swapin.time == swap.time;
+		}
+
+		return false;
+	}
+
+	private void write(RTEvent event)
+	{
+		if (isConsole())
+		{
+			Console.out.println(event.toString());
+		}
+		else if (text != null)
+		{
+			text.println(event);
+		}
+		else if (failure == null)
+		{
+			try
+			{
+				event.write(binary);
+			}
+			catch (IOException e)
+			{
+				failure = e;
+			}
+		}
+
+		if (validating)
+		{
+			// Conjectures only exist once the interpreter has been created, which is
+			// after the log file is set, so online validation starts with the first event.
+
+			if (RTValidator.isOnline() || RTValidator.startOnline())
+			{
+				RTValidator.validate(event);	// May throw ConjectureException
+			}
+			else
+			{
+				validating = false;		// No conjectures to validate
+			}
+		}
+	}
+
+	public void flush()
+	{
+		lock.lock();
+
+		try
+		{
+			drain();
+
+			if (text != null)
+			{
+				text.flush();
+			}
+			else if (binary != null && failure == null)
+			{
+				try
+				{
+					binary.flush();
+				}
+				catch (IOException e)
+				{
+					failure = e;
+				}
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Write any queued events and close the file. A swap-in that is still held
+	 * back is not written.
+	 */
+	public void close()
+	{
+		lock.lock();
+
+		try
+		{
+			validating = false;
+			flush();
+			cached = null;
+
+			if (text != null)
+			{
+				text.close();
+			}
+			else if (binary != null)
+			{
+				try
+				{
+					binary.close();
+				}
+				catch (IOException e)
+				{
+					if (failure == null) failure = e;
+				}
+			}
+
+			if (failure != null)
+			{
+				System.err.println("RT log write failed: " + failure.getMessage());
+			}
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * BUS message request, reply, activation and completion events.
+ */
+public class RTMessageEvent extends RTEvent
+{
+	public enum Kind
+	{
+		REQUEST("MessageRequest"),
+		REPLY("ReplyRequest"),
+		ACTIVATE("MessageActivate"),
+		COMPLETED("MessageCompleted");
+
+		public final String text;
+
+		private Kind(String text)
+		{
+			this.text = text;
+		}
+	}
+
+	public final Kind kind;
+	public final long busid;
+	public final long fromcpu;
+	public final long tocpu;
+	public final long msgid;
+	public final long origmsgid;
+	public final long callthr;
+	public final long calleethr;
+	public final String opname;
+	public final long objref;
+	public final long size;
+
+	private RTMessageEvent(Kind kind, long busid, long fromcpu, long tocpu, long msgid, long origmsgid,
+		long callthr, long calleethr, String opname, long objref, long size)
+	{
+		this.kind = kind;
+		this.busid = busid;
+		this.fromcpu = fromcpu;
+		this.tocpu = tocpu;
+		this.msgid = msgid;
+		this.origmsgid = origmsgid;
+		this.callthr = callthr;
+		this.calleethr = calleethr;
+		this.opname = opname;
+		this.objref = objref;
+		this.size = size;
+	}
+
+	protected RTMessageEvent(DataInput in) throws IOException
+	{
+		super(in);
+		this.kind = Kind.values()[in.readByte()];
+		this.busid = in.readLong();
+		this.fromcpu = in.readLong();
+		this.tocpu = in.readLong();
+		this.msgid = in.readLong();
+		this.origmsgid = in.readLong();
+		this.callthr = in.readLong();
+		this.calleethr = in.readLong();
+		this.opname = readString(in);
+		this.objref = in.readLong();
+		this.size = in.readLong();
+	}
+
+	public static RTMessageEvent request(long busid, long fromcpu, long tocpu, long msgid,
+		long callthr, String opname, long objref, long size)
+	{
+		return new RTMessageEvent(Kind.REQUEST, busid, fromcpu, tocpu, msgid, 0, callthr, 0, opname, objref, size);
+	}
+
+	public static RTMessageEvent reply(long busid, long fromcpu, long tocpu, long msgid, long origmsgid,
+		long callthr, long calleethr, long size)
+	{
+		return new RTMessageEvent(Kind.REPLY, busid, fromcpu, tocpu, msgid, origmsgid, callthr, calleethr, null, NIL, size);
+	}
+
+	public static RTMessageEvent activate(long msgid)
+	{
+		return new RTMessageEvent(Kind.ACTIVATE, 0, 0, 0, msgid, 0, 0, 0, null, NIL, 0);
+	}
+
+	public static RTMessageEvent completed(long msgid)
+	{
+		return new RTMessageEvent(Kind.COMPLETED, 0, 0, 0, msgid, 0, 0, 0, null, NIL, 0);
+	}
+
+	@Override
+	public String getText()
+	{
+		switch (kind)
+		{
+			case REQUEST:
+				return kind.text + " -> busid: " + busid + " fromcpu: " + fromcpu + " tocpu: " + tocpu +
+					" msgid: " + msgid + " callthr: " + callthr + " opname: \"" + opname + "\"" +
+					" objref: " + objref(objref) + " size: " + size;
+
+			case REPLY:
+				return kind.text + " -> busid: " + busid + " fromcpu: " + fromcpu + " tocpu: " + tocpu +
+					" msgid: " + msgid + " origmsgid: " + origmsgid + " callthr: " + callthr +
+					" calleethr: " + calleethr + " size: " + size;
+
+			case ACTIVATE:
+			case COMPLETED:
+				return kind.text + " -> msgid: " + msgid;
+
+			default:
+				return kind.text;
+		}
+	}
+
+	@Override
+	protected int getType()
+	{
+		return MESSAGE;
+	}
+
+	@Override
+	protected void writeFields(DataOutput out) throws IOException
+	{
+		out.writeByte(kind.ordinal());
+		out.writeLong(busid);
+		out.writeLong(fromcpu);
+		out.writeLong(tocpu);
+		out.writeLong(msgid);
+		out.writeLong(origmsgid);
+		out.writeLong(callthr);
+		out.writeLong(calleethr);
+		writeString(out, opname);
+		out.writeLong(objref);
+		out.writeLong(size);
+	}
+}
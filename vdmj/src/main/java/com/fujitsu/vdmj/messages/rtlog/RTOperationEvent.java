@@ -0,0 +1,106 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Operation request, activation and completion events.
+ */
+public class RTOperationEvent extends RTEvent
+{
+	public enum Kind
+	{
+		REQUEST("OpRequest"),
+		ACTIVATE("OpActivate"),
+		COMPLETED("OpCompleted");
+
+		public final String text;
+
+		private Kind(String text)
+		{
+			this.text = text;
+		}
+	}
+
+	public final Kind kind;
+	public final long id;
+	public final String opname;
+	public final long objref;
+	public final String clnm;
+	public final long cpunm;
+	public final boolean async;
+
+	public RTOperationEvent(Kind kind, long id, String opname, long objref, String clnm, long cpunm, boolean async)
+	{
+		this.kind = kind;
+		this.id = id;
+		this.opname = opname;
+		this.objref = objref;
+		this.clnm = clnm;
+		this.cpunm = cpunm;
+		this.async = async;
+	}
+
+	protected RTOperationEvent(DataInput in) throws IOException
+	{
+		super(in);
+		this.kind = Kind.values()[in.readByte()];
+		this.id = in.readLong();
+		this.opname = readString(in);
+		this.objref = in.readLong();
+		this.clnm = readString(in);
+		this.cpunm = in.readLong();
+		this.async = in.readBoolean();
+	}
+
+	@Override
+	public String getText()
+	{
+		return kind.text + " -> id: " + id + " opname: \"" + opname + "\"" +
+			" objref: " + objref(objref) + " clnm: " + clnm(clnm) +
+			" cpunm: " + cpunm + " async: " + async;
+	}
+
+	@Override
+	protected int getType()
+	{
+		return OPERATION;
+	}
+
+	@Override
+	protected void writeFields(DataOutput out) throws IOException
+	{
+		out.writeByte(kind.ordinal());
+		out.writeLong(id);
+		writeString(out, opname);
+		out.writeLong(objref);
+		writeString(out, clnm);
+		out.writeLong(cpunm);
+		out.writeBoolean(async);
+	}
+}
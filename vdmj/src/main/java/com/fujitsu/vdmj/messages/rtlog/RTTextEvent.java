@@ -0,0 +1,66 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Any other event, such as CPU/BUS declarations and "--" diagnostics, as logrt text.
+ */
+public class RTTextEvent extends RTEvent
+{
+	public final String text;
+
+	public RTTextEvent(String text)
+	{
+		this.text = text;
+	}
+
+	protected RTTextEvent(DataInput in) throws IOException
+	{
+		super(in);
+		this.text = readString(in);
+	}
+
+	@Override
+	public String getText()
+	{
+		return text;
+	}
+
+	@Override
+	protected int getType()
+	{
+		return TEXT;
+	}
+
+	@Override
+	protected void writeFields(DataOutput out) throws IOException
+	{
+		writeString(out, text);
+	}
+}
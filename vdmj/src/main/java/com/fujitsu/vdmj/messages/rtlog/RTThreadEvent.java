@@ -0,0 +1,190 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.messages.rtlog;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Thread creation, swap in/out and kill events.
+ */
+public class RTThreadEvent extends RTEvent
+{
+	public enum Kind
+	{
+		CREATE("ThreadCreate"),
+		SWAP_IN("ThreadSwapIn"),
+		DELAYED_SWAP_IN("DelayedThreadSwapIn"),
+		SWAP_OUT("ThreadSwapOut"),
+		KILL("ThreadKill");
+
+		public final String text;
+
+		private Kind(String text)
+		{
+			this.text = text;
+		}
+	}
+
+	public final Kind kind;
+	public final long id;
+	public final boolean periodic;
+	public final long objref;
+	public final String clnm;
+	public final long cpunm;
+	public final long delay;
+	public final boolean system;
+
+	private RTThreadEvent(Kind kind, long id, boolean periodic, long objref, String clnm, long cpunm, long delay)
+	{
+		this(kind, id, periodic, objref, clnm, cpunm, delay, false);
+	}
+
+	private RTThreadEvent(Kind kind, long id, boolean periodic, long objref, String clnm, long cpunm, long delay,
+		boolean system)
+	{
+		this.kind = kind;
+		this.id = id;
+		this.periodic = periodic;
+		this.objref = objref;
+		this.clnm = clnm;
+		this.cpunm = cpunm;
+		this.delay = delay;
+		this.system = system;
+	}
+
+	protected RTThreadEvent(DataInput in) throws IOException
+	{
+		super(in);
+		this.kind = Kind.values()[in.readByte()];
+		this.id = in.readLong();
+		this.periodic = in.readBoolean();
+		this.objref = in.readLong();
+		this.clnm = readString(in);
+		this.cpunm = in.readLong();
+		this.delay = in.readLong();
+		this.system = in.readBoolean();
+	}
+
+	/**
+	 * Objects are passed as their objref and class name, or NIL and null.
+	 */
+	public static RTThreadEvent create(long id, boolean periodic, long objref, String clnm, long cpunm)
+	{
+		return new RTThreadEvent(Kind.CREATE, id, periodic, objref, clnm, cpunm, 0);
+	}
+
+	public static RTThreadEvent swapIn(long id, long objref, String clnm, long cpunm)
+	{
+		return new RTThreadEvent(Kind.SWAP_IN, id, false, objref, clnm, cpunm, 0);
+	}
+
+	public static RTThreadEvent delayedSwapIn(long id, long objref, String clnm, long delay, long cpunm)
+	{
+		return new RTThreadEvent(Kind.DELAYED_SWAP_IN, id, false, objref, clnm, cpunm, delay);
+	}
+
+	public static RTThreadEvent swapOut(long id, long objref, String clnm, long cpunm)
+	{
+		return new RTThreadEvent(Kind.SWAP_OUT, id, false, objref, clnm, cpunm, 0);
+	}
+
+	/**
+	 * The "system constructor" thread events, which have always been logged with
+	 * extra spaces in the logrt text.
+	 */
+	public static RTThreadEvent systemCreate(long id)
+	{
+		return new RTThreadEvent(Kind.CREATE, id, false, NIL, null, 0, 0, true);
+	}
+
+	public static RTThreadEvent systemSwapIn(long id)
+	{
+		return new RTThreadEvent(Kind.SWAP_IN, id, false, NIL, null, 0, 0, true);
+	}
+
+	public static RTThreadEvent systemSwapOut(long id)
+	{
+		return new RTThreadEvent(Kind.SWAP_OUT, id, false, NIL, null, 0, 0, true);
+	}
+
+	public static RTThreadEvent kill(long id, long cpunm)
+	{
+		return new RTThreadEvent(Kind.KILL, id, false, NIL, null, cpunm, 0);
+	}
+
+	public boolean isSwapIn()
+	{
+		return kind == Kind.SWAP_IN || kind == Kind.DELAYED_SWAP_IN;
+	}
+
+	@Override
+	public String getText()
+	{
+		String gap = system ? "  " : " ";
+
+		switch (kind)
+		{
+			case CREATE:
+				return kind.text + " -> id: " + id + " period: " + periodic + gap +
+					"objref: " + objref(objref) + " clnm: " + clnm(clnm) + gap + "cpunm: " + cpunm;
+
+			case DELAYED_SWAP_IN:
+				return kind.text + " -> id: " + id + " objref: " + objref(objref) + " clnm: " + clnm(clnm) +
+					" delay: " + delay + " cpunm: " + cpunm + " overhead: 0";
+
+			case SWAP_IN:
+			case SWAP_OUT:
+				return kind.text + " -> id: " + id + " objref: " + objref(objref) + " clnm: " + clnm(clnm) + gap +
+					"cpunm: " + cpunm + " overhead: 0";
+
+			case KILL:
+				return kind.text + " -> id: " + id + " cpunm: " + cpunm;
+
+			default:
+				return kind.text;
+		}
+	}
+
+	@Override
+	protected int getType()
+	{
+		return THREAD;
+	}
+
+	@Override
+	protected void writeFields(DataOutput out) throws IOException
+	{
+		out.writeByte(kind.ordinal());
+		out.writeLong(id);
+		out.writeBoolean(periodic);
+		out.writeLong(objref);
+		writeString(out, clnm);
+		out.writeLong(cpunm);
+		out.writeLong(delay);
+		out.writeBoolean(system);
+	}
+}
@@ -46,6 +46,7 @@ public class VDMJ implements VDMJMain
 	public static void main(String[] args)
 	{
 		Settings.mainClass = VDMJ.class;
+		Settings.mainArgs = args;
 		Properties.init();
 		
 		Lifecycle lifecycle = loadLifecycle(args);
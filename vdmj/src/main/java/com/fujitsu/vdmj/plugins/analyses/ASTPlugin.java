@@ -51,6 +51,21 @@ abstract public class ASTPlugin extends AnalysisPlugin implements EventListener
 {
 	protected List<File> files;
 	
+	/**
+	 * The result of parsing one file, which may be done concurrently with others.
+	 */
+	protected static class ParsedFile<T>
+	{
+		public final T result;
+		public final List<VDMMessage> messages;
+		
+		public ParsedFile(T result, List<VDMMessage> messages)
+		{
+			this.result = result;
+			this.messages = messages;
+		}
+	}
+	
 	@Override
 	public String getName()
 	{
@@ -24,7 +24,6 @@
 
 package com.fujitsu.vdmj.plugins.analyses;
 
-import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Vector;
@@ -35,6 +34,7 @@ import com.fujitsu.vdmj.lex.LexTokenReader;
 import com.fujitsu.vdmj.messages.InternalException;
 import com.fujitsu.vdmj.messages.VDMMessage;
 import com.fujitsu.vdmj.syntax.ClassReader;
+import com.fujitsu.vdmj.syntax.ParallelParser;
 
 /**
  * VDM-PP AST plugin
@@ -55,30 +55,40 @@ public class ASTPluginPP extends ASTPlugin
 	{
 		List<VDMMessage> messages = new Vector<VDMMessage>();
 		
-		for (File file: files)
+		List<ParsedFile<ASTClassList>> parsed = ParallelParser.parse(files, file ->
 		{
+			List<VDMMessage> fileMessages = new Vector<VDMMessage>();
+			ASTClassList classes = new ASTClassList();
 			ClassReader cr = null;
 			
 			try
 			{
 				LexTokenReader ltr = new LexTokenReader(file, Settings.dialect, Settings.filecharset);
 				cr = new ClassReader(ltr);
-				astClassList.addAll(cr.readClasses());
+				classes.addAll(cr.readClasses());
 			}
 			catch (InternalException e)
 			{
-				messages.addAll(errsOf(e));
+				fileMessages.addAll(errsOf(e));
 			}
 			catch (Throwable e)
 			{
-				messages.addAll(errsOf(e));
+				fileMessages.addAll(errsOf(e));
 			}
 
 			if (cr != null)
 			{
-				messages.addAll(cr.getErrors());
-				messages.addAll(cr.getWarnings());
+				fileMessages.addAll(cr.getErrors());
+				fileMessages.addAll(cr.getWarnings());
 			}
+			
+			return new ParsedFile<ASTClassList>(classes, fileMessages);
+		});
+		
+		for (ParsedFile<ASTClassList> file: parsed)
+		{
+			astClassList.addAll(file.result);
+			messages.addAll(file.messages);
 		}
 
 		return messages;
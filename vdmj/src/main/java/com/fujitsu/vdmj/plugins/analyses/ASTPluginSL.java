@@ -24,7 +24,6 @@
 
 package com.fujitsu.vdmj.plugins.analyses;
 
-import java.io.File;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +38,7 @@ import com.fujitsu.vdmj.lex.LexTokenReader;
 import com.fujitsu.vdmj.messages.InternalException;
 import com.fujitsu.vdmj.messages.VDMMessage;
 import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.syntax.ParallelParser;
 
 /**
  * VDM-SL AST plugin
@@ -59,30 +59,40 @@ public class ASTPluginSL extends ASTPlugin
 	{
 		List<VDMMessage> messages = new Vector<VDMMessage>();
 		
-		for (File file: files)
+		List<ParsedFile<ASTModuleList>> parsed = ParallelParser.parse(files, file ->
 		{
+			List<VDMMessage> fileMessages = new Vector<VDMMessage>();
+			ASTModuleList modules = new ASTModuleList();
 			ModuleReader mr = null;
 			
 			try
 			{
 				LexTokenReader ltr = new LexTokenReader(file, Dialect.VDM_SL, Settings.filecharset);
 				mr = new ModuleReader(ltr);
-				astModuleList.addAll(mr.readModules());
+				modules.addAll(mr.readModules());
 			}
 			catch (InternalException e)
 			{
-				messages.addAll(errsOf(e));
+				fileMessages.addAll(errsOf(e));
 			}
 			catch (Throwable e)
 			{
-				messages.addAll(errsOf(e));
+				fileMessages.addAll(errsOf(e));
 			}
 
 			if (mr != null)
 			{
-				messages.addAll(mr.getErrors());
-				messages.addAll(mr.getWarnings());
+				fileMessages.addAll(mr.getErrors());
+				fileMessages.addAll(mr.getWarnings());
 			}
+			
+			return new ParsedFile<ASTModuleList>(modules, fileMessages);
+		});
+		
+		for (ParsedFile<ASTModuleList> file: parsed)
+		{
+			astModuleList.addAll(file.result);
+			messages.addAll(file.messages);
 		}
 
 		return messages;
@@ -56,6 +56,7 @@ import com.fujitsu.vdmj.plugins.commands.FilesCommand;
 import com.fujitsu.vdmj.plugins.commands.InitCommand;
 import com.fujitsu.vdmj.plugins.commands.LatexCommand;
 import com.fujitsu.vdmj.plugins.commands.LogCommand;
+import com.fujitsu.vdmj.plugins.commands.MemoCommand;
 import com.fujitsu.vdmj.plugins.commands.ModulesCommand;
 import com.fujitsu.vdmj.plugins.commands.PluginsCommand;
 import com.fujitsu.vdmj.plugins.commands.PrintCommand;
@@ -149,6 +150,7 @@ abstract public class INPlugin extends AnalysisPlugin implements EventListener
 		println("-dtc: disable all dynamic type checking");
 		println("-exceptions: raise pre/post/inv violations as <RuntimeError>");
 		println("-measures: disable recursive measure checking");
+		println("-memo: enable memoisation of function results");
 		println("-log <filename>: enable real-time event logging");
 		println("-remote <class>: enable remote control");
 		println("-simulation <class>: enable simulation control");
@@ -261,6 +263,11 @@ abstract public class INPlugin extends AnalysisPlugin implements EventListener
 	    			Settings.measureChecks = false;
 	    			break;
 	    			
+	    		case "-memo":
+	    			iter.remove();
+	    			Settings.memoise = true;
+	    			break;
+	    			
 	    		case "-remote":
 	    			iter.remove();
 					setStartInterpreter();
@@ -443,6 +450,7 @@ abstract public class INPlugin extends AnalysisPlugin implements EventListener
 			case "script":		return new ScriptCommand(line);
 			case "assert":		return new AssertCommand(line);
 			case "threads":		return new ThreadsCommand(line);
+			case "memo":		return new MemoCommand(line);
 			case "create":		return new CreateCommand(line);
 			case "break":
 			case "trace":
@@ -481,6 +489,7 @@ abstract public class INPlugin extends AnalysisPlugin implements EventListener
 			ScriptCommand.HELP,
 			AssertCommand.HELP,
 			CoverageCommand.HELP,
+			MemoCommand.HELP,
 			LatexCommand.HELP,
 			WordCommand.HELP,
 			SaveCommand.HELP
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.plugins.analyses;
+
+import static com.fujitsu.vdmj.plugins.PluginConsole.verboseln;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.messages.VDMMessage;
+import com.fujitsu.vdmj.messages.VDMWarning;
+import com.fujitsu.vdmj.util.Utils;
+
+/**
+ * A cache of type checked specifications, held in the vdmj.tc.cache_dir directory.
+ * Each entry is a serialized TC tree and its warnings, named by a hash of the source
+ * files and the settings that affect the type check. Only specifications without
+ * errors are cached. Loading an entry replaces the ClassMapper and type check.
+ */
+public class TCCache
+{
+	private static class Entry implements Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		public final Object tree;
+		public final List<VDMWarning> warnings;
+
+		public Entry(Object tree, List<VDMWarning> warnings)
+		{
+			this.tree = tree;
+			this.warnings = warnings;
+		}
+	}
+
+	private final File file;
+
+	public TCCache(List<File> sources)
+	{
+		this.file = getCacheFile(sources);
+	}
+
+	/**
+	 * Load the cached TC tree for the sources, adding its warnings to the list passed.
+	 * This returns null if the cache is disabled, or there is no valid entry.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T load(List<VDMMessage> messages)
+	{
+		if (file == null || !file.exists())
+		{
+			return null;
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(
+				new BufferedInputStream(new FileInputStream(file))))
+		{
+			Entry entry = (Entry)in.readObject();
+			messages.addAll(entry.warnings);
+			verboseln("Loaded type checked specification from " + file);
+			return (T)entry.tree;
+		}
+		catch (Throwable e)		// Including StackOverflowError
+		{
+			verboseln("Cannot load " + file + ": " + e);
+			return null;
+		}
+	}
+
+	/**
+	 * Save the TC tree and warnings for the sources. The entry is written to a temporary
+	 * file and then renamed, so that concurrent processes never see a partial entry.
+	 */
+	public void save(Object tree, List<VDMWarning> warnings)
+	{
+		if (file == null)
+		{
+			return;
+		}
+
+		File temp = null;
+
+		try
+		{
+			temp = File.createTempFile("vdmj", ".tmp", file.getParentFile());
+
+			try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temp))))
+			{
+				out.writeObject(new Entry(tree, new Vector<VDMWarning>(warnings)));
+			}
+
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			verboseln("Saved type checked specification to " + file);
+		}
+		catch (Throwable e)		// Including StackOverflowError
+		{
+			verboseln("Cannot save " + file + ": " + e);
+
+			if (temp != null)
+			{
+				temp.delete();
+			}
+		}
+	}
+
+	private static File getCacheFile(List<File> sources)
+	{
+		if (Properties.tc_cache_dir == null)
+		{
+			return null;
+		}
+
+		try
+		{
+			File dir = new File(Properties.tc_cache_dir);
+
+			if (!dir.isDirectory() && !dir.mkdirs())
+			{
+				verboseln("Cannot create TC cache directory " + dir);
+				return null;
+			}
+
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+			update(digest, Utils.getVersion());
+			update(digest, Settings.dialect);
+			update(digest, Settings.release);
+			update(digest, Settings.strict);
+			update(digest, Settings.annotations);
+			update(digest, Settings.filecharset);
+			update(digest, Properties.parser_tabstop);
+			update(digest, Properties.parser_comment_nesting);
+			update(digest, Properties.parser_external_readers);
+			update(digest, Properties.parser_merge_comments);
+			update(digest, Properties.parser_maximal_types);
+			update(digest, Properties.annotations_packages);
+			update(digest, Properties.tc_skip_recursive_check);
+			update(digest, Properties.tc_skip_cyclic_check);
+
+			for (File source: sources)
+			{
+				update(digest, source.getAbsolutePath());
+				digest.update(Files.readAllBytes(source.toPath()));
+			}
+
+			StringBuilder sb = new StringBuilder();
+
+			for (byte b: digest.digest())
+			{
+				sb.append(String.format("%02x", b));
+			}
+
+			return new File(dir, sb.toString() + ".tc");
+		}
+		catch (Exception e)
+		{
+			verboseln("Cannot use TC cache: " + e);
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, Object value)
+	{
+		digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte)0);
+	}
+}
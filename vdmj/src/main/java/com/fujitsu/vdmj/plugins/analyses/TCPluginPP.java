@@ -59,6 +59,14 @@ public class TCPluginPP extends TCPlugin
 		ASTPlugin ast = PluginRegistry.getInstance().getPlugin("AST");
 		ASTClassList parsedClasses = ast.getAST();
 		List<VDMMessage> messages = new Vector<VDMMessage>();
+		TCCache cache = new TCCache(ast.getFiles());
+		TCClassList cached = cache.load(messages);
+
+		if (cached != null)
+		{
+			tcClassList = cached;
+			return messages;
+		}
 
 		try
    		{
@@ -78,6 +86,11 @@ public class TCPluginPP extends TCPlugin
 			messages.addAll(errsOf(e));
 		}
 
+		if (messages.isEmpty() && TypeChecker.getErrorCount() == 0)
+		{
+			cache.save(tcClassList, TypeChecker.getWarnings());
+		}
+
 		messages.addAll(TypeChecker.getErrors());
 		messages.addAll(TypeChecker.getWarnings());
 
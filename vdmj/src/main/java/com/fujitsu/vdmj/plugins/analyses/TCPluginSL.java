@@ -59,6 +59,14 @@ public class TCPluginSL extends TCPlugin
 		ASTPlugin ast = PluginRegistry.getInstance().getPlugin("AST");
 		ASTModuleList parsedModules = ast.getAST();
 		List<VDMMessage> messages = new Vector<VDMMessage>();
+		TCCache cache = new TCCache(ast.getFiles());
+		TCModuleList cached = cache.load(messages);
+
+		if (cached != null)
+		{
+			tcModuleList = cached;
+			return messages;
+		}
 
 		try
    		{
@@ -78,6 +86,11 @@ public class TCPluginSL extends TCPlugin
 			messages.addAll(errsOf(e));
 		}
 
+		if (messages.isEmpty() && TypeChecker.getErrorCount() == 0)
+		{
+			cache.save(tcModuleList, TypeChecker.getWarnings());
+		}
+
 		messages.addAll(TypeChecker.getErrors());
 		messages.addAll(TypeChecker.getWarnings());
 
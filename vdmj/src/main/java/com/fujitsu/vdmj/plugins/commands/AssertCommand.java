@@ -166,16 +166,17 @@ public class AssertCommand extends AnalysisCommand
 			if (assertErrors == 0)
 			{
 				printf("PASSED all %d assertions from %s\n", assertPasses, file);
-				errors = true;
 			}
 			else
 			{
 				printf("FAILED %d and passed %d assertions from %s\n", assertErrors, assertPasses, file);
+				errors = true;
 			}
 		}
 		catch (IOException e)
 		{
 			errorln("Assert: " + e.getMessage());
+			errors = true;
 		}
 		finally
 		{
@@ -127,8 +127,8 @@ public class RuntraceCommand extends AnalysisCommand
 
 	private void doRuntrace(String[] argv, boolean debug)
 	{
-		int startTest = 0;
-		int endTest = 0;
+		long startTest = 0;
+		long endTest = 0;
 
 		if (argv.length == 1)
 		{
@@ -139,7 +139,7 @@ public class RuntraceCommand extends AnalysisCommand
 		{
 			try
 			{
-				startTest = Integer.parseInt(argv[2]);
+				startTest = Long.parseLong(argv[2]);
 				endTest = startTest;
 			}
 			catch (NumberFormatException e)
@@ -152,8 +152,8 @@ public class RuntraceCommand extends AnalysisCommand
 		{
 			try
 			{
-				startTest = Integer.parseInt(argv[2]);
-				endTest = argv[3].equalsIgnoreCase("end") ? 0 : Integer.parseInt(argv[3]);
+				startTest = Long.parseLong(argv[2]);
+				endTest = argv[3].equalsIgnoreCase("end") ? 0 : Long.parseLong(argv[3]);
 			}
 			catch (NumberFormatException e)
 			{
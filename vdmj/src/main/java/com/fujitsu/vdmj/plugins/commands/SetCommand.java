@@ -32,7 +32,7 @@ import com.fujitsu.vdmj.Settings;
 
 public class SetCommand extends ControlAnalysisCommand
 {
-	private final static String CMD = "set [<pre|post|inv|dtc|exceptions|measures|annotations> <on|off>]";
+	private final static String CMD = "set [<pre|post|inv|dtc|exceptions|measures|annotations|memo> <on|off>]";
 	private final static String USAGE = "Usage: " + CMD;
 	public  final static String HELP = CMD + " - set runtime checks";
 
@@ -63,6 +63,7 @@ public class SetCommand extends ControlAnalysisCommand
 			isEnabled("Pre/post/inv exceptions", Settings.exceptions);
 			isEnabled("Measure checks", Settings.measureChecks);
 			isEnabled("Annotations", Settings.annotations);
+			isEnabled("Function memoisations", Settings.memoise);
 			
 			return null;
 		}
@@ -116,6 +117,10 @@ public class SetCommand extends ControlAnalysisCommand
 	    			}
 
 	    			Settings.annotations = setting;
+	    		}
+	    		else if (argv[1].equals("memo"))
+	    		{
+	    			Settings.memoise = setting;
 	    		}
 				else
 				{
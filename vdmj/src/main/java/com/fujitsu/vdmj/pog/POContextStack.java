@@ -24,8 +24,11 @@
 
 package com.fujitsu.vdmj.pog;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Stack;
 import java.util.Vector;
 
@@ -100,70 +103,151 @@ public class POContextStack extends Stack<POContext>
 	 * have to be iterated through, before creating a set of obligations. Note that if
 	 * a POReturnContext is encountered at the top level, this immediately returns no
 	 * stacks, because this path can play no part in further obligations.
+	 * 
+	 * The substacks are created one at a time, as the result is iterated over.
 	 */
-	public List<POContextStack> getAlternatives()
+	public Iterable<POContextStack> getAlternatives()
 	{
 		return getAlternatives(true);	// exclude return paths by default
 	}
 	
-	public List<POContextStack> getAlternatives(boolean excludeReturns)
+	public Iterable<POContextStack> getAlternatives(boolean excludeReturns)
 	{
-		List<POContextStack> results = new Vector<POContextStack>();
-		results.add(new POContextStack());
+		return () -> new AlternativeIterator(excludeReturns);
+	}
+	
+	/**
+	 * Iterate over the alternative substacks like an odometer, with one wheel for each
+	 * POAltContext. The first wheel turns fastest, and each wheel iterates lazily over
+	 * the substacks of its alternatives, so only the current choices are held.
+	 */
+	private class AlternativeIterator implements Iterator<POContextStack>
+	{
+		private final boolean excludeReturns;
+		private final List<POAltContext> alts = new Vector<POAltContext>();
+		private final List<Iterator<POContextStack>> wheels = new Vector<Iterator<POContextStack>>();
+		private final List<POContextStack> choices = new Vector<POContextStack>();
+		private boolean hasNext = true;
 		
-		for (POContext ctxt: this)
+		public AlternativeIterator(boolean excludeReturns)
 		{
-			if (ctxt instanceof POAltContext)
+			this.excludeReturns = excludeReturns;
+			
+			for (POContext ctxt: POContextStack.this)
 			{
-				POAltContext alt = (POAltContext)ctxt;
-				List<POContextStack> toAdd = new Vector<POContextStack>();
-				
-				for (POContextStack substack: alt.alternatives)
+				if (ctxt instanceof POAltContext)
 				{
-					for (POContextStack alternative: substack.getAlternatives(excludeReturns))
+					POAltContext alt = (POAltContext)ctxt;
+					Iterator<POContextStack> wheel = new WheelIterator(alt);
+					
+					if (!wheel.hasNext())
 					{
-						for (POContextStack original: results)
-						{
-							POContextStack combined = new POContextStack();
-							combined.addAll(original);
-							combined.addAll(alternative);
-							toAdd.add(combined);
-						}
+						hasNext = false;	// No choices, so no alternatives
+						break;
 					}
+					
+					alts.add(alt);
+					wheels.add(wheel);
+					choices.add(wheel.next());
 				}
-				
-				results.clear();
-				results.addAll(toAdd);
-			}
-			else
-			{
-				if (ctxt instanceof POReturnContext)	// Includes POExitContext
+				else if (ctxt instanceof POReturnContext && excludeReturns)	// Includes POExitContext
 				{
 					// This stack plays no part in further obligations, including any
-					// alternatives it contains. So immediately return nothing if we
-					// are excluding paths that return.
+					// alternatives it contains. So immediately return nothing.
 					
-					if (excludeReturns)
-					{
-						return new Vector<POContextStack>();
-					}
-					
-					// Else add it as usual...
+					hasNext = false;
+					break;
 				}
-
-				for (POContextStack choice: results)
+			}
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return hasNext;
+		}
+		
+		@Override
+		public POContextStack next()
+		{
+			if (!hasNext)
+			{
+				throw new NoSuchElementException();
+			}
+			
+			POContextStack result = new POContextStack();
+			int a = 0;
+			
+			for (POContext ctxt: POContextStack.this)
+			{
+				if (ctxt instanceof POAltContext)
 				{
-					if (!choice.isEmpty() && choice.lastElement() instanceof POReturnContext)
-					{
-						continue;	// skip this choice, as it has already returned
-					}
-					
-					choice.add(ctxt);
+					result.addAll(choices.get(a++));
+				}
+				else if (result.isEmpty() || !(result.lastElement() instanceof POReturnContext))
+				{
+					result.add(ctxt);	// Else skip, as this choice has already returned
+				}
+			}
+			
+			advance();
+			return result;
+		}
+		
+		private void advance()
+		{
+			for (int w = 0; w < wheels.size(); w++)
+			{
+				if (wheels.get(w).hasNext())
+				{
+					choices.set(w, wheels.get(w).next());
+					return;
 				}
+				
+				Iterator<POContextStack> wheel = new WheelIterator(alts.get(w));
+				wheels.set(w, wheel);
+				choices.set(w, wheel.next());	// Reset and carry to the next wheel
 			}
+			
+			hasNext = false;
 		}
 		
-		return results;
+		/**
+		 * The alternatives of each of the substacks of a POAltContext, in order.
+		 */
+		private class WheelIterator implements Iterator<POContextStack>
+		{
+			private final Iterator<POContextStack> substacks;
+			private Iterator<POContextStack> current;
+			
+			public WheelIterator(POAltContext alt)
+			{
+				this.substacks = alt.alternatives.iterator();
+				this.current = Collections.emptyIterator();
+			}
+			
+			@Override
+			public boolean hasNext()
+			{
+				while (!current.hasNext() && substacks.hasNext())
+				{
+					current = substacks.next().getAlternatives(excludeReturns).iterator();
+				}
+				
+				return current.hasNext();
+			}
+			
+			@Override
+			public POContextStack next()
+			{
+				if (!hasNext())
+				{
+					throw new NoSuchElementException();
+				}
+				
+				return current.next();
+			}
+		}
 	}
 	
 	/**
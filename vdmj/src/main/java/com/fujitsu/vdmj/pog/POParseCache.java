@@ -0,0 +1,129 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.pog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.expressions.ASTExpression;
+import com.fujitsu.vdmj.ast.lex.LexToken;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.lex.Token;
+import com.fujitsu.vdmj.syntax.ExpressionReader;
+import com.fujitsu.vdmj.syntax.ParserException;
+
+/**
+ * A bounded LRU cache of parsed obligation expressions. Obligations are type checked
+ * by parsing their source, and POG is usually re-run after small changes to a
+ * specification, so most obligations have the same source and module as the last run.
+ * Parse trees are not changed by conversion to TC trees, so they can be converted again.
+ * The key includes the settings and parser properties that can change the parse.
+ */
+@SuppressWarnings("serial")
+public class POParseCache extends LinkedHashMap<String, ASTExpression>
+{
+	private static final POParseCache cache = new POParseCache();
+
+	private POParseCache()
+	{
+		super(16, 0.75f, true);		// Access order, for LRU
+	}
+
+	/**
+	 * Parse the source of an obligation, or return the parse tree of the same source
+	 * and module from an earlier call.
+	 */
+	public static ASTExpression parse(String source, String mname) throws Exception
+	{
+		String key = getKey(source, mname);
+		ASTExpression ast = null;
+
+		if (Properties.pog_parse_cache > 0)
+		{
+			synchronized (cache)
+			{
+				ast = cache.get(key);
+			}
+		}
+
+		if (ast == null)
+		{
+			// Some POs from VDM++ specs can include "new" etc, so parse as the given dialect
+			LexTokenReader ltr = new LexTokenReader(source, Settings.dialect);
+			ExpressionReader reader = new ExpressionReader(ltr);
+			reader.setCurrentModule(mname);
+			ast = reader.readExpression();
+			LexToken end = ltr.getLast();
+
+			if (!end.is(Token.EOF))
+			{
+				throw new ParserException(2330, "POG: Tokens found after obligation at " + end, LexLocation.ANY, 0);
+			}
+
+			if (Properties.pog_parse_cache > 0)
+			{
+				synchronized (cache)
+				{
+					cache.put(key, ast);
+				}
+			}
+		}
+
+		return ast;
+	}
+
+	public static void reset()
+	{
+		synchronized (cache)
+		{
+			cache.clear();
+		}
+	}
+
+	public static int getSize()
+	{
+		synchronized (cache)
+		{
+			return cache.size();
+		}
+	}
+
+	private static String getKey(String source, String mname)
+	{
+		return Settings.dialect + " " + Settings.release + " " + Settings.strict + " " + Settings.annotations + " " +
+			Properties.parser_tabstop + " " + Properties.parser_comment_nesting + " " +
+			Properties.parser_merge_comments + " " + Properties.parser_maximal_types + " " +
+			mname + "\n" + source;
+	}
+
+	@Override
+	protected boolean removeEldestEntry(Map.Entry<String, ASTExpression> eldest)
+	{
+		return size() > Properties.pog_parse_cache;
+	}
+}
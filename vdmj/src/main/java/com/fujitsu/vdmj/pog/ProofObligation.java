@@ -28,11 +28,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.po.PONode;
 import com.fujitsu.vdmj.po.annotations.POAnnotationList;
 import com.fujitsu.vdmj.po.definitions.PODefinition;
 import com.fujitsu.vdmj.po.expressions.POExpression;
 import com.fujitsu.vdmj.po.expressions.POVariableExpression;
 import com.fujitsu.vdmj.po.expressions.visitors.POFreeVariableFinder;
+import com.fujitsu.vdmj.po.expressions.visitors.POTotalExpressionVisitor;
 import com.fujitsu.vdmj.po.patterns.visitors.Locals;
 import com.fujitsu.vdmj.po.patterns.visitors.POGetMatchingExpressionVisitor;
 import com.fujitsu.vdmj.runtime.Context;
@@ -82,7 +85,7 @@ abstract public class ProofObligation implements Comparable<ProofObligation>
 	private int var = 1;
 	private TCExpression checkedExpression = null;
 	private boolean existential = false;
-	private boolean hasObligations = false;
+	private Boolean hasObligations = null;		// Set on demand
 
 	public ProofObligation(LexLocation location, POType kind, POContextStack ctxt)
 	{
@@ -311,6 +314,7 @@ abstract public class ProofObligation implements Comparable<ProofObligation>
 	{
 		this.checkedExpression = checkedExpression;
 		this.existential = (checkedExpression instanceof TCExistsExpression);
+		this.hasObligations = null;
 	}
 	
 	public TCExpression getCheckedExpression()
@@ -360,11 +364,33 @@ abstract public class ProofObligation implements Comparable<ProofObligation>
 	}
 
 	/**
-	 * True if the PO itself generates proof obligations.
+	 * True if the PO itself generates proof obligations. This is only used by some
+	 * proof strategies, so it is calculated from the checked expression when first
+	 * needed, rather than for every obligation during POG.
 	 */
 	public boolean hasObligations()
 	{
-		return hasObligations ;
+		if (hasObligations == null)
+		{
+			if (checkedExpression == null)
+			{
+				return false;
+			}
+			
+			try
+			{
+				POExpression poexp = ClassMapper.getInstance(PONode.MAPPINGS).convertLocal(checkedExpression);
+				POTotalExpressionVisitor visitor = new POTotalExpressionVisitor();
+				poexp.apply(visitor, null);
+				hasObligations = !visitor.isTotal();
+			}
+			catch (Exception e)
+			{
+				hasObligations = true;	// Assume the worst
+			}
+		}
+		
+		return hasObligations;
 	}
 	
 	public void setHasObligations(boolean hasObligations)
@@ -29,21 +29,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
 
-import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.ast.expressions.ASTExpression;
-import com.fujitsu.vdmj.ast.lex.LexToken;
 import com.fujitsu.vdmj.config.Properties;
-import com.fujitsu.vdmj.lex.LexLocation;
-import com.fujitsu.vdmj.lex.LexTokenReader;
-import com.fujitsu.vdmj.lex.Token;
 import com.fujitsu.vdmj.mapper.ClassMapper;
 import com.fujitsu.vdmj.messages.Console;
 import com.fujitsu.vdmj.messages.VDMError;
-import com.fujitsu.vdmj.po.PONode;
-import com.fujitsu.vdmj.po.expressions.POExpression;
-import com.fujitsu.vdmj.po.expressions.visitors.POTotalExpressionVisitor;
 import com.fujitsu.vdmj.po.modules.MultiModuleEnvironment;
-import com.fujitsu.vdmj.syntax.ExpressionReader;
 import com.fujitsu.vdmj.syntax.ParserException;
 import com.fujitsu.vdmj.tc.TCNode;
 import com.fujitsu.vdmj.tc.definitions.TCDefinition;
@@ -156,75 +147,74 @@ public class ProofObligationList extends Vector<ProofObligation>
 	public void typeCheck(TCModule tcmodule, MultiModuleEnvironment menv)
 	{
 		String tc = TypeComparator.getCurrentModule();
+		boolean oldmax = Properties.parser_maximal_types;
+		Properties.parser_maximal_types = true;		// For parse of PO on inv_T(T!)
 		
-		for (ProofObligation po: this)
+		try
 		{
-			try
+			for (ProofObligation po: this)
 			{
-				if (po.isCheckable)
+				try
+				{
+					if (po.isCheckable)
+					{
+						typeCheck(po, po.location.module, menv);
+					}
+				}
+				catch (Exception e)
 				{
-					typeCheck(po, po.location.module, menv);
+					Console.err.println(po.toString());
+					TypeChecker.printErrors(Console.err);
+					Console.err.println(e.toString());
+					po.markUnchecked(ProofObligation.PO_HAS_ERRORS);
 				}
 			}
-			catch (Exception e)
-			{
-				Console.err.println(po.toString());
-				TypeChecker.printErrors(Console.err);
-				Console.err.println(e.toString());
-				po.markUnchecked(ProofObligation.PO_HAS_ERRORS);
-			}
 		}
-		
-		TypeComparator.setCurrentModule(tc);
+		finally
+		{
+			Properties.parser_maximal_types = oldmax;
+			TypeComparator.setCurrentModule(tc);
+		}
 	}
 
 	public void typeCheck(TCNameToken name, Environment env)
 	{
 		String tc = TypeComparator.getCurrentModule();
+		boolean oldmax = Properties.parser_maximal_types;
+		Properties.parser_maximal_types = true;		// For parse of PO on inv_T(T!)
 		
-		for (ProofObligation po: this)
+		try
 		{
-			try
+			for (ProofObligation po: this)
 			{
-				if (po.isCheckable)
+				try
 				{
-					typeCheck(po, name.getName(), env);
+					if (po.isCheckable)
+					{
+						typeCheck(po, name.getName(), env);
+					}
+				}
+				catch (Exception e)
+				{
+					Console.err.println(po.toString());
+					TypeChecker.printErrors(Console.err);
+					Console.err.println(e.toString());
+					po.markUnchecked(ProofObligation.PO_HAS_ERRORS);
 				}
-			}
-			catch (Exception e)
-			{
-				Console.err.println(po.toString());
-				TypeChecker.printErrors(Console.err);
-				Console.err.println(e.toString());
-				po.markUnchecked(ProofObligation.PO_HAS_ERRORS);
 			}
 		}
-		
-		TypeComparator.setCurrentModule(tc);
+		finally
+		{
+			Properties.parser_maximal_types = oldmax;
+			TypeComparator.setCurrentModule(tc);
+		}
 	}
 
 	private void typeCheck(ProofObligation obligation, String mname, Environment env) throws Exception
 	{
-		// Some POs from VDM++ specs can include "new" etc, so parse as the given dialect
-		LexTokenReader ltr = new LexTokenReader(obligation.getSource(), Settings.dialect);
-		ExpressionReader reader = new ExpressionReader(ltr);
-		
 		// Treat the PO as if it is an expression within the module that defines it.
-		reader.setCurrentModule(mname);
 		TypeComparator.setCurrentModule(mname);
-		
-		boolean oldmax = Properties.parser_maximal_types;
-		Properties.parser_maximal_types = true;		// For parse of PO on inv_T(T!)
-		ASTExpression ast = reader.readExpression();
-		Properties.parser_maximal_types = oldmax;
-		
-		LexToken end = ltr.getLast();
-		
-		if (!end.is(Token.EOF))
-		{
-			throw new ParserException(2330, "POG: Tokens found after obligation at " + end, LexLocation.ANY, 0);
-		}
-		
+		ASTExpression ast = POParseCache.parse(obligation.getSource(), mname);
 		TCExpression tcexp = ClassMapper.getInstance(TCNode.MAPPINGS).convertLocal(ast);
 		TypeChecker.clearErrors();
 		
@@ -276,16 +266,8 @@ public class ProofObligationList extends Vector<ProofObligation>
 		}
 
 		obligation.setCheckedExpression(tcexp);
-
-		// Note whether the obligation expression itself has obligations. This is used
-		// in some proof strategies.
-		
-		POExpression poexp = ClassMapper.getInstance(PONode.MAPPINGS).convertLocal(tcexp);
-		POTotalExpressionVisitor visitor = new POTotalExpressionVisitor();
-		poexp.apply(visitor, null);
-		obligation.setHasObligations(!visitor.isTotal());
 	}
-
+	
 	public TCDefinitionList getTypeParamDefinitions(ProofObligation po)
 	{
 		TCDefinitionList defs = new TCDefinitionList();
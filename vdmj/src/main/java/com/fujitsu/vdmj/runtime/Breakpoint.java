@@ -25,6 +25,8 @@
 package com.fujitsu.vdmj.runtime;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.ast.expressions.ASTExpression;
@@ -74,6 +76,7 @@ public class Breakpoint implements Serializable
 	 * by another (though the methods use synchronized too).
 	 */
 	private static volatile int execInterrupt = 0;
+	private static final Map<Thread, Integer> threadInterrupts = new HashMap<Thread, Integer>();
 	public static final int NONE = 0;
 	public static final int PAUSE = 1;
 	public static final int TERMINATE = 2;
@@ -177,10 +180,37 @@ public class Breakpoint implements Serializable
 	public static synchronized void setExecInterrupt(int level)
 	{
 		execInterrupt = level;
+
+		if (level == NONE)
+		{
+			threadInterrupts.remove(Thread.currentThread());
+		}
+	}
+	
+	/**
+	 * Interrupt one thread only, leaving any others running. This is used to
+	 * time out evaluations that run concurrently, like QuickCheck workers.
+	 */
+	public static synchronized void setExecInterrupt(Thread thread, int level)
+	{
+		if (level == NONE)
+		{
+			threadInterrupts.remove(thread);
+		}
+		else
+		{
+			threadInterrupts.put(thread, level);
+		}
 	}
 	
 	public static synchronized int execInterruptLevel()	// Needs sync for Java 11
 	{
+		if (execInterrupt == NONE && !threadInterrupts.isEmpty())
+		{
+			Integer level = threadInterrupts.get(Thread.currentThread());
+			return level == null ? NONE : level;
+		}
+
 		return execInterrupt;
 	}
 	
@@ -51,6 +51,7 @@ import com.fujitsu.vdmj.lex.LexTokenReader;
 import com.fujitsu.vdmj.lex.Token;
 import com.fujitsu.vdmj.mapper.ClassMapper;
 import com.fujitsu.vdmj.messages.RTLogger;
+import com.fujitsu.vdmj.messages.rtlog.RTThreadEvent;
 import com.fujitsu.vdmj.messages.VDMErrorsException;
 import com.fujitsu.vdmj.scheduler.CTMainThread;
 import com.fujitsu.vdmj.scheduler.MainThread;
@@ -74,6 +75,7 @@ import com.fujitsu.vdmj.typechecker.PublicClassEnvironment;
 import com.fujitsu.vdmj.typechecker.TypeComparator;
 import com.fujitsu.vdmj.values.BUSValue;
 import com.fujitsu.vdmj.values.CPUValue;
+import com.fujitsu.vdmj.values.MemoTable;
 import com.fujitsu.vdmj.values.NameValuePair;
 import com.fujitsu.vdmj.values.NameValuePairList;
 import com.fujitsu.vdmj.values.NameValuePairMap;
@@ -192,6 +194,7 @@ public class ClassInterpreter extends Interpreter
 		CPUValue.init(scheduler);
 		BUSValue.init();
 		ObjectValue.init();
+		MemoTable.init();
 
 		logSwapIn();
 		initialContext = executableClasses.creatInitialContext();
@@ -219,6 +222,7 @@ public class ClassInterpreter extends Interpreter
 			CPUValue.init(scheduler);
 			BUSValue.init();
 			ObjectValue.init();
+			MemoTable.init();
 			logSwapIn();
 			
 			if (savedInitialContext == null)
@@ -465,30 +469,16 @@ public class ClassInterpreter extends Interpreter
 	{
 		// Show the "system constructor" thread creation
 
-		RTLogger.log(
-			"ThreadCreate -> id: " + Thread.currentThread().getId() +
-			" period: false " +
-			" objref: nil clnm: nil " +
-			" cpunm: 0");
-
-		RTLogger.log(
-			"ThreadSwapIn -> id: " + Thread.currentThread().getId() +
-			" objref: nil clnm: nil " +
-			" cpunm: 0" +
-			" overhead: 0");
+		long id = Thread.currentThread().getId();
+		RTLogger.log(RTThreadEvent.systemCreate(id));
+		RTLogger.log(RTThreadEvent.systemSwapIn(id));
 	}
 
 	private void logSwapOut()
 	{
-		RTLogger.log(
-			"ThreadSwapOut -> id: " + Thread.currentThread().getId() +
-			" objref: nil clnm: nil " +
-			" cpunm: 0" +
-			" overhead: 0");
-
-		RTLogger.log(
-			"ThreadKill -> id: " + Thread.currentThread().getId() +
-			" cpunm: 0");
+		long id = Thread.currentThread().getId();
+		RTLogger.log(RTThreadEvent.systemSwapOut(id));
+		RTLogger.log(RTThreadEvent.kill(id, 0));
 	}
 
 	@Override
@@ -553,4 +543,11 @@ public class ClassInterpreter extends Interpreter
 	{
 		return (T)executableClasses;
 	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T getTC()
+	{
+		return (T)checkedClasses;
+	}
 }
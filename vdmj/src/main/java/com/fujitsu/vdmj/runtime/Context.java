@@ -137,6 +137,11 @@ public class Context extends HashMap<TCNameToken, Value>
 
 		while (op.outer != null)
 		{
+			if (op instanceof RootContext)
+			{
+				return op.getGlobal();	// Cached by the RootContext
+			}
+
 			op = op.outer;
 		}
 
@@ -187,13 +192,18 @@ public class Context extends HashMap<TCNameToken, Value>
 	 * because the map is driven by the names' hashCodes. The equals
 	 * method of LexNameToken makes a TypeComparator check, which is
 	 * what we need. But we try a simple super.get() first.
+	 * 
+	 * The search of the keySet is only needed when the name has a type
+	 * qualifier, since the TypeComparator check is not symmetric. Names
+	 * without qualifiers (ie. all local variables) are found by the
+	 * super.get(), if they are present at all.
 	 */
 	@Override
 	public Value get(Object name)
 	{
 		Value rv = super.get(name);
 
-		if (rv == null)
+		if (rv == null && isQualified(name))
 		{
     		for (TCNameToken var: keySet())
     		{
@@ -208,6 +218,17 @@ public class Context extends HashMap<TCNameToken, Value>
 		return rv;
 	}
 
+	private boolean isQualified(Object name)
+	{
+		if (name instanceof TCNameToken)
+		{
+			TCNameToken tcname = (TCNameToken)name;
+			return tcname.getTypeQualifier() != null;
+		}
+
+		return false;
+	}
+
 	/**
 	 * Get all visible names from this Context, with more visible
 	 * values overriding those below.
@@ -29,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +55,7 @@ import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.lex.LexTokenReader;
 import com.fujitsu.vdmj.lex.Token;
 import com.fujitsu.vdmj.messages.Console;
+import com.fujitsu.vdmj.messages.ConsolePrintWriter;
 import com.fujitsu.vdmj.messages.ConsoleWriter;
 import com.fujitsu.vdmj.messages.VDMErrorsException;
 import com.fujitsu.vdmj.scheduler.ResourceScheduler;
@@ -68,10 +70,12 @@ import com.fujitsu.vdmj.traces.CallSequence;
 import com.fujitsu.vdmj.traces.TraceFilter;
 import com.fujitsu.vdmj.traces.TraceIterator;
 import com.fujitsu.vdmj.traces.TraceReductionType;
+import com.fujitsu.vdmj.traces.TraceWorkers;
 import com.fujitsu.vdmj.traces.Verdict;
 import com.fujitsu.vdmj.typechecker.Environment;
 import com.fujitsu.vdmj.typechecker.NameScope;
 import com.fujitsu.vdmj.typechecker.TypeChecker;
+import com.fujitsu.vdmj.values.StateJournal;
 import com.fujitsu.vdmj.values.Value;
 
 /**
@@ -557,19 +561,26 @@ abstract public class Interpreter
 
 	abstract public Context getTraceContext(INClassDefinition classdef) throws ValueException;
 
-	public void runtrace(String name, int startTest, int endTest, boolean debug)
+	public void runtrace(String name, long startTest, long endTest, boolean debug)
 		throws Exception
 	{
 		runtrace(name, startTest, endTest, debug, 1.0F, TraceReductionType.NONE, 1234);
 	}
 
 	public boolean runtrace(
-		String name, int startTest, int endTest, boolean debug,
+		String name, long startTest, long endTest, boolean debug,
 		float subset, TraceReductionType reductionType, long seed)
 		throws Exception
 	{
 		// Trace names have / substituted for _ to make a valid name during the parse
 		name = name.replaceAll("/", "_");
+		
+		if (TraceWorkers.isWorker())	// Use the reduction settings of the parent
+		{
+			subset = TraceWorkers.getSubset();
+			reductionType = TraceWorkers.getReductionType();
+			seed = TraceWorkers.getSeed();
+		}
 
 		LexTokenReader ltr = new LexTokenReader(name, Dialect.VDM_SL);
 		LexToken token = ltr.nextToken();
@@ -607,12 +618,16 @@ abstract public class Interpreter
 		TraceIterator tests = tracedef.getIterator(getTraceContext(tracedef.classDefinition));
 		long after = System.currentTimeMillis();
 
-		if (writer == null)
+		if (TraceWorkers.isWorker())
+		{
+			writer = new ConsolePrintWriter(OutputStream.nullOutputStream());	// Results only
+		}
+		else if (writer == null)
 		{
 			writer = Console.out;
 		}
 
-		final int count = tests.count();
+		final long count = tests.count();
 
 		if (endTest > count)
 		{
@@ -630,8 +645,8 @@ abstract public class Interpreter
 			reductionType = TraceReductionType.NONE;
 		}
 
-		int testNumber = 1;
-		int excluded = 0;
+		long testNumber = (startTest > 1) ? startTest : 1;
+		long excluded = 0;
 		boolean failed = false;
 		TraceFilter filter = new TraceFilter(count, subset, reductionType, seed);
 
@@ -654,45 +669,90 @@ abstract public class Interpreter
 		
 		// Not needed with new traces?
 		// Environment environment = getTraceEnvironment(tracedef.classDefinition);
+		
+		TraceWorkers workers = null;
+		long selected = 0;
+		
+		if (TraceWorkers.isAvailable(debug))
+		{
+			workers = new TraceWorkers(name, startTest, endTest, subset, reductionType, seed, writer);
+		}
 
-		while (tests.hasMoreTests())
+		try
 		{
-			CallSequence test = tests.getNextTest();
-			
-			if (testNumber < startTest || testNumber > endTest || filter.isRemoved(test, testNumber))
-			{
-				excluded++;
-			}
-			else if (filter.getFilteredBy(test) > 0)
-			{
-				excluded++;
-    			writer.println("Test " + testNumber + " = " + test.getCallString(getTraceContext(tracedef.classDefinition)));
-				writer.println("Test " + testNumber + " FILTERED by test " + filter.getFilteredBy(test));
-			}
-			else
+			while (startTest > 1 || tests.hasMoreTests())
 			{
-				// test.typeCheck(this, environment);	// Not needed with new traces?
+				// A range is indexed directly, rather than skipping the earlier tests
+				CallSequence test = (startTest > 1) ? tests.getTest(testNumber - 1) : tests.getNextTest();
+			
+				if (testNumber < startTest || testNumber > endTest || filter.isRemoved(test, testNumber))
+				{
+					excluded++;
+				}
+				else if (TraceWorkers.isWorker())
+				{
+					// Run every test dealt to us, and let the parent apply the filter
 				
-    			traceInit();	// Initialize completely between every run...
-    			List<Object> result = runOneTrace(tracedef.classDefinition, test, debug);
-    			filter.update(result, test, testNumber);
+					if (TraceWorkers.isMine(selected++))
+					{
+						traceInit();
+						TraceWorkers.writeResult(runOneTrace(tracedef.classDefinition, test, false));
+					}
+				}
+				else if (filter.getFilteredBy(test) > 0)
+				{
+					if (workers != null)
+					{
+						workers.nextResult();	// Discard, as already failed
+					}
+				
+					excluded++;
+	    			writer.println("Test " + testNumber + " = " + test.getCallString(getTraceContext(tracedef.classDefinition)));
+					writer.println("Test " + testNumber + " FILTERED by test " + filter.getFilteredBy(test));
+				}
+				else
+				{
+					// test.typeCheck(this, environment);	// Not needed with new traces?
+					List<Object> result = null;
+				
+					if (workers != null)
+					{
+						result = workers.nextResult();
+					}
+					else
+					{
+		    			traceInit();	// Initialize completely between every run...
+		    			result = runOneTrace(tracedef.classDefinition, test, debug);
+					}
+				
+	    			filter.update(result, test, testNumber);
 
-    			writer.println("Test " + testNumber + " = " + test.getCallString(getTraceContext(tracedef.classDefinition)));
-    			writer.println("Result = " + result);
+	    			writer.println("Test " + testNumber + " = " + test.getCallString(getTraceContext(tracedef.classDefinition)));
+	    			writer.println("Result = " + result);
     			
-    			if (result.lastIndexOf(Verdict.PASSED) == -1)
-    			{
-    				failed = true;	// Not passed => failed.
-    			}
-			}
+	    			if (result.lastIndexOf(Verdict.PASSED) == -1)
+	    			{
+	    				failed = true;	// Not passed => failed.
+	    			}
+				}
 
-			if (testNumber >= endTest)
+				if (testNumber >= endTest)
+				{
+					excluded = count - (endTest - startTest + 1);
+					break;
+				}
+
+				testNumber++;
+			}
+		}
+		finally
+		{
+			if (workers != null)
 			{
-				excluded = count - (endTest - startTest + 1);
-				break;
+				workers.close();
 			}
 
-			testNumber++;
+			StateJournal.stop();
 		}
 
 		init();
@@ -716,4 +776,9 @@ abstract public class Interpreter
 	 * one that is loaded in the INPlugin (ie. differences mean that the spec has changed).
 	 */
 	public abstract <T> T getIN();
+
+	/**
+	 * Return the type checked AST that the interpreter was created with.
+	 */
+	public abstract <T> T getTC();
 }
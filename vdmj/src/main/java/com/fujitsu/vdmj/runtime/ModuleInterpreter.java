@@ -24,11 +24,7 @@
 
 package com.fujitsu.vdmj.runtime;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.List;
 import java.util.Set;
 import java.util.Vector;
@@ -67,6 +63,8 @@ import com.fujitsu.vdmj.typechecker.Environment;
 import com.fujitsu.vdmj.typechecker.ModuleEnvironment;
 import com.fujitsu.vdmj.typechecker.TypeComparator;
 import com.fujitsu.vdmj.values.CPUValue;
+import com.fujitsu.vdmj.values.MemoTable;
+import com.fujitsu.vdmj.values.StateJournal;
 import com.fujitsu.vdmj.values.Value;
 
 /**
@@ -213,6 +211,7 @@ public class ModuleInterpreter extends Interpreter
 	{
 		scheduler.init();
 		CPUValue.init(scheduler);
+		MemoTable.init();
 		initialContext = executableModules.creatInitialContext();
 		executableModules.initialize(initialContext);
 		// INAnnotation.init(initialContext);	// Moved to InitThread
@@ -225,22 +224,18 @@ public class ModuleInterpreter extends Interpreter
 		{
 			scheduler.init();
 			CPUValue.init(scheduler);
+			MemoTable.init();
 			
 			if (savedInitialContext == null)
 			{
 				initialContext = executableModules.creatInitialContext();
 				executableModules.initialize(initialContext);
-				
-				savedInitialContext = new ByteArrayOutputStream();
-				ObjectOutputStream oos = new ObjectOutputStream(savedInitialContext);
-				oos.writeObject(initialContext);
-				oos.close();
+				savedInitialContext = StateJournal.save(initialContext);
 			}
-			else
+			else if (!StateJournal.restore(initialContext))
 			{
-				ByteArrayInputStream is = new ByteArrayInputStream(savedInitialContext.toByteArray());
-				ObjectInputStream ois = new ObjectInputStream(is);
-				initialContext = (RootContext)ois.readObject();
+				// Changes cannot be undone, so read a fresh copy
+				initialContext = StateJournal.load(savedInitialContext);
 			}
 			
 			INAnnotation.init(initialContext);
@@ -433,4 +428,11 @@ public class ModuleInterpreter extends Interpreter
 	{
 		return (T)executableModules;
 	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T getTC()
+	{
+		return (T)checkedModules;
+	}
 }
@@ -37,11 +37,27 @@ public abstract class RootContext extends Context
 {
 	protected final Context freeVariables;
 
+	/** The outermost context, which never changes because outer is final. */
+	private final Context global;
+
 	public RootContext(
 		LexLocation location, String title, Context freeVariables, Context outer)
 	{
 		super(location, title, outer);
 		this.freeVariables = freeVariables;
+		this.global = (outer == null) ? this : outer.getGlobal();
+	}
+
+	/**
+	 * Name lookups that miss locally jump straight to the global context, so
+	 * this is called for every such lookup. The context chain can be very long
+	 * in recursive specifications, so we cache the result rather than walking
+	 * down the chain each time.
+	 */
+	@Override
+	public Context getGlobal()
+	{
+		return global;
 	}
 
 	@Override
@@ -42,6 +42,7 @@ public class ThreadState implements Serializable
 
 	private int atomic = 0;			// Don't reschedule if >0
 	private int pure = 0;			// In a pure operation if >0
+	private long delegations = 0;	// Calls to Java delegates
 
 	public LexLocation stepline;	// Breakpoint stepping values
 	public RootContext nextctxt;
@@ -122,4 +123,19 @@ public class ThreadState implements Serializable
 	{
 		return pure > 0;
 	}
+
+	/**
+	 * Delegated "is not yet specified" bodies are implemented in Java and can have
+	 * side effects, so a function result that involved any delegate calls cannot be
+	 * memoised. The count allows a caller to see whether any calls were made.
+	 */
+	public synchronized void addDelegation()
+	{
+		delegations++;
+	}
+
+	public synchronized long getDelegations()
+	{
+		return delegations;
+	}
 }
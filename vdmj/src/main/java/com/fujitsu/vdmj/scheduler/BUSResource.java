@@ -28,6 +28,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import com.fujitsu.vdmj.messages.RTLogger;
+import com.fujitsu.vdmj.messages.rtlog.RTMessageEvent;
 import com.fujitsu.vdmj.scheduler.SystemClock.TimeUnit;
 
 public class BUSResource extends Resource
@@ -148,15 +149,15 @@ public class BUSResource extends Resource
 
 	public void transmit(MessageRequest request)
 	{
-		RTLogger.log(
-			"MessageRequest -> busid: " + request.bus.getNumber() +
-			" fromcpu: " + request.from.getNumber() +
-			" tocpu: " + request.to.getNumber() +
-			" msgid: " + request.msgId +
-			" callthr: " + request.thread.getId() +
-			" opname: " + "\"" + request.operation.name + "\"" +
-			" objref: " + request.target.objectReference +
-			" size: " + request.getSize());
+		RTLogger.log(RTMessageEvent.request(
+			request.bus.getNumber(),
+			request.from.getNumber(),
+			request.to.getNumber(),
+			request.msgId,
+			request.thread.getId(),
+			request.operation.name.toString(),
+			request.target.objectReference,
+			request.getSize()));
 
 		messages.add(request);
 		cq.stim();
@@ -164,15 +165,15 @@ public class BUSResource extends Resource
 
 	public void reply(MessageResponse response)
 	{
-		RTLogger.log(
-			"ReplyRequest -> busid: " + response.bus.getNumber() +
-			" fromcpu: " + response.from.getNumber() +
-			" tocpu: " + response.to.getNumber() +
-			" msgid: " + response.msgId +
-			" origmsgid: " + response.originalId +
-			" callthr: " + response.caller.getId() +
-			" calleethr: " + response.thread.getId() +
-			" size: " + response.getSize());
+		RTLogger.log(RTMessageEvent.reply(
+			response.bus.getNumber(),
+			response.from.getNumber(),
+			response.to.getNumber(),
+			response.msgId,
+			response.originalId,
+			response.caller.getId(),
+			response.thread.getId(),
+			response.getSize()));
 
 		messages.add(response);
 		cq.stim();
@@ -191,8 +192,7 @@ public class BUSResource extends Resource
 
     		MessagePacket m = messages.remove(0);
 
-    		RTLogger.log(
-				"MessageActivate -> msgid: " + m.msgId);
+    		RTLogger.log(RTMessageEvent.activate(m.msgId));
 
     		if (m instanceof MessageRequest)
     		{
@@ -220,8 +220,7 @@ public class BUSResource extends Resource
     			mr.replyTo.set(mr);
     		}
 
-    		RTLogger.log(
-				"MessageCompleted -> msgid: " + m.msgId);
+    		RTLogger.log(RTMessageEvent.completed(m.msgId));
 		}
 	}
 
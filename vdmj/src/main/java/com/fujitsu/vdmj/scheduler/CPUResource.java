@@ -25,6 +25,8 @@
 package com.fujitsu.vdmj.scheduler;
 
 import com.fujitsu.vdmj.messages.RTLogger;
+import com.fujitsu.vdmj.messages.rtlog.RTEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTThreadEvent;
 import com.fujitsu.vdmj.scheduler.SystemClock.TimeUnit;
 import com.fujitsu.vdmj.values.ObjectValue;
 
@@ -88,31 +90,21 @@ public class CPUResource extends Resource
 			{
 				if (swappedIn != null)
 				{
-	    			RTLogger.log(
-	    				"ThreadSwapOut -> id: " + swappedIn.getId() +
-	    				objRefString(swappedIn.getObject()) +
-	    				" cpunm: " + cpuNumber +
-	    				" overhead: " + 0);
+	    			RTLogger.log(RTThreadEvent.swapOut(swappedIn.getId(),
+	    				objref(swappedIn.getObject()), clnm(swappedIn.getObject()), cpuNumber));
 				}
 
 				long delay = SystemClock.getWallTime() - best.getSwapInBy();
 
 				if (best.getSwapInBy() > 0 && delay > 0)
 				{
-		        	RTLogger.log(
-		        		"DelayedThreadSwapIn -> id: " + best.getId() +
-		        		objRefString(best.getObject()) +
-		        		" delay: " + delay +
-		        		" cpunm: " + cpuNumber +
-		        		" overhead: " + 0);
+		        	RTLogger.log(RTThreadEvent.delayedSwapIn(best.getId(),
+		        		objref(best.getObject()), clnm(best.getObject()), delay, cpuNumber));
 				}
 				else
 				{
-    				RTLogger.log(
-    					"ThreadSwapIn -> id: " + best.getId() +
-    					objRefString(best.getObject()) +
-    					" cpunm: " + cpuNumber +
-    					" overhead: " + 0);
+    				RTLogger.log(RTThreadEvent.swapIn(best.getId(),
+    					objref(best.getObject()), clnm(best.getObject()), cpuNumber));
 				}
 			}
 
@@ -122,15 +114,10 @@ public class CPUResource extends Resource
 			switch (swappedIn.getRunState())
 			{
 				case COMPLETE:
-        			RTLogger.log(
-        				"ThreadSwapOut -> id: " + swappedIn.getId() +
-        				objRefString(swappedIn.getObject()) +
-        				" cpunm: " + cpuNumber +
-        				" overhead: " + 0);
+        			RTLogger.log(RTThreadEvent.swapOut(swappedIn.getId(),
+        				objref(swappedIn.getObject()), clnm(swappedIn.getObject()), cpuNumber));
 
-        			RTLogger.log(
-    					"ThreadKill -> id: " + swappedIn.getId() +
-    					" cpunm: " + cpuNumber);
+        			RTLogger.log(RTThreadEvent.kill(swappedIn.getId(), cpuNumber));
 
         			swappedIn = null;
         			return true;	// We may be able to run other threads
@@ -179,11 +166,8 @@ public class CPUResource extends Resource
 
 	public void createThread(SchedulableThread th)
 	{
-		RTLogger.log(
-			"ThreadCreate -> id: " + th.getId() +
-			" period: " + th.isPeriodic() +
-			objRefString(th.getObject()) +
-			" cpunm: " + cpuNumber);
+		RTLogger.log(RTThreadEvent.create(th.getId(), th.isPeriodic(),
+			objref(th.getObject()), clnm(th.getObject()), cpuNumber));
 	}
 
 	public void deploy(ObjectValue object)
@@ -194,11 +178,14 @@ public class CPUResource extends Resource
 			" cpunm: " + cpuNumber);
 	}
 
-	private String objRefString(ObjectValue obj)
+	private long objref(ObjectValue obj)
+	{
+		return obj == null ? RTEvent.NIL : obj.objectReference;
+	}
+
+	private String clnm(ObjectValue obj)
 	{
-		return
-			" objref: " + (obj == null ? "nil" : obj.objectReference) +
-			" clnm: " + (obj == null ? "nil" : ("\"" + obj.type + "\""));
+		return obj == null ? null : obj.type.toString();
 	}
 
 	public long getCyclesDuration(long cycles)
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.syntax;
+
+import java.io.File;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.lex.LexLocation.LocationBuffer;
+
+/**
+ * Read, lex and parse a list of files on a pool of worker threads. The parser function
+ * is called once for each file, and the results are returned in file order. The
+ * LexLocations created by each parse are buffered, and merged in file order, so
+ * the result is the same as calling the function for each file sequentially.
+ * 
+ * The parser function must not update any shared state itself.
+ */
+public class ParallelParser
+{
+	private static class Parsed<T>
+	{
+		public final T result;
+		public final LocationBuffer locations;
+		
+		public Parsed(T result, LocationBuffer locations)
+		{
+			this.result = result;
+			this.locations = locations;
+		}
+	}
+
+	public static <T> List<T> parse(List<File> files, Function<File, T> parser)
+	{
+		List<T> results = new Vector<T>();
+		int threads = getThreads(files.size());
+		
+		if (threads <= 1)
+		{
+			for (File file: files)
+			{
+				results.add(parser.apply(file));
+			}
+			
+			return results;
+		}
+		
+		ExecutorService pool = Executors.newFixedThreadPool(threads, r ->
+		{
+			Thread thread = new Thread(r, "parser");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+		try
+		{
+			List<Future<Parsed<T>>> futures = new Vector<Future<Parsed<T>>>();
+			
+			for (File file: files)
+			{
+				futures.add(pool.submit(() ->
+				{
+					LexLocation.startBuffer();
+					
+					try
+					{
+						T result = parser.apply(file);
+						return new Parsed<T>(result, LexLocation.endBuffer());
+					}
+					finally
+					{
+						LexLocation.endBuffer();	// In case of exceptions
+					}
+				}));
+			}
+			
+			for (Future<Parsed<T>> future: futures)
+			{
+				Parsed<T> parsed = future.get();
+				LexLocation.mergeBuffer(parsed.locations);
+				results.add(parsed.result);
+			}
+			
+			return results;
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException)e.getCause();
+			}
+			else if (e.getCause() instanceof Error)
+			{
+				throw (Error)e.getCause();
+			}
+			else
+			{
+				throw new RuntimeException(e.getCause());
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Parse interrupted");
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+	
+	private static int getThreads(int count)
+	{
+		int threads = Properties.parser_threads;
+		
+		if (threads <= 0)
+		{
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+		
+		return Math.min(threads, count);
+	}
+}
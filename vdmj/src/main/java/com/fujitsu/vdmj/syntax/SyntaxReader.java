@@ -353,19 +353,19 @@ public abstract class SyntaxReader
 	 * Read any annotations from the collected comments, and clear them. Note that we
 	 * don't parse annotations while inside the annotation parser.
 	 */
-	private static int readingAnnotations = 0;
+	private static ThreadLocal<Integer> readingAnnotations = ThreadLocal.withInitial(() -> 0);
 
 	protected ASTAnnotationList readAnnotations(LexCommentList comments) throws LexException, ParserException
 	{
 		ASTAnnotationList annotations = new ASTAnnotationList();
 
-		if (!Settings.annotations || readingAnnotations > 0)
+		if (!Settings.annotations || readingAnnotations.get() > 0)
 		{
 			return annotations;		// ignore nested annotations
 		}
 		else
 		{
-			readingAnnotations++;
+			readingAnnotations.set(readingAnnotations.get() + 1);
 		}
 		
 		for (int i=0; i<comments.size(); i++)
@@ -387,7 +387,7 @@ public abstract class SyntaxReader
 			}
 		}
 		
-		readingAnnotations--;
+		readingAnnotations.set(readingAnnotations.get() - 1);
 		return annotations;
 	}
 	
@@ -796,17 +796,7 @@ public abstract class SyntaxReader
 		String[] packages = classpath.split(";|:");
 		String astName = "AST" + name + "Annotation";
 		
-		if (annotationClasses == null)
-		{
-			try
-			{
-				annotationClasses = GetResource.readResource("vdmj.annotations");
-			}
-			catch (Exception e)
-			{
-				// ignore
-			}
-		}
+		List<String> classList = getAnnotationClasses();
 		
 		/*
 		 * The original method to load annotations uses the annotation_packages property.
@@ -835,7 +825,7 @@ public abstract class SyntaxReader
 		 * annotations to be in any package, though the AST<name>Annotation rule remains.
 		 */
 		
-		for (String annotationClass: annotationClasses)
+		for (String annotationClass: classList)
 		{
 			try
 			{
@@ -856,6 +846,23 @@ public abstract class SyntaxReader
 		return null;
 	}
 	
+	private static synchronized List<String> getAnnotationClasses()
+	{
+		if (annotationClasses == null)
+		{
+			try
+			{
+				annotationClasses = GetResource.readResource("vdmj.annotations");
+			}
+			catch (Exception e)
+			{
+				// ignore
+			}
+		}
+		
+		return annotationClasses;
+	}
+	
 	protected LexCommentList getComments()
 	{
 		return reader.getComments();	// Also clears comments
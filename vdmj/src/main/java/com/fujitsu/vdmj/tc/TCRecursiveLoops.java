@@ -56,18 +56,30 @@ public class TCRecursiveLoops extends TCNode
 	
 	private static class Apply
 	{
+		public final TCDefinition parent;
 		public final TCApplyExpression apply;
 		public final TCDefinition calling;
 		
-		public Apply(TCApplyExpression apply, TCDefinition calling)
+		public Apply(TCDefinition parent, TCApplyExpression apply, TCDefinition calling)
 		{
+			this.parent = parent;
 			this.apply = apply;
 			this.calling = calling;
 		}
 	}
 	
+	/**
+	 * The applications found by one thread while it type checks part of a specification
+	 * in parallel with others.
+	 */
+	public static class ApplyBuffer
+	{
+		private final List<Apply> applies = new Vector<Apply>();
+	}
+	
 	private Map<TCDefinition, List<Apply>> applymap = null;
 	private TCRecursiveMap recursiveLoops = null;
+	private static ThreadLocal<ApplyBuffer> buffers = new ThreadLocal<ApplyBuffer>();
 
 	public static TCRecursiveLoops getInstance()
 	{
@@ -90,12 +102,57 @@ public class TCRecursiveLoops extends TCNode
 		if (calling instanceof TCExplicitFunctionDefinition ||
 			calling instanceof TCImplicitFunctionDefinition)
 		{
-			if (!applymap.containsKey(parent))
+			ApplyBuffer buffer = buffers.get();
+			
+			if (buffer != null)
 			{
-				applymap.put(parent, new Vector<Apply>());
+				buffer.applies.add(new Apply(parent, apply, calling));
 			}
-			
-			applymap.get(parent).add(new Apply(apply, calling));
+			else
+			{
+				addApply(new Apply(parent, apply, calling));
+			}
+		}
+	}
+	
+	private void addApply(Apply pair)
+	{
+		if (!applymap.containsKey(pair.parent))
+		{
+			applymap.put(pair.parent, new Vector<Apply>());
+		}
+		
+		applymap.get(pair.parent).add(pair);
+	}
+	
+	/**
+	 * Make the applications found by this thread go into a buffer, rather than the
+	 * shared map. This is used by threads type checking concurrently.
+	 */
+	public void startBuffer()
+	{
+		buffers.set(new ApplyBuffer());
+	}
+	
+	/**
+	 * Stop buffering this thread's applications, returning those found since startBuffer.
+	 */
+	public ApplyBuffer endBuffer()
+	{
+		ApplyBuffer buffer = buffers.get();
+		buffers.remove();
+		return buffer;
+	}
+	
+	/**
+	 * Add the buffered applications from endBuffer. Buffers should be merged in the
+	 * order in which the specification would have been checked sequentially.
+	 */
+	public synchronized void mergeBuffer(ApplyBuffer buffer)
+	{
+		for (Apply pair: buffer.applies)
+		{
+			addApply(pair);
 		}
 	}
 	
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.tc;
+
+import com.fujitsu.vdmj.tc.lex.TCNameToken;
+
+/**
+ * The names collected by the TCReference*Finder visitors: either the modules or
+ * classes that are referred to, or the simple (unqualified) names of the definitions
+ * and types referred to.
+ */
+public enum TCReferenceNames
+{
+	MODULES,
+	SIMPLE;
+
+	public String of(TCNameToken name)
+	{
+		return this == MODULES ? name.getModule() : name.getName();
+	}
+}
@@ -650,7 +650,7 @@ public class TCClassDefinition extends TCDefinition
 	{
 		TCDefinition def = null;
 
-		for (TCDefinition d: definitions)
+		for (TCDefinition d: definitions.getCandidates(sought))
 		{
 			TCDefinition found = d.findName(sought, scope);
 
@@ -693,7 +693,7 @@ public class TCClassDefinition extends TCDefinition
 
 		if (def == null)
 		{
-			for (TCDefinition d: allInheritedDefinitions)
+			for (TCDefinition d: allInheritedDefinitions.getCandidates(sought))
 			{
 				TCDefinition indef = d.findName(sought, scope);
 
@@ -744,7 +744,7 @@ public class TCClassDefinition extends TCDefinition
 
 		if (def == null)
 		{
-			for (TCDefinition d: allInheritedDefinitions)
+			for (TCDefinition d: allInheritedDefinitions.getCandidates(sought))
 			{
 				TCDefinition indef = d.findType(sought, null);
 
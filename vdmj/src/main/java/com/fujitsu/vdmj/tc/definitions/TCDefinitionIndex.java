@@ -0,0 +1,137 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.tc.definitions;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.tc.definitions.visitors.TCNameKeyVisitor;
+import com.fujitsu.vdmj.tc.lex.TCNameToken;
+
+/**
+ * A hashed index of the definitions in a TCDefinitionList, keyed by simple name.
+ * Each key maps to the definitions that could match a name with that key, in list
+ * order, so that searching just those gives the same result (and side effects) as
+ * searching the whole list. Definitions whose names cannot be determined are
+ * included for every key.
+ */
+public class TCDefinitionIndex
+{
+	/** Prefixes of the names of implicit definitions, like pre_f or inv_T. */
+	private static final String[] PREFIXES =
+	{
+		"pre_", "post_", "inv_", "eq_", "ord_", "min_", "max_", "init_", "measure_"
+	};
+
+	private final int modCount;
+	private final Map<String, List<TCDefinition>> index;
+	private final List<TCDefinition> unindexed;
+
+	public TCDefinitionIndex(List<TCDefinition> definitions, int modCount)
+	{
+		this.modCount = modCount;
+		this.index = new HashMap<String, List<TCDefinition>>();
+		this.unindexed = new Vector<TCDefinition>();
+
+		TCNameKeyVisitor visitor = new TCNameKeyVisitor();
+
+		for (TCDefinition def: definitions)
+		{
+			Set<String> keys = def.apply(visitor, null);
+
+			if (keys == null)
+			{
+				unindexed.add(def);
+
+				for (List<TCDefinition> list: index.values())
+				{
+					list.add(def);
+				}
+			}
+			else
+			{
+				for (String key: keys)
+				{
+					List<TCDefinition> list = index.get(key);
+
+					if (list == null)
+					{
+						list = new Vector<TCDefinition>(unindexed);	// Preceding unindexed defs
+						index.put(key, list);
+					}
+
+					list.add(def);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The index key of a name is its simple name, without any implicit definition
+	 * prefixes, so that f, pre_f and post_f all have the key "f".
+	 */
+	public static String getKey(TCNameToken name)
+	{
+		String key = name.getName();
+		boolean stripped = true;
+
+		while (stripped)
+		{
+			stripped = false;
+
+			for (String prefix: PREFIXES)
+			{
+				if (key.startsWith(prefix))
+				{
+					key = key.substring(prefix.length());
+					stripped = true;
+				}
+			}
+		}
+
+		return key;
+	}
+
+	/**
+	 * True if the index was built for the list modification count passed.
+	 */
+	public boolean isCurrent(int modCount)
+	{
+		return this.modCount == modCount;
+	}
+
+	/**
+	 * The definitions, in list order, that could match the name passed.
+	 */
+	public List<TCDefinition> getCandidates(TCNameToken name)
+	{
+		List<TCDefinition> list = index.get(getKey(name));
+		return list == null ? unindexed : list;
+	}
+}
@@ -24,6 +24,8 @@
 
 package com.fujitsu.vdmj.tc.definitions;
 
+import java.util.List;
+
 import com.fujitsu.vdmj.ast.definitions.ASTDefinition;
 import com.fujitsu.vdmj.ast.definitions.ASTDefinitionList;
 import com.fujitsu.vdmj.tc.TCMappedList;
@@ -38,6 +40,12 @@ import com.fujitsu.vdmj.typechecker.NameScope;
 @SuppressWarnings("serial")
 public class TCDefinitionList extends TCMappedList<ASTDefinition, TCDefinition>
 {
+	/** Lists shorter than this are searched sequentially. */
+	private static final int INDEX_MIN = 16;
+
+	/** The name index, built lazily and rebuilt whenever the list changes. */
+	private transient volatile TCDefinitionIndex index = null;
+
 	public TCDefinitionList(ASTDefinitionList from) throws Exception
 	{
 		super(from);
@@ -53,6 +61,35 @@ public class TCDefinitionList extends TCMappedList<ASTDefinition, TCDefinition>
 		add(definition);
 	}
 
+	@Override
+	public synchronized TCDefinition set(int i, TCDefinition definition)
+	{
+		index = null;	// Does not change modCount
+		return super.set(i, definition);
+	}
+
+	/**
+	 * Return the definitions in the list that could match the name passed, in
+	 * list order. For short lists, this is the whole list.
+	 */
+	public List<TCDefinition> getCandidates(TCNameToken name)
+	{
+		if (size() < INDEX_MIN)
+		{
+			return this;
+		}
+
+		TCDefinitionIndex current = index;
+
+		if (current == null || !current.isCurrent(modCount))
+		{
+			current = new TCDefinitionIndex(this, modCount);
+			index = current;
+		}
+
+		return current.getCandidates(name);
+	}
+
 	public void implicitDefinitions(Environment env)
 	{
 		for (TCDefinition d: this)
@@ -104,7 +141,7 @@ public class TCDefinitionList extends TCMappedList<ASTDefinition, TCDefinition>
 
 	public TCDefinition findName(TCNameToken name, NameScope scope)
 	{
-		for (TCDefinition d: this)
+		for (TCDefinition d: getCandidates(name))
 		{
 			TCDefinition def = d.findName(name, scope);
 
@@ -119,7 +156,7 @@ public class TCDefinitionList extends TCMappedList<ASTDefinition, TCDefinition>
 
 	public TCDefinition findType(TCNameToken name, String fromModule)
 	{
-		for (TCDefinition d: this)
+		for (TCDefinition d: getCandidates(name))
 		{
 			TCDefinition def = d.findType(name, fromModule);
 
@@ -191,11 +228,14 @@ public class TCDefinitionList extends TCMappedList<ASTDefinition, TCDefinition>
 	{
 		TCDefinitionSet set = new TCDefinitionSet();
 
-		for (TCDefinition d: singleDefinitions())
+		for (TCDefinition c: getCandidates(name))
 		{
-			if (d.isFunctionOrOperation() && d.name.matches(name))
+			for (TCDefinition d: c.getDefinitions())
 			{
-				set.add(d);
+				if (d.isFunctionOrOperation() && d.name.matches(name))
+				{
+					set.add(d);
+				}
 			}
 		}
 
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.tc.definitions.visitors;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fujitsu.vdmj.tc.definitions.TCClassDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCClassInvariantDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCDefinitionIndex;
+import com.fujitsu.vdmj.tc.definitions.TCDefinitionList;
+import com.fujitsu.vdmj.tc.definitions.TCEqualsDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCExplicitFunctionDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCExternalDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCImplicitFunctionDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCImportedDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCInheritedDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCMultiBindListDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCMutexSyncDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCPerSyncDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCQualifiedDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCRenamedDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCStateDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCThreadDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCTypeDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCValueDefinition;
+import com.fujitsu.vdmj.tc.expressions.TCVariableExpression;
+import com.fujitsu.vdmj.tc.lex.TCNameToken;
+import com.fujitsu.vdmj.tc.types.TCNamedType;
+import com.fujitsu.vdmj.tc.types.TCRecordType;
+import com.fujitsu.vdmj.tc.types.TCType;
+
+/**
+ * Return the index keys of all the names that a definition's findName, findType
+ * or getDefinitions could match, or null if the definition could match names that
+ * cannot be known before type checking. The keys may include names that never
+ * match, but must not omit any that do.
+ */
+public class TCNameKeyVisitor extends TCDefinitionVisitor<Set<String>, Object>
+{
+	private Set<String> nameKey(TCNameToken name)
+	{
+		Set<String> keys = new HashSet<String>();
+
+		if (name != null)
+		{
+			keys.add(TCDefinitionIndex.getKey(name));
+		}
+
+		return keys;
+	}
+
+	private Set<String> addKeys(Set<String> keys, TCDefinition def)
+	{
+		if (keys != null && def != null)
+		{
+			Set<String> more = def.apply(this, null);
+
+			if (more == null)
+			{
+				return null;
+			}
+
+			keys.addAll(more);
+		}
+
+		return keys;
+	}
+
+	@Override
+	public Set<String> caseDefinition(TCDefinition node, Object arg)
+	{
+		return nameKey(node.name);
+	}
+
+	@Override
+	public Set<String> caseClassDefinition(TCClassDefinition node, Object arg)
+	{
+		return null;
+	}
+
+	@Override
+	public Set<String> caseClassInvariantDefinition(TCClassInvariantDefinition node, Object arg)
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> caseEqualsDefinition(TCEqualsDefinition node, Object arg)
+	{
+		return null;	// defs are created by the type check
+	}
+
+	@Override
+	public Set<String> caseExplicitFunctionDefinition(TCExplicitFunctionDefinition node, Object arg)
+	{
+		if (node.measureExp instanceof TCVariableExpression)
+		{
+			return null;	// Can find the named measure function
+		}
+
+		return nameKey(node.name);
+	}
+
+	@Override
+	public Set<String> caseImplicitFunctionDefinition(TCImplicitFunctionDefinition node, Object arg)
+	{
+		if (node.measureExp instanceof TCVariableExpression)
+		{
+			return null;	// Can find the named measure function
+		}
+
+		return nameKey(node.name);
+	}
+
+	@Override
+	public Set<String> caseExternalDefinition(TCExternalDefinition node, Object arg)
+	{
+		return addKeys(nameKey(node.name), node.state);
+	}
+
+	@Override
+	public Set<String> caseImportedDefinition(TCImportedDefinition node, Object arg)
+	{
+		return addKeys(nameKey(node.name), node.def);
+	}
+
+	@Override
+	public Set<String> caseInheritedDefinition(TCInheritedDefinition node, Object arg)
+	{
+		return null;	// Every search updates the name's type qualifiers
+	}
+
+	@Override
+	public Set<String> caseMultiBindListDefinition(TCMultiBindListDefinition node, Object arg)
+	{
+		return null;	// defs are created by the type check
+	}
+
+	@Override
+	public Set<String> caseMutexSyncDefinition(TCMutexSyncDefinition node, Object arg)
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> casePerSyncDefinition(TCPerSyncDefinition node, Object arg)
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> caseQualifiedDefinition(TCQualifiedDefinition node, Object arg)
+	{
+		return addKeys(nameKey(node.name), node.def);
+	}
+
+	@Override
+	public Set<String> caseRenamedDefinition(TCRenamedDefinition node, Object arg)
+	{
+		return addKeys(nameKey(node.name), node.def);
+	}
+
+	@Override
+	public Set<String> caseStateDefinition(TCStateDefinition node, Object arg)
+	{
+		return addList(nameKey(node.name), node.statedefs);
+	}
+
+	@Override
+	public Set<String> caseThreadDefinition(TCThreadDefinition node, Object arg)
+	{
+		return addKeys(nameKey(node.name), node.operationDef);
+	}
+
+	@Override
+	public Set<String> caseTypeDefinition(TCTypeDefinition node, Object arg)
+	{
+		Set<String> keys = nameKey(node.name);
+		addComposeKeys(keys, node.type);
+
+		if (node.type instanceof TCNamedType)
+		{
+			TCNamedType nt = (TCNamedType)node.type;
+			addComposeKeys(keys, nt.type);
+		}
+
+		return keys;
+	}
+
+	@Override
+	public Set<String> caseValueDefinition(TCValueDefinition node, Object arg)
+	{
+		Set<String> keys = nameKey(node.name);
+
+		for (TCNameToken name: node.pattern.getVariableNames())
+		{
+			keys.add(TCDefinitionIndex.getKey(name));
+		}
+
+		return keys;
+	}
+
+	private Set<String> addList(Set<String> keys, TCDefinitionList defs)
+	{
+		for (TCDefinition def: defs)
+		{
+			keys = addKeys(keys, def);
+		}
+
+		return keys;
+	}
+
+	private void addComposeKeys(Set<String> keys, TCType type)
+	{
+		for (TCType compose: type.getComposeTypes())
+		{
+			TCRecordType rtype = (TCRecordType)compose;
+			keys.add(TCDefinitionIndex.getKey(rtype.name));
+		}
+	}
+}
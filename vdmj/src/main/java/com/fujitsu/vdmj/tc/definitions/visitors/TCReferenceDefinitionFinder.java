@@ -0,0 +1,95 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.tc.definitions.visitors;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fujitsu.vdmj.tc.TCReferenceNames;
+import com.fujitsu.vdmj.tc.TCVisitorSet;
+import com.fujitsu.vdmj.tc.definitions.TCDefinition;
+import com.fujitsu.vdmj.tc.expressions.TCExpression;
+import com.fujitsu.vdmj.tc.expressions.visitors.TCReferenceExpressionFinder;
+import com.fujitsu.vdmj.tc.patterns.visitors.TCReferenceBindFinder;
+import com.fujitsu.vdmj.tc.patterns.visitors.TCReferenceMultipleBindFinder;
+import com.fujitsu.vdmj.tc.patterns.visitors.TCReferencePatternFinder;
+import com.fujitsu.vdmj.tc.statements.visitors.TCReferenceStatementFinder;
+import com.fujitsu.vdmj.tc.types.visitors.TCReferenceTypeFinder;
+
+/**
+ * A visitor set to explore the TC tree and return the names of the modules or classes
+ * referred to by a definition, or the simple names of the definitions and types that it
+ * refers to. Unlike the TCDependencyDefinitionVisitor, this does not look up names in an
+ * environment, so it can be used before type checking without marking definitions as
+ * used. Simple names are not qualified, so callers must be conservative about which
+ * definitions a name could refer to. Note that the type finder remembers the types it
+ * has visited, so a new instance should be used for each search.
+ */
+public class TCReferenceDefinitionFinder extends TCLeafDefinitionVisitor<String, Set<String>, Object>
+{
+	public TCReferenceDefinitionFinder(TCReferenceNames names)
+	{
+		visitorSet = new TCVisitorSet<String, Set<String>, Object>()
+		{
+			@Override
+			protected void setVisitors()
+			{
+				definitionVisitor = TCReferenceDefinitionFinder.this;
+				expressionVisitor = new TCReferenceExpressionFinder(this, names);
+				statementVisitor = new TCReferenceStatementFinder(this, names);
+				patternVisitor = new TCReferencePatternFinder(this, names);
+				bindVisitor = new TCReferenceBindFinder(this, names);
+				multiBindVisitor = new TCReferenceMultipleBindFinder(this, names);
+				typeVisitor = new TCReferenceTypeFinder(names);
+			}
+
+			@Override
+			protected Set<String> newCollection()
+			{
+				return TCReferenceDefinitionFinder.this.newCollection();
+			}
+		};
+	}
+
+	@Override
+	protected Set<String> newCollection()
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> caseDefinition(TCDefinition node, Object arg)
+	{
+		return newCollection();
+	}
+
+	/**
+	 * Return the names referred to by an expression, using the same visitor set.
+	 */
+	public Set<String> getReferences(TCExpression exp)
+	{
+		return visitorSet.applyExpressionVisitor(exp, null);
+	}
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.tc.expressions.visitors;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fujitsu.vdmj.tc.TCReferenceNames;
+import com.fujitsu.vdmj.tc.TCVisitorSet;
+import com.fujitsu.vdmj.tc.definitions.TCDefinition;
+import com.fujitsu.vdmj.tc.expressions.TCExpression;
+import com.fujitsu.vdmj.tc.expressions.TCFieldExpression;
+import com.fujitsu.vdmj.tc.expressions.TCFuncInstantiationExpression;
+import com.fujitsu.vdmj.tc.expressions.TCHistoryExpression;
+import com.fujitsu.vdmj.tc.expressions.TCIsExpression;
+import com.fujitsu.vdmj.tc.expressions.TCIsOfBaseClassExpression;
+import com.fujitsu.vdmj.tc.expressions.TCIsOfClassExpression;
+import com.fujitsu.vdmj.tc.expressions.TCLetDefExpression;
+import com.fujitsu.vdmj.tc.expressions.TCMkBasicExpression;
+import com.fujitsu.vdmj.tc.expressions.TCMkTypeExpression;
+import com.fujitsu.vdmj.tc.expressions.TCNarrowExpression;
+import com.fujitsu.vdmj.tc.expressions.TCNewExpression;
+import com.fujitsu.vdmj.tc.expressions.TCVariableExpression;
+import com.fujitsu.vdmj.tc.lex.TCNameToken;
+import com.fujitsu.vdmj.tc.types.TCType;
+
+/**
+ * A visitor set to explore the TC tree and return the names of the modules or classes,
+ * or the simple names of the definitions and types, referred to by an expression.
+ */
+public class TCReferenceExpressionFinder extends TCLeafExpressionVisitor<String, Set<String>, Object>
+{
+	private final TCReferenceNames names;
+
+	public TCReferenceExpressionFinder(TCVisitorSet<String, Set<String>, Object> visitors, TCReferenceNames names)
+	{
+		this.visitorSet = visitors;
+		this.names = names;
+	}
+
+	@Override
+	protected Set<String> newCollection()
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> caseExpression(TCExpression node, Object arg)
+	{
+		return newCollection();
+	}
+
+	@Override
+	public Set<String> caseVariableExpression(TCVariableExpression node, Object arg)
+	{
+		Set<String> all = newCollection();
+		all.add(names.of(node.name));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseFieldExpression(TCFieldExpression node, Object arg)
+	{
+		Set<String> all = super.caseFieldExpression(node, arg);
+
+		if (names == TCReferenceNames.SIMPLE)
+		{
+			all.add(node.field.getName());
+		}
+
+		return all;
+	}
+
+	@Override
+	public Set<String> caseFuncInstantiationExpression(TCFuncInstantiationExpression node, Object arg)
+	{
+		Set<String> all = super.caseFuncInstantiationExpression(node, arg);
+
+		for (TCType type: node.unresolved)
+		{
+			all.addAll(visitorSet.applyTypeVisitor(type, arg));
+		}
+
+		return all;
+	}
+
+	@Override
+	public Set<String> caseHistoryExpression(TCHistoryExpression node, Object arg)
+	{
+		Set<String> all = newCollection();
+
+		if (names == TCReferenceNames.SIMPLE)
+		{
+			for (TCNameToken opname: node.opnames)
+			{
+				all.add(opname.getName());
+			}
+		}
+
+		return all;
+	}
+
+	@Override
+	public Set<String> caseIsExpression(TCIsExpression node, Object arg)
+	{
+		Set<String> all = super.caseIsExpression(node, arg);
+
+		if (node.typename != null)
+		{
+			all.add(names.of(node.typename));
+		}
+
+		all.addAll(visitorSet.applyTypeVisitor(node.basictype, arg));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseIsOfBaseClassExpression(TCIsOfBaseClassExpression node, Object arg)
+	{
+		Set<String> all = super.caseIsOfBaseClassExpression(node, arg);
+		all.add(node.baseclass.getName());
+		return all;
+	}
+
+	@Override
+	public Set<String> caseIsOfClassExpression(TCIsOfClassExpression node, Object arg)
+	{
+		Set<String> all = super.caseIsOfClassExpression(node, arg);
+		all.add(node.classname.getName());
+		return all;
+	}
+
+	@Override
+	public Set<String> caseLetDefExpression(TCLetDefExpression node, Object arg)
+	{
+		Set<String> all = newCollection();
+
+		for (TCDefinition def: node.localDefs)
+		{
+			all.addAll(visitorSet.applyDefinitionVisitor(def, arg));
+		}
+
+		all.addAll(node.expression.apply(this, arg));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseMkBasicExpression(TCMkBasicExpression node, Object arg)
+	{
+		Set<String> all = super.caseMkBasicExpression(node, arg);
+		all.addAll(visitorSet.applyTypeVisitor(node.type, arg));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseMkTypeExpression(TCMkTypeExpression node, Object arg)
+	{
+		Set<String> all = super.caseMkTypeExpression(node, arg);
+		all.add(names.of(node.typename));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseNarrowExpression(TCNarrowExpression node, Object arg)
+	{
+		Set<String> all = super.caseNarrowExpression(node, arg);
+
+		if (node.typename != null)
+		{
+			all.add(names.of(node.typename));
+		}
+
+		all.addAll(visitorSet.applyTypeVisitor(node.basictype, arg));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseNewExpression(TCNewExpression node, Object arg)
+	{
+		Set<String> all = super.caseNewExpression(node, arg);
+		all.add(node.classname.getName());
+		return all;
+	}
+}
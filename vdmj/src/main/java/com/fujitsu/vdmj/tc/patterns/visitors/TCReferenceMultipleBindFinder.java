@@ -0,0 +1,56 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.tc.patterns.visitors;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fujitsu.vdmj.tc.TCReferenceNames;
+import com.fujitsu.vdmj.tc.TCVisitorSet;
+import com.fujitsu.vdmj.tc.patterns.TCMultipleBind;
+
+/**
+ * A visitor set to explore the TC tree and return the names of the modules or classes,
+ * or the simple names of the definitions and types, referred to by a multiple bind.
+ */
+public class TCReferenceMultipleBindFinder extends TCLeafMultipleBindVisitor<String, Set<String>, Object>
+{
+	public TCReferenceMultipleBindFinder(TCVisitorSet<String, Set<String>, Object> visitors, TCReferenceNames names)
+	{
+		this.visitorSet = visitors;
+	}
+
+	@Override
+	protected Set<String> newCollection()
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> caseMultipleBind(TCMultipleBind node, Object arg)
+	{
+		return newCollection();
+	}
+}
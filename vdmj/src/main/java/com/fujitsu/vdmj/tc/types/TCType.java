@@ -25,6 +25,9 @@
 package com.fujitsu.vdmj.tc.types;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.tc.TCNode;
@@ -66,29 +69,35 @@ public abstract class TCType extends TCNode implements Comparable<TCType>, Seria
 
 	abstract protected String toDisplay();
 
-	/** A flag to prevent recursive types from failing toString(). */
-	private boolean inToString = false;
+	/** The types in this thread's toString() calls, to prevent recursive types failing. */
+	private static final ThreadLocal<Set<TCType>> inToString = ThreadLocal.withInitial(
+		() -> Collections.newSetFromMap(new IdentityHashMap<TCType, Boolean>()));
 
 	/**
-	 * Note that this is synchronized so that multiple threads calling
-	 * toString will both get the same string, not "...". This causes
-	 * problems with VDM-RT trace logs which are threaded, and use
-	 * this method for operation names. It is final, because subclasses
-	 * must implement toDisplay and not override toString.
+	 * Note that recursion is detected per thread so that multiple threads calling
+	 * toString will both get the same string, not "...". This causes problems
+	 * with VDM-RT trace logs which are threaded, and use this method for operation
+	 * names. A lock per type is not used, because threads type checking in parallel
+	 * could deadlock on recursive types. It is final, because subclasses must
+	 * implement toDisplay and not override toString.
 	 */
 	@Override
-	public final synchronized String toString()
+	public final String toString()
 	{
-		if (inToString)
+		Set<TCType> active = inToString.get();
+
+		if (!active.add(this))
 		{
 			return "...";
 		}
-		else
+
+		try
+		{
+			return toDisplay();
+		}
+		finally
 		{
-			inToString = true;
-			String s = toDisplay();
-			inToString = false;
-			return s;
+			active.remove(this);
 		}
 	}
 
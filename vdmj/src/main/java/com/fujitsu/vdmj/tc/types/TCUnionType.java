@@ -25,7 +25,10 @@
 package com.fujitsu.vdmj.tc.types;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.lex.Token;
@@ -47,27 +50,35 @@ public class TCUnionType extends TCType
 
 	public TCTypeSet types;
 
-	private TCSetType setType = null;
-	private TCSeqType seqType = null;
-	private TCMapType mapType = null;
-	private TCRecordType recType = null;
-	private TCNumericType numType = null;
+	private volatile TCSetType setType = null;
+	private volatile TCSeqType seqType = null;
+	private volatile TCMapType mapType = null;
+	private volatile TCRecordType recType = null;
+	private volatile TCNumericType numType = null;
 	private TCProductType prodType = null;
-	private TCFunctionType funcType = null;
-	private TCOperationType opType = null;
-	private TCClassType classType = null;
-
-	private boolean setDone = false;
-	private boolean seqDone = false;
-	private boolean mapDone = false;
-	private boolean recDone = false;
-	private boolean numDone = false;
-	private boolean funDone = false;
-	private boolean opDone = false;
-	private boolean classDone = false;
+	private volatile TCFunctionType funcType = null;
+	private volatile TCOperationType opType = null;
+	private volatile TCClassType classType = null;
+
+	private volatile boolean setDone = false;
+	private volatile boolean seqDone = false;
+	private volatile boolean mapDone = false;
+	private volatile boolean recDone = false;
+	private volatile boolean numDone = false;
+	private volatile boolean funDone = false;
+	private volatile boolean opDone = false;
+	private volatile boolean classDone = false;
 
 	private int prodCard = -1;
 	private boolean expanded = false;
+
+	/**
+	 * The derived types above may be shared by threads type checking in parallel.
+	 * Each is published by its volatile field once complete, and each thread
+	 * records the derivations it is making, to detect recursion.
+	 */
+	private static final ThreadLocal<Map<TCUnionType, Set<String>>> deriving =
+		ThreadLocal.withInitial(IdentityHashMap::new);
 	
 	public static TCType MISSING_FIELD = new TCQuoteType(LexLocation.ANY, "?");
 
@@ -322,8 +333,7 @@ public class TCUnionType extends TCType
 	{
 		if (!seqDone)
 		{
-	   		seqDone = true;		// Mark early to avoid recursion.
-	   		seqType = new TCUnknownType(location).getSeq();
+	   		if (!startDerived("seq")) return new TCUnknownType(location).getSeq();		// Recursive
 
 	   		TCTypeSet set = new TCTypeSet();
 	   		boolean allSeq1 = true;
@@ -342,6 +352,9 @@ public class TCUnionType extends TCType
     			allSeq1 ?
    	    			new TCSeq1Type(location, set.getType(location)) :  					
    	    			new TCSeqType(location, set.getType(location));
+
+    		endDerived("seq");
+    		seqDone = true;
  		}
 
 		return seqType;
@@ -352,8 +365,7 @@ public class TCUnionType extends TCType
 	{
 		if (!setDone)
 		{
-    		setDone = true;		// Mark early to avoid recursion.
-    		setType = new TCUnknownType(location).getSet();
+    		if (!startDerived("set")) return new TCUnknownType(location).getSet();		// Recursive
 
     		TCTypeSet set = new TCTypeSet();
     		boolean allSet1 = true;
@@ -372,6 +384,9 @@ public class TCUnionType extends TCType
     			allSet1 ?
     				new TCSet1Type(location, set.getType(location)) :
     				new TCSetType(location, set.getType(location));
+
+    		endDerived("set");
+    		setDone = true;
 		}
 
 		return setType;
@@ -382,8 +397,7 @@ public class TCUnionType extends TCType
 	{
 		if (!mapDone)
 		{
-    		mapDone = true;		// Mark early to avoid recursion.
-    		mapType = new TCUnknownType(location).getMap();
+    		if (!startDerived("map")) return new TCUnknownType(location).getMap();		// Recursive
 
     		TCTypeSet from = new TCTypeSet();
     		TCTypeSet to = new TCTypeSet();
@@ -399,6 +413,9 @@ public class TCUnionType extends TCType
 
     		mapType = from.isEmpty() ? null :
     			new TCMapType(location, from.getType(location), to.getType(location));
+
+    		endDerived("map");
+    		mapDone = true;
 		}
 
 		return mapType;
@@ -409,8 +426,7 @@ public class TCUnionType extends TCType
 	{
 		if (!recDone)
 		{
-    		recDone = true;		// Mark early to avoid recursion.
-    		recType = new TCUnknownType(location).getRecord();
+    		if (!startDerived("rec")) return new TCUnknownType(location).getRecord();		// Recursive
 
     		// Build a record type with the common fields of the contained
     		// record types, making the field types the union of the original
@@ -471,6 +487,9 @@ public class TCUnionType extends TCType
     		}
 
     		recType = fields.isEmpty() ? null : new TCRecordType(location, fields);
+
+    		endDerived("rec");
+    		recDone = true;
 		}
 
 		return recType;
@@ -481,8 +500,7 @@ public class TCUnionType extends TCType
 	{
 		if (!classDone)
 		{
-    		classDone = true;		// Mark early to avoid recursion.
-    		classType = new TCUnknownType(location).getClassType(env);
+    		if (!startDerived("class")) return new TCUnknownType(location).getClassType(env);		// Recursive
 
     		// Build a class type with the common fields of the contained
     		// class types, making the field types the union of the original
@@ -508,12 +526,16 @@ public class TCUnionType extends TCType
     		
     		if (count == 1)		// Only one class in union, so just return this one
     		{
+    			endDerived("class");
     			classType = found;
+    			classDone = true;
     			return classType;
     		}
     		else if (count == 0)
     		{
+    			endDerived("class");
     			classType = null;
+    			classDone = true;
     			return null;
     		}
 
@@ -620,6 +642,9 @@ public class TCUnionType extends TCType
     		classType = (classname == null) ? null :
     			new TCClassType(location,
     				new TCClassDefinition(classname, new TCNameList(), newdefs));
+
+    		endDerived("class");
+    		classDone = true;
 		}
 
 		return classType;
@@ -630,8 +655,8 @@ public class TCUnionType extends TCType
 	{
 		if (!numDone)
 		{
-    		numDone = true;
-			numType = new TCNaturalOneType(location);		// lightest default
+    		if (!startDerived("num")) return new TCNaturalOneType(location);		// Recursive
+			TCNumericType result = new TCNaturalOneType(location);		// lightest default
 			boolean found = false;
 
     		for (TCType t: types)
@@ -640,16 +665,18 @@ public class TCUnionType extends TCType
     			{
     				TCNumericType nt = t.getNumeric();
 
-    				if (nt.getWeight() > numType.getWeight())
+    				if (nt.getWeight() > result.getWeight())
     				{
-    					numType = nt;
+    					result = nt;
     				}
 
     				found = true;
     			}
     		}
 
-    		if (!found) numType = null;
+    		endDerived("num");
+    		numType = found ? result : null;
+    		numDone = true;
 		}
 
 		return numType;
@@ -664,10 +691,13 @@ public class TCUnionType extends TCType
 	@Override
 	public TCProductType getProduct(int n)
 	{
-		if (prodCard != n)
+		synchronized (this)
+		{
+			if (prodCard == n) return prodType;
+		}
+
+		if (startDerived("product" + n))
 		{
-    		prodCard = n;
-    		prodType = new TCUnknownType(location).getProduct(n);
 
     		// Build a N-ary product type, making the types the union of the
     		// original N-ary products' types...
@@ -704,10 +734,19 @@ public class TCUnionType extends TCType
     			list.add(result.get(i).getType(location));
     		}
 
-    		prodType = list.isEmpty() ? null : new TCProductType(location, list);
+    		TCProductType derived = list.isEmpty() ? null : new TCProductType(location, list);
+    		endDerived("product" + n);
+
+    		synchronized (this)
+    		{
+    			prodCard = n;
+    			prodType = derived;
+    		}
+
+    		return derived;
 		}
 
-		return prodType;
+		return new TCUnknownType(location).getProduct(n);		// Recursive
 	}
 
 	@Override
@@ -715,8 +754,7 @@ public class TCUnionType extends TCType
 	{
 		if (!funDone)
 		{
-    		funDone = true;
-    		funcType = new TCUnknownType(location).getFunction();
+    		if (!startDerived("fun")) return new TCUnknownType(location).getFunction();		// Recursive
 
        		TCTypeSet result = new TCTypeSet();
        		Map<Integer, TCTypeSet> params = new HashMap<Integer, TCTypeSet>();
@@ -759,13 +797,17 @@ public class TCUnionType extends TCType
     				plist.add(pt);
     			}
 
-    			funcType = new TCFunctionType(location, plist, true, rtype);
-    			funcType.definitions = defs;
+    			TCFunctionType ftype = new TCFunctionType(location, plist, true, rtype);
+    			ftype.definitions = defs;
+    			funcType = ftype;
     		}
     		else
     		{
     			funcType = null;
     		}
+
+    		endDerived("fun");
+    		funDone = true;
     	}
 
 		return funcType;
@@ -776,8 +818,7 @@ public class TCUnionType extends TCType
 	{
 		if (!opDone)
 		{
-    		opDone = true;
-    		opType = new TCUnknownType(location).getOperation();
+    		if (!startDerived("op")) return new TCUnknownType(location).getOperation();		// Recursive
 
        		TCTypeSet result = new TCTypeSet();
        		Map<Integer, TCTypeSet> params = new HashMap<Integer, TCTypeSet>();
@@ -820,18 +861,43 @@ public class TCUnionType extends TCType
     				plist.add(pt);
     			}
 
-    			opType = new TCOperationType(location, plist, rtype);
-    			opType.definitions = defs;
+    			TCOperationType otype = new TCOperationType(location, plist, rtype);
+    			otype.definitions = defs;
+    			opType = otype;
     		}
     		else
     		{
     			opType = null;
     		}
+
+    		endDerived("op");
+    		opDone = true;
     	}
 
 		return opType;
 	}
 	
+	/**
+	 * Mark the start of a derivation by this thread, returning false if it is
+	 * already deriving the same thing, which means the union is recursive.
+	 */
+	private boolean startDerived(String kind)
+	{
+		return deriving.get().computeIfAbsent(this, k -> new HashSet<String>()).add(kind);
+	}
+
+	private void endDerived(String kind)
+	{
+		Map<TCUnionType, Set<String>> map = deriving.get();
+		Set<String> kinds = map.get(this);
+		kinds.remove(kind);
+
+		if (kinds.isEmpty())
+		{
+			map.remove(this);
+		}
+	}
+
 	public TCTypeSet getMatches(TCTypeQualifier qualifier)
 	{
 		TCTypeSet set = new TCTypeSet();
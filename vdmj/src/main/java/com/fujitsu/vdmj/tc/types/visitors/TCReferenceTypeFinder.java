@@ -0,0 +1,93 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.tc.types.visitors;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fujitsu.vdmj.tc.TCReferenceNames;
+import com.fujitsu.vdmj.tc.types.TCClassType;
+import com.fujitsu.vdmj.tc.types.TCNamedType;
+import com.fujitsu.vdmj.tc.types.TCRecordType;
+import com.fujitsu.vdmj.tc.types.TCType;
+import com.fujitsu.vdmj.tc.types.TCUnresolvedType;
+
+/**
+ * A visitor to return the names of the modules or classes, or the simple names of the
+ * types and classes, referred to by a type.
+ */
+public class TCReferenceTypeFinder extends TCLeafTypeVisitor<String, Set<String>, Object>
+{
+	private final TCReferenceNames names;
+
+	public TCReferenceTypeFinder(TCReferenceNames names)
+	{
+		this.names = names;
+	}
+
+	@Override
+	protected Set<String> newCollection()
+	{
+		return new HashSet<String>();
+	}
+
+	@Override
+	public Set<String> caseType(TCType node, Object arg)
+	{
+		return newCollection();
+	}
+
+	@Override
+	public Set<String> caseClassType(TCClassType node, Object arg)
+	{
+		Set<String> all = newCollection();
+		all.add(node.name.getName());
+		return all;
+	}
+
+	@Override
+	public Set<String> caseNamedType(TCNamedType node, Object arg)
+	{
+		Set<String> all = super.caseNamedType(node, arg);
+		all.add(names.of(node.typename));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseRecordType(TCRecordType node, Object arg)
+	{
+		Set<String> all = super.caseRecordType(node, arg);
+		all.add(names.of(node.name));
+		return all;
+	}
+
+	@Override
+	public Set<String> caseUnresolvedType(TCUnresolvedType node, Object arg)
+	{
+		Set<String> all = newCollection();
+		all.add(names.of(node.typename));
+		return all;
+	}
+}
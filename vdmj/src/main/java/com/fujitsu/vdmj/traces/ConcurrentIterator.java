@@ -18,22 +18,16 @@
  *
  *	You should have received a copy of the GNU General Public License
  *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
- *	SPDX-License-Identifier: GPL-3.0-or-later
+ *	SPDX-License-Identifier: GPL-3.0-or-later
  *
  ******************************************************************************/
 
 package com.fujitsu.vdmj.traces;
 
-import com.fujitsu.vdmj.util.Selector;
-
-
 public class ConcurrentIterator extends TraceIterator
 {
 	private final TraceIteratorList nodes;
-	
-	private PermuteArray permutations = null;	// Of the node orderings
-	private int[] permutation = null;			// The current ordering
-	private Selector selector = null;			// Of the alternatives from each node
+	private long next = 0;		// The number of the next test
 
 	public ConcurrentIterator(TraceIteratorList nodes)
 	{
@@ -61,57 +55,23 @@ public class ConcurrentIterator extends TraceIterator
 	@Override
 	public CallSequence getNextTest()
 	{
-		int nodesSize = nodes.size();
-		
-		if (permutations == null)	// First time in
-		{
-			permutations = new PermuteArray(nodes.size());
-			selector = null;
-		}
-		
-		if ((selector == null || !selector.hasNext()) &&	// Start next perm
-			permutations.hasNext())
-		{
-			permutation = permutations.next();
-			selector = null;
-		}
-		
-		if (selector == null)		// First for a given permutation
-		{
-			int[] c = new int[nodesSize];
-			
-			for (int i=0; i<nodesSize; i++)
-			{
-				c[i] = nodes.get(i).count();
-			}
-			
-			selector = new Selector(c);
-		}
+		return getTest(next++);
+	}
 
+	@Override
+	public CallSequence getTest(long n)
+	{
+		// Each permutation of the nodes has countSequence() selections, and the
+		// permutations are in lexicographic order, as produced by PermuteArray.
+		
+		long selections = nodes.countSequence();
+		int[] order = PermuteArray.getPermutation(nodes.size(), n / selections);
+		CallSequence[] subsequences = nodes.getTestSelection(n % selections);
 		CallSequence test = getVariables();
 		
-		if (selector.hasNext())
+		for (int i=0; i<nodes.size(); i++)		// Add in permutation order
 		{
-			int[] select = selector.next();
-			
-			// The select array contains a set of numbers, being the elements of
-			// the expansion of each node that must be concatenated.
-			
-			CallSequence[] subsequences = new CallSequence[nodesSize];
-			nodes.reset();
-			
-			for (int node=0; node<nodesSize; node++)
-			{
-				for (int i=0; i<=select[node]; i++)		// Drive each iterator to the nth
-				{
-					subsequences[node] = nodes.get(node).getNextTest();
-				}
-			}
-			
-			for (int i=0; i<nodesSize; i++)		// Add in permutation order
-			{
-				test.addAll(subsequences[permutation[i]]);
-			}
+			test.addAll(subsequences[order[i]]);
 		}
 		
 		return test;
@@ -120,17 +80,16 @@ public class ConcurrentIterator extends TraceIterator
 	@Override
 	public boolean hasMoreTests()
 	{
-		return permutations == null || permutations.hasNext() ||
-			(selector != null && selector.hasNext());
+		return next < count();
 	}
 
 	@Override
-	public int count()
+	public long count()
 	{
 		return nodes.countSequence() * factorial(nodes.size());
 	}
 
-	private int factorial(int size)
+	private long factorial(int size)
 	{
 		return (size == 1) ? 1 : size * factorial(size - 1);
 	}
@@ -139,6 +98,6 @@ public class ConcurrentIterator extends TraceIterator
 	public void reset()
 	{
 		nodes.reset();
-		permutations = null;
+		next = 0;
 	}
 }
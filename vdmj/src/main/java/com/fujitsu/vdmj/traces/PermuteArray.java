@@ -158,6 +158,37 @@ public class PermuteArray
 		return a;
 	}
 	
+	//---------------------------------------------------------
+	// Return the kth permutation of n, counting from zero, in
+	// the (lexicographic) order that next() generates them
+	//---------------------------------------------------------
+
+	public static int[] getPermutation(int n, long k)
+	{
+		int[] result = new int[n];
+		boolean[] used = new boolean[n];
+		long f = getFactorial(n);
+
+		for (int i = 0; i < n; i++)
+		{
+			f = f / (n - i);
+			long skip = k / f;
+			k = k % f;
+
+			for (int j = 0; j < n; j++)
+			{
+				if (!used[j] && skip-- == 0)
+				{
+					result[i] = j;
+					used[j] = true;
+					break;
+				}
+			}
+		}
+
+		return result;
+	}
+	
 	public static void main(String[] args)
 	{
 		PermuteArray p = new PermuteArray(4);
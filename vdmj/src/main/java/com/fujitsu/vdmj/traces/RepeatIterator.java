@@ -18,36 +18,31 @@
  *
  *	You should have received a copy of the GNU General Public License
  *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
- *	SPDX-License-Identifier: GPL-3.0-or-later
+ *	SPDX-License-Identifier: GPL-3.0-or-later
  *
  ******************************************************************************/
 
 package com.fujitsu.vdmj.traces;
 
-import java.util.Arrays;
-
 import com.fujitsu.vdmj.in.statements.INSkipStatement;
 import com.fujitsu.vdmj.lex.LexLocation;
-import com.fujitsu.vdmj.util.Selector;
 
 public class RepeatIterator extends TraceIterator
 {
 	private static final INSkipStatement SKIP = new INSkipStatement(LexLocation.ANY);
 	private final TraceIterator repeat;
-	private final int from;
-	private final int to;
+	private final long from;
+	private final long to;
 	
-	private int repeatCount;
-	private Integer repeatValue;
-	private Selector permutor;
+	private long repeatCount;
+	private long next = 0;		// The number of the next test
 	
 	public RepeatIterator(TraceIterator repeat, long from, long to)
 	{
 		this.repeat = repeat;
-		this.from = (int)from;
-		this.to = (int)to;
+		this.from = from;
+		this.to = to;
 		
-		repeatValue = this.from;
 		repeatCount = repeat.count();
 	}
 
@@ -63,82 +58,78 @@ public class RepeatIterator extends TraceIterator
 	@Override
 	public CallSequence getNextTest()
 	{
-		if (permutor == null)	// Start new permutor for repeatValue
-		{
-			int[] c = new int[repeatValue];
-			Arrays.fill(c, repeatCount);
-			permutor = new Selector(c);
-		}
-		
-		CallSequence test = getVariables();
-		
-		if (permutor.hasNext())
-		{
-			int[] select = permutor.next();
-			
-			// The select array contains a set of numbers, being the elements of
-			// the expansion of "repeat" that must be concatenated.
-			
-			CallSequence[] subsequences = new CallSequence[repeatCount];
-			repeat.reset();
-			
-			for (int i=0; i<repeatCount; i++)
-			{
-				subsequences[i] = repeat.getNextTest();
-			}
-			
-			for (int i=0; i<repeatValue; i++)	// ie. {n} additions
-			{
-				test.addAll(subsequences[select[i]]);
-			}
-		}
+		return getTest(next++);
+	}
 
-		if (!permutor.hasNext())		// Exhausted permutor for repeatValue
+	@Override
+	public CallSequence getTest(long n)
+	{
+		for (long rval=from; rval <= to; rval++)
 		{
-			permutor = null;
-
-			if (repeatValue == 0)		// ie. "?" or zero times
-			{
-				test.add(SKIP);
-			}
+			long size = power(repeatCount, rval);
 			
-			if (repeatValue < to)
-			{
-				repeatValue++;
-			}
-			else
+			if (n < size)
 			{
-				repeatValue = null;		// Indicates no more tests
+				CallSequence test = getVariables();
+				
+				// The Selector used by getNextTest varies the first element fastest,
+				// so n is taken apart as a little-endian number, base repeatCount.
+				
+				for (long i=0; i<rval; i++)
+				{
+					test.addAll(repeat.getTest(n % repeatCount));
+					n = n / repeatCount;
+				}
+				
+				if (rval == 0)		// ie. "?" or zero times
+				{
+					test.add(SKIP);
+				}
+				
+				return test;
 			}
+			
+			n = n - size;
 		}
 		
-		return test;
+		throw new RuntimeException("Called getTest() with test number out of range");
 	}
 
 	@Override
 	public boolean hasMoreTests()
 	{
-		return repeatValue != null;		// Cleared by getNextTest
+		return next < count();
 	}
 
 	@Override
-	public int count()
+	public long count()
 	{
-		int n = 0;
+		long n = 0;
 		
-		for (int rval=from; rval <= to; rval++)
+		for (long rval=from; rval <= to; rval++)
 		{
-			n = (int) (n + Math.pow(repeatCount, rval));
+			n = n + power(repeatCount, rval);
 		}
 		
 		return n;
 	}
 
+	private long power(long base, long exp)
+	{
+		long result = 1;
+		
+		for (long i=0; i<exp; i++)
+		{
+			result = result * base;
+		}
+		
+		return result;
+	}
+
 	@Override
 	public void reset()
 	{
 		repeat.reset();
-		repeatValue = from;
-		permutor = null;
+		next = 0;
 	}
 }
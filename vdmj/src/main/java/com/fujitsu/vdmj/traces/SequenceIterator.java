@@ -63,6 +63,14 @@ public class SequenceIterator extends TraceIterator
 		return test;
 	}
 
+	@Override
+	public CallSequence getTest(long n)
+	{
+		CallSequence test = getVariables();
+		test.addAll(nodes.getTestSequence(n));
+		return test;
+	}
+
 	@Override
 	public boolean hasMoreTests()
 	{
@@ -70,7 +78,7 @@ public class SequenceIterator extends TraceIterator
 	}
 
 	@Override
-	public int count()
+	public long count()
 	{
 		return nodes.countSequence();
 	}
@@ -52,6 +52,14 @@ public class StatementIterator extends TraceIterator
 		return test;
 	}
 
+	@Override
+	public CallSequence getTest(long n)
+	{
+		CallSequence test = getVariables();
+		test.add(statement);
+		return test;
+	}
+
 	@Override
 	public boolean hasMoreTests()
 	{
@@ -59,7 +67,7 @@ public class StatementIterator extends TraceIterator
 	}
 
 	@Override
-	public int count()
+	public long count()
 	{
 		return 1;
 	}
@@ -35,20 +35,20 @@ import java.util.Vector;
  */
 public class TraceFilter
 {
-	private final int count;
+	private final long count;
 	private final float subset;
 	private final TraceReductionType reductionType;
 	private final Random prng;
 	
 	private List<CallSequence> failedTests = new Vector<CallSequence>();
 	private List<Integer> failedStems = new Vector<Integer>();
-	private List<Integer> failedNumbers = new Vector<Integer>();
+	private List<Long> failedNumbers = new Vector<Long>();
 	private Set<String> shapes = new HashSet<String>();
 	private int extras = 0;
 	
-	private Set<Integer> included = new HashSet<Integer>();
+	private Set<Long> included = new HashSet<Long>();
 	
-	public TraceFilter(int count, float subset, TraceReductionType reductionType, long seed)
+	public TraceFilter(long count, float subset, TraceReductionType reductionType, long seed)
 	{
 		this.count = count;
 		this.subset = subset;
@@ -58,13 +58,20 @@ public class TraceFilter
 		// Generate explicit random tests to include for the subset, if there is one.
 		if (subset < 1.0)
 		{
-    		for (int i=0; i<(count * subset); i++)
+    		for (long i=0; i<(count * subset); i++)
     		{
-    			int n;
+    			long n;
     			
     			do
     			{
-    				n = prng.nextInt(count) + 1;
+    				if (count > Integer.MAX_VALUE)
+    				{
+    					n = Math.floorMod(prng.nextLong(), count) + 1;
+    				}
+    				else
+    				{
+    					n = prng.nextInt((int)count) + 1;	// Same sequence as before for a seed
+    				}
     			}
     			while (included.contains(n));
     			
@@ -73,7 +80,7 @@ public class TraceFilter
 		}
 	}
 
-	public int getFilteredBy(CallSequence test)
+	public long getFilteredBy(CallSequence test)
 	{
 		for (int i=0; i<failedTests.size(); i++)
 		{
@@ -86,7 +93,7 @@ public class TraceFilter
 		return 0;
 	}
 
-	public void update(List<Object> result, CallSequence test, int n)
+	public void update(List<Object> result, CallSequence test, long n)
 	{
 		if (result.get(result.size()-1) != Verdict.PASSED)
 		{
@@ -96,7 +103,7 @@ public class TraceFilter
 		}
 	}
 
-	public boolean isRemoved(CallSequence test, int number)
+	public boolean isRemoved(CallSequence test, long number)
 	{
 		switch (reductionType)
 		{
@@ -158,11 +165,11 @@ public class TraceFilter
 		return false;
 	}
 	
-	public int getFilteredCount()
+	public long getFilteredCount()
 	{
 		if (subset < 1.0 && reductionType == TraceReductionType.RANDOM)
 		{
-			return (int)Math.ceil(count * subset);
+			return (long)Math.ceil(count * subset);
 		}
 		else
 		{
@@ -57,7 +57,14 @@ public abstract class TraceIterator
 
 	abstract public CallSequence getNextTest();
 
-	abstract public int count();
+	/**
+	 * Get the nth test directly, counting from zero, without affecting the position
+	 * of getNextTest. Tests are in the same order that getNextTest returns them after
+	 * a reset, so test n is the (n+1)th call of getNextTest.
+	 */
+	abstract public CallSequence getTest(long n);
+
+	abstract public long count();
 	
 	abstract public void reset();
 }
@@ -37,6 +37,8 @@ public class TraceIteratorList extends Vector<TraceIterator>
 
 	private Integer lastAlternative = null;
 
+	private long[] counts = null;		// Cached for getTest methods
+
 	public void reset()
 	{
 		for (TraceIterator iter: this)
@@ -48,25 +50,25 @@ public class TraceIteratorList extends Vector<TraceIterator>
 		lastAlternative = null;
 	}
 	
-	public int countSequence()
+	public long countSequence()
 	{
-		int result = 1;
+		long result = 1;
 		
-		for (TraceIterator iter: this)
+		for (long count: getCounts())
 		{
-			result = result * iter.count();
+			result = result * count;
 		}
 		
 		return result;
 	}
 
-	public int countAlternative()
+	public long countAlternative()
 	{
-		int result = 0;
+		long result = 0;
 		
-		for (TraceIterator iter: this)
+		for (long count: getCounts())
 		{
-			result = result + iter.count();
+			result = result + count;
 		}
 		
 		return result;
@@ -160,6 +162,79 @@ public class TraceIteratorList extends Vector<TraceIterator>
 		throw new RuntimeException("Called getNextTest() when !hasMoreTests()");
 	}
 	
+	/**
+	 * Get the nth selection of one subsequence from each iterator, counting from zero,
+	 * in the order of getNextTestSequence. The first iterator varies fastest.
+	 */
+	public CallSequence[] getTestSelection(long n)
+	{
+		long[] sizes = getCounts();
+		CallSequence[] selection = new CallSequence[size()];
+		
+		for (int i=0; i<size(); i++)
+		{
+			selection[i] = get(i).getTest(n % sizes[i]);
+			n = n / sizes[i];
+		}
+		
+		return selection;
+	}
+
+	/**
+	 * Get the nth sequence directly, counting from zero, in the order of getNextTestSequence.
+	 */
+	public CallSequence getTestSequence(long n)
+	{
+		CallSequence seq = new CallSequence();
+		
+		for (CallSequence subsequence: getTestSelection(n))
+		{
+			seq.addAll(subsequence);
+		}
+		
+		return seq;
+	}
+
+	/**
+	 * Get the nth alternative directly, counting from zero, in the order of
+	 * getNextTestAlternative.
+	 */
+	public CallSequence getTestAlternative(long n)
+	{
+		long[] sizes = getCounts();
+		
+		for (int i=0; i<size(); i++)
+		{
+			if (n < sizes[i])
+			{
+				return get(i).getTest(n);
+			}
+			
+			n = n - sizes[i];
+		}
+		
+		throw new RuntimeException("Called getTest() with test number out of range");
+	}
+
+	/**
+	 * The counts of each iterator are fixed once the list is complete, but the
+	 * iterators are nested, so we cache them to make count and getTest O(depth).
+	 */
+	private long[] getCounts()
+	{
+		if (counts == null || counts.length != size())
+		{
+			counts = new long[size()];
+			
+			for (int i=0; i<size(); i++)
+			{
+				counts[i] = get(i).count();
+			}
+		}
+		
+		return counts;
+	}
+	
 	/**
 	 * Get the simplest alternative iterator representing the list.
 	 */
@@ -0,0 +1,319 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.traces;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.messages.Console;
+import com.fujitsu.vdmj.messages.ConsoleWriter;
+
+/**
+ * A set of worker processes that execute the tests of one trace in parallel. Each
+ * worker is a separate JVM that loads the same specification, so its interpreter
+ * state is completely isolated from the others. Tests are dealt round-robin to the
+ * workers in the order that the runtrace loop considers them, and the results are
+ * read back in that order, so the output is the same as for a serial run.
+ */
+public class TraceWorkers
+{
+	/** The system property that puts a VDMJ process into worker mode */
+	private static final String WORKER_PROPERTY = "vdmj.traces.worker";
+
+	/** The prefix for result lines written by workers */
+	private static final String RESULT = "#RESULT\t";
+
+	/** Worker mode settings, parsed from the system property */
+	private static final String[] workerArgs = parseWorkerArgs();
+
+	private final List<Process> processes = new Vector<Process>();
+	private final List<BufferedReader> readers = new Vector<BufferedReader>();
+	private final ConsoleWriter writer;
+	private long index = 0;
+
+	/**
+	 * Parallel execution is only possible when the tests are not being debugged, the
+	 * vdmj.traces.workers property is more than one, and we know how this process
+	 * was started. Workers never start workers of their own.
+	 */
+	public static boolean isAvailable(boolean debug)
+	{
+		return !debug && Properties.traces_workers > 1 &&
+			Settings.mainClass != null && Settings.mainArgs != null && !isWorker();
+	}
+
+	public static boolean isWorker()
+	{
+		return workerArgs != null;
+	}
+
+	public TraceWorkers(String trace, long startTest, long endTest,
+		float subset, TraceReductionType reductionType, long seed, ConsoleWriter writer) throws IOException
+	{
+		this.writer = writer;
+		int count = Properties.traces_workers;
+
+		try
+		{
+			for (int w = 0; w < count; w++)
+			{
+				List<String> command = new Vector<String>();
+				command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+				command.addAll(jvmArgs(ManagementFactory.getRuntimeMXBean().getInputArguments()));
+				command.add("-D" + WORKER_PROPERTY + "=" + w + "," + count + "," + subset + "," + reductionType + "," + seed);
+				command.add("-cp");
+				command.add(System.getProperty("java.class.path"));
+				command.add(Settings.mainClass.getName());
+				command.addAll(workerArgs(Settings.mainArgs));
+				command.add("-cmd");
+				command.add("runtrace " + trace + " " + startTest + " " + endTest);
+
+				ProcessBuilder pb = new ProcessBuilder(command);
+				pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+				Process process = pb.start();
+				process.getOutputStream().close();
+
+				processes.add(process);
+				readers.add(new BufferedReader(new InputStreamReader(process.getInputStream(), Console.charset)));
+			}
+		}
+		catch (IOException e)
+		{
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Read the result of the next test from the worker that ran it. Any other output
+	 * from the worker, like IO`println from the specification, is passed on.
+	 */
+	public List<Object> nextResult() throws IOException
+	{
+		BufferedReader reader = readers.get((int)(index++ % readers.size()));
+		String line = reader.readLine();
+
+		while (line != null && !line.startsWith(RESULT))
+		{
+			writer.println(line);
+			line = reader.readLine();
+		}
+
+		if (line == null)
+		{
+			throw new IOException("Trace worker terminated unexpectedly");
+		}
+
+		String[] parts = line.substring(RESULT.length()).split("\t", -1);
+		List<Object> result = new Vector<Object>();
+
+		for (int i = 0; i < parts.length - 1; i++)
+		{
+			result.add(unescape(parts[i]));
+		}
+
+		result.add(Verdict.valueOf(parts[parts.length - 1]));
+		return result;
+	}
+
+	public void close()
+	{
+		for (Process process: processes)
+		{
+			process.destroy();
+		}
+
+		processes.clear();
+		readers.clear();
+	}
+
+	/**
+	 * The following are used by the runtrace loop when this process is a worker. The
+	 * reduction settings are passed from the parent, which selects the same tests.
+	 */
+	public static boolean isMine(long index)
+	{
+		return index % Integer.parseInt(workerArgs[1]) == Integer.parseInt(workerArgs[0]);
+	}
+
+	public static float getSubset()
+	{
+		return Float.parseFloat(workerArgs[2]);
+	}
+
+	public static TraceReductionType getReductionType()
+	{
+		return TraceReductionType.valueOf(workerArgs[3]);
+	}
+
+	public static long getSeed()
+	{
+		return Long.parseLong(workerArgs[4]);
+	}
+
+	public static void writeResult(List<Object> result)
+	{
+		StringBuilder sb = new StringBuilder(RESULT);
+		String sep = "";
+
+		for (Object item: result)
+		{
+			sb.append(sep);
+			sb.append(escape(item.toString()));
+			sep = "\t";
+		}
+
+		Console.out.println(sb.toString());
+	}
+
+	private static String[] parseWorkerArgs()
+	{
+		String value = System.getProperty(WORKER_PROPERTY);
+		return value == null ? null : value.split(",");
+	}
+
+	/**
+	 * Workers are started with the JVM arguments of the parent, except those that
+	 * attach a debugger, agent or management port, which the workers would either
+	 * contend for or slow down.
+	 */
+	private static List<String> jvmArgs(List<String> args)
+	{
+		List<String> list = new Vector<String>();
+
+		for (String arg: args)
+		{
+			if (!arg.startsWith("-agentlib") &&
+				!arg.startsWith("-agentpath") &&
+				!arg.startsWith("-javaagent") &&
+				!arg.startsWith("-Xrunjdwp") &&
+				!arg.startsWith("-Xdebug") &&
+				!arg.startsWith("-Dcom.sun.management.jmxremote") &&
+				!arg.contains("jdwp"))
+			{
+				list.add(arg);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Workers are started with the original arguments, without those that start the
+	 * interpreter or a log. Runtime check settings may have been changed via the
+	 * "set" command, so the current settings are added.
+	 */
+	private static List<String> workerArgs(String[] args)
+	{
+		List<String> list = new Vector<String>();
+
+		for (int i = 0; i < args.length; i++)
+		{
+			switch (args[i])
+			{
+				case "-i":
+				case "-pre":
+				case "-post":
+				case "-inv":
+				case "-dtc":
+				case "-measures":
+				case "-exceptions":
+				case "-memo":
+					break;
+
+				case "-e":
+				case "-cmd":
+				case "-log":
+				case "-remote":
+				case "-simulation":
+					i++;	// Skip argument too
+					break;
+
+				default:
+					list.add(args[i]);
+					break;
+			}
+		}
+
+		addFlag(list, !Settings.prechecks, "-pre");
+		addFlag(list, !Settings.postchecks, "-post");
+		addFlag(list, !Settings.invchecks, "-inv");
+		addFlag(list, !Settings.dynamictypechecks, "-dtc");
+		addFlag(list, !Settings.measureChecks, "-measures");
+		addFlag(list, Settings.exceptions, "-exceptions");
+		addFlag(list, Settings.memoise, "-memo");
+
+		list.add("-q");		// No banners
+		list.add("-w");		// No warnings
+		return list;
+	}
+
+	private static void addFlag(List<String> list, boolean set, String flag)
+	{
+		if (set)
+		{
+			list.add(flag);
+		}
+	}
+
+	private static String escape(String s)
+	{
+		return s.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+	}
+
+	private static String unescape(String s)
+	{
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < s.length(); i++)
+		{
+			char c = s.charAt(i);
+
+			if (c == '\\' && i + 1 < s.length())
+			{
+				switch (s.charAt(++i))
+				{
+					case 't':	sb.append('\t'); break;
+					case 'n':	sb.append('\n'); break;
+					case 'r':	sb.append('\r'); break;
+					default:	sb.append(s.charAt(i)); break;
+				}
+			}
+			else
+			{
+				sb.append(c);
+			}
+		}
+
+		return sb.toString();
+	}
+}
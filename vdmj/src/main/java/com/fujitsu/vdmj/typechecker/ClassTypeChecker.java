@@ -125,9 +125,13 @@ public class ClassTypeChecker extends TypeChecker
 		// Prepare to look for recursive loops
 		TCRecursiveLoops.getInstance().reset();
 
+		// Independent classes may be checked in parallel, within each pass
+		ParallelChecker<TCClassDefinition> checker = new ParallelChecker<TCClassDefinition>(
+			classes, c -> c.name.getName(), order -> order.classReferences(classes));
+
 		for (Pass pass: Pass.values())
 		{
-        	for (TCClassDefinition c: classes)
+        	checker.check(c ->
     		{
 				PrivateClassEnvironment self = new PrivateClassEnvironment(c, allClasses);
 				
@@ -157,7 +161,7 @@ public class ClassTypeChecker extends TypeChecker
 				{
 					c.annotations.tcAfter(c, self);
 				}
-    		}
+    		});
 		}
 		
 		// Look for recursive loops
@@ -24,6 +24,9 @@
 
 package com.fujitsu.vdmj.typechecker;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.lex.Dialect;
 import com.fujitsu.vdmj.lex.LexLocation;
@@ -75,17 +78,30 @@ abstract public class Environment
 	protected void dupHideCheck(TCDefinitionList list, NameScope scope)
 	{
 		TCNameList allnames = list.getVariableNames();
+		Map<TCNameToken, TCNameList> buckets = new HashMap<TCNameToken, TCNameList>();
 
-		for (TCNameToken n1: allnames)
+		for (TCNameToken name: allnames)
 		{
-			TCNameList done = new TCNameList();
+			TCNameToken key = name.copy();	// Without type qualifiers
+			TCNameList bucket = buckets.get(key);
+
+			if (bucket == null)
+			{
+				bucket = new TCNameList();
+				buckets.put(key, bucket);
+			}
 
-			for (TCNameToken n2: allnames)
+			bucket.add(name);
+		}
+
+		for (TCNameToken n1: allnames)
+		{
+			for (TCNameToken n2: buckets.get(n1.copy()))
 			{
-				if (n1 != n2 && n1.equals(n2) && !done.contains(n1))
+				if (n1 != n2 && n1.equals(n2))
 				{
 					TypeChecker.warning(5007, "Duplicate definition: " + n1, n1.getLocation());
-					done.add(n1);
+					break;
 				}
 			}
 
@@ -24,6 +24,9 @@
 
 package com.fujitsu.vdmj.typechecker;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import com.fujitsu.vdmj.Release;
 import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.tc.TCRecursiveLoops;
@@ -42,6 +45,9 @@ public class ModuleTypeChecker extends TypeChecker
 	/** The list of executableModules to check. */
 	private final TCModuleList modules;
 
+	/** Modules in the list that were successfully checked by an earlier run. */
+	private final Set<TCModule> checked;
+
 	/**
 	 * Create a type checker with the list of executableModules passed. The warnings
 	 * flag indicates whether warnings should be printed or just counted.
@@ -50,9 +56,40 @@ public class ModuleTypeChecker extends TypeChecker
 	 */
 
 	public ModuleTypeChecker(TCModuleList modules)
+	{
+		this(modules, new HashSet<TCModule>());
+	}
+
+	/**
+	 * Create a type checker for a list of modules, some of which have already been
+	 * checked by an earlier run. The checked modules are used to resolve imports
+	 * and types, but are not checked again. This is only safe if none of the checked
+	 * modules import from an unchecked module, since their import definitions would
+	 * then refer to stale definitions.
+	 */
+	public ModuleTypeChecker(TCModuleList modules, Set<TCModule> checked)
 	{
 		super();
 		this.modules = modules;
+		this.checked = checked;
+	}
+
+	/**
+	 * The modules that need to be checked in this run.
+	 */
+	private TCModuleList unchecked()
+	{
+		TCModuleList list = new TCModuleList();
+
+		for (TCModule m: modules)
+		{
+			if (!checked.contains(m))
+			{
+				list.add(m);
+			}
+		}
+
+		return list;
 	}
 
 	/**
@@ -102,9 +139,11 @@ public class ModuleTypeChecker extends TypeChecker
 			}
 		}
 
+		TCModuleList unchecked = unchecked();
+
 		// Generate implicit definitions for pre_, post_, inv_ functions etc.
 
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			Environment env = new ModuleEnvironment(m);
 			m.defs.implicitDefinitions(env);
@@ -112,7 +151,7 @@ public class ModuleTypeChecker extends TypeChecker
 
 		// Exports have to be identified before imports can be processed.
 
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			m.processExports();			// Populate exportDefs
 		}
@@ -120,7 +159,7 @@ public class ModuleTypeChecker extends TypeChecker
 		// Process the imports early because renamed imports create definitions
 		// which can affect type resolution.
 
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			m.processImports(modules);	// Populate importDefs
 		}
@@ -130,12 +169,14 @@ public class ModuleTypeChecker extends TypeChecker
 		// other definitions so that they are found first.
 
 		TCDefinitionList alldefs = new TCDefinitionList();
+		TCDefinitionList newdefs = new TCDefinitionList();	// Not yet resolved
 
 		for (TCModule m: modules)
 		{
 			for (TCDefinition d: m.importdefs)
 			{
 				alldefs.add(d);
+				if (!checked.contains(m)) newdefs.add(d);
 			}
 		}
 
@@ -144,10 +185,11 @@ public class ModuleTypeChecker extends TypeChecker
 			for (TCDefinition d: m.defs)
 			{
 				alldefs.add(d);
+				if (!checked.contains(m)) newdefs.add(d);
 			}
 		}
 
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			m.checkOver();
 		}
@@ -159,7 +201,7 @@ public class ModuleTypeChecker extends TypeChecker
 
 		Environment allenv = new FlatCheckedEnvironment(alldefs, NameScope.NAMESANDSTATE);
 
-		for (TCDefinition d: alldefs)
+		for (TCDefinition d: newdefs)
 		{
 			try
 			{
@@ -182,7 +224,7 @@ public class ModuleTypeChecker extends TypeChecker
 		// Initialise any annotations
 		TCAnnotation.init(new FlatCheckedEnvironment(alldefs, NameScope.NAMESANDSTATE));
 
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			if (m.annotations != null) m.annotations.tcBefore(m);
 		}
@@ -190,12 +232,16 @@ public class ModuleTypeChecker extends TypeChecker
 		// Prepare to look for recursive loops
 		TCRecursiveLoops.getInstance().reset();
 
+		// Independent modules may be checked in parallel, within each pass
+		ParallelChecker<TCModule> checker = new ParallelChecker<TCModule>(
+			unchecked, m -> m.name.getName(), order -> order.moduleOrder(unchecked));
+
 		// Proceed to type check all definitions, considering types, values
 		// and remaining definitions, in that order.
 
 		for (Pass pass: Pass.values())
 		{
-			for (TCModule m: modules)
+			checker.check(m ->
 			{
 				TypeComparator.setCurrentModule(m.name.getName());
 				ModuleEnvironment e = new ModuleEnvironment(m);
@@ -232,20 +278,27 @@ public class ModuleTypeChecker extends TypeChecker
 				{
 					m.annotations.tcAfter(m, e);
 				}
-			}
+			});
+			
+			// Leave the last module current, as a sequential check would
 			
+			if (!unchecked.isEmpty())
+			{
+				TypeComparator.setCurrentModule(unchecked.lastElement().name.getName());
+			}
+
 			// After the VALUES pass, ValueDefinitions will have replaced their TCUntypedDefinition "defs"
 			// with typed TCLocalDefinitions, so we refresh the export/importDefs to allow later passes
 			// to see the correct types of imported definitions.
 			
 			if (pass == Pass.VALUES)
 			{
-				for (TCModule m: modules)
+				for (TCModule m: unchecked)
 				{
 					m.processExports();				// Re-populate exports
 				}
 				
-				for (TCModule m: modules)
+				for (TCModule m: unchecked)
 				{
 					m.processImports(modules);		// Re-populate importDefs
 				}
@@ -258,12 +311,12 @@ public class ModuleTypeChecker extends TypeChecker
 		// Report any discrepancies between the final checked types of
 		// definitions and their explicit imported types.
 
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			m.processExports();				// Re-populate exports again
 		}
 		
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			m.processImports(modules);		// Re-populate importDefs again
 
@@ -281,14 +334,14 @@ public class ModuleTypeChecker extends TypeChecker
 		// Any names that have not been referenced or exported produce "unused"
 		// warnings.
 
-    	for (TCModule m: modules)
+    	for (TCModule m: unchecked)
 		{
 			m.importdefs.unusedCheck();
 			m.defs.unusedCheck();
 		}
 
     	// Post process annotations
-		for (TCModule m: modules)
+		for (TCModule m: unchecked)
 		{
 			if (m.annotations != null) m.annotations.tcAfter(m);
 		}
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.typechecker;
+
+import java.util.List;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.lex.LexLocation.LocationBuffer;
+import com.fujitsu.vdmj.tc.TCRecursiveLoops;
+import com.fujitsu.vdmj.tc.TCRecursiveLoops.ApplyBuffer;
+import com.fujitsu.vdmj.typechecker.TypeChecker.MessageBuffer;
+import com.fujitsu.vdmj.util.DependencyOrder;
+
+/**
+ * Type check a list of modules or classes on a pool of worker threads, one pass at
+ * a time. A unit is not started until every earlier unit in the list that it uses,
+ * or that uses it, directly or indirectly, has finished. So every unit sees the same
+ * state that it would see if the list were checked sequentially, and units that are
+ * independent of each other are checked concurrently.
+ *
+ * The messages, locations and recursive calls produced by each unit are buffered, and
+ * merged in list order, so the result is the same as a sequential check.
+ */
+public class ParallelChecker<T>
+{
+	private static class Checked
+	{
+		public MessageBuffer messages = null;
+		public LocationBuffer locations = null;
+		public ApplyBuffer applies = null;
+		public Throwable failure = null;
+	}
+
+	private final List<T> units;
+	private final List<List<Integer>> prerequisites;
+	private final int threads;
+
+	/**
+	 * Create a checker for the units passed. The namer gives the name of each unit,
+	 * and the builder populates a DependencyOrder with the dependencies between the
+	 * names. The builder is only called if the units are checked in parallel.
+	 */
+	public ParallelChecker(List<T> units, Function<T, String> namer, Consumer<DependencyOrder> builder)
+	{
+		this.units = units;
+		this.prerequisites = new Vector<List<Integer>>();
+		this.threads = getThreads(units.size());
+
+		if (threads > 1)
+		{
+			DependencyOrder order = new DependencyOrder();
+			builder.accept(order);
+
+			List<String> names = new Vector<String>();
+			List<Set<String>> uses = new Vector<Set<String>>();
+
+			for (T unit: units)
+			{
+				String name = namer.apply(unit);
+				names.add(name);
+				uses.add(order.getAllUses(name));
+			}
+
+			for (int i = 0; i < units.size(); i++)
+			{
+				List<Integer> before = new Vector<Integer>();
+
+				for (int j = 0; j < i; j++)
+				{
+					if (names.get(i).equals(names.get(j)) ||
+						uses.get(i).contains(names.get(j)) ||
+						uses.get(j).contains(names.get(i)))
+					{
+						before.add(j);
+					}
+				}
+
+				prerequisites.add(before);
+			}
+		}
+	}
+
+	/**
+	 * Apply the checker to every unit, returning when they have all been checked.
+	 * An exception thrown by the checker is rethrown after the messages of earlier
+	 * units have been merged, and units that depend on the failed one are skipped.
+	 */
+	public void check(Consumer<T> checker)
+	{
+		if (threads <= 1)
+		{
+			for (T unit: units)
+			{
+				checker.accept(unit);
+			}
+
+			return;
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(threads, r ->
+		{
+			Thread thread = new Thread(r, "typechecker");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try
+		{
+			List<CompletableFuture<Checked>> futures = new Vector<CompletableFuture<Checked>>();
+
+			for (int i = 0; i < units.size(); i++)
+			{
+				T unit = units.get(i);
+				List<CompletableFuture<Checked>> before = new Vector<CompletableFuture<Checked>>();
+
+				for (int j: prerequisites.get(i))
+				{
+					before.add(futures.get(j));
+				}
+
+				futures.add(CompletableFuture.allOf(before.toArray(new CompletableFuture<?>[0]))
+					.thenApplyAsync(v -> failed(before) ? new Checked() : check(unit, checker), pool));
+			}
+
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+			for (CompletableFuture<Checked> future: futures)
+			{
+				Checked checked = future.join();
+
+				if (checked.messages == null)
+				{
+					continue;	// Skipped, after an earlier failure
+				}
+
+				LexLocation.mergeBuffer(checked.locations);
+				TCRecursiveLoops.getInstance().mergeBuffer(checked.applies);
+				TypeChecker.mergeBuffer(checked.messages);
+
+				if (checked.failure instanceof RuntimeException)
+				{
+					throw (RuntimeException)checked.failure;
+				}
+				else if (checked.failure instanceof Error)
+				{
+					throw (Error)checked.failure;
+				}
+				else if (checked.failure != null)
+				{
+					throw new RuntimeException(checked.failure);
+				}
+			}
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+
+	private Checked check(T unit, Consumer<T> checker)
+	{
+		Checked checked = new Checked();
+		LexLocation.startBuffer();
+		TCRecursiveLoops.getInstance().startBuffer();
+		TypeChecker.startBuffer();
+
+		try
+		{
+			checker.accept(unit);
+		}
+		catch (Throwable e)
+		{
+			checked.failure = e;
+		}
+		finally
+		{
+			checked.messages = TypeChecker.endBuffer();
+			checked.applies = TCRecursiveLoops.getInstance().endBuffer();
+			checked.locations = LexLocation.endBuffer();
+		}
+
+		return checked;
+	}
+
+	/**
+	 * True if any of the units passed failed or were skipped.
+	 */
+	private boolean failed(List<CompletableFuture<Checked>> before)
+	{
+		for (CompletableFuture<Checked> future: before)
+		{
+			Checked checked = future.join();
+
+			if (checked.messages == null || checked.failure != null)
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static int getThreads(int count)
+	{
+		int threads = Properties.tc_threads;
+
+		if (threads <= 0)
+		{
+			threads = Runtime.getRuntime().availableProcessors();
+		}
+
+		return Math.min(threads, count);
+	}
+}
@@ -56,10 +56,25 @@ abstract public class TypeChecker
 	private static VDMMessage lastMessage = null;
 	private static boolean suspended = false;
 	private static int MAX = Properties.tc_max_errors;
+	private static ThreadLocal<MessageBuffer> buffers = new ThreadLocal<MessageBuffer>();
+	
+	/**
+	 * The messages reported by one thread while it type checks part of a specification
+	 * in parallel with others. Duplicates are removed and the error limit is applied
+	 * when the buffer is merged.
+	 */
+	public static class MessageBuffer
+	{
+		private final List<VDMError> errors = new Vector<VDMError>();
+		private final List<VDMWarning> warnings = new Vector<VDMWarning>();
+		private VDMMessage lastMessage = null;
+		private boolean suspended = false;
+	}
 	
 	public TypeChecker()
 	{
 		clearErrors();
+		TypeComparator.clearCache();
 	}
 
 	abstract public void typeCheck();
@@ -183,8 +198,33 @@ abstract public class TypeChecker
 
 	public static void report(int number, String problem, LexLocation location)
 	{
-		if (suspended) return;	
-		VDMError error = new VDMError(number, problem, location);
+		MessageBuffer buffer = buffers.get();
+		
+		if (buffer != null)
+		{
+			if (buffer.suspended) return;
+			VDMError error = new VDMError(number, problem, location);
+			
+			if (!buffer.errors.contains(error))
+			{
+				buffer.errors.add(error);
+				buffer.lastMessage = error;
+			}
+			else
+			{
+				buffer.lastMessage = null;
+			}
+		}
+		else
+		{
+			if (suspended) return;
+			addError(new VDMError(number, problem, location));
+		}
+	}
+
+	private static void addError(VDMError error)
+	{
+		LexLocation location = error.location;
 
 		if (!errors.contains(error))
 		{
@@ -208,8 +248,33 @@ abstract public class TypeChecker
 
 	public static void warning(int number, String problem, LexLocation location)
 	{
-		if (suspended) return;
-		VDMWarning warning = new VDMWarning(number, problem, location);
+		MessageBuffer buffer = buffers.get();
+		
+		if (buffer != null)
+		{
+			if (buffer.suspended) return;
+			VDMWarning warning = new VDMWarning(number, problem, location);
+			
+			if (!buffer.warnings.contains(warning))
+			{
+				buffer.warnings.add(warning);
+				buffer.lastMessage = warning;
+			}
+			else
+			{
+				buffer.lastMessage = null;
+			}
+		}
+		else
+		{
+			if (suspended) return;
+			addWarning(new VDMWarning(number, problem, location));
+		}
+	}
+
+	private static void addWarning(VDMWarning warning)
+	{
+		LexLocation location = warning.location;
 
 		if (!warnings.contains(warning))
 		{
@@ -233,9 +298,16 @@ abstract public class TypeChecker
 
 	public static void detail(String tag, Object obj)
 	{
-		if (suspended) return;
-
-		if (lastMessage != null)
+		MessageBuffer buffer = buffers.get();
+		
+		if (buffer != null)
+		{
+			if (!buffer.suspended && buffer.lastMessage != null)
+			{
+				buffer.lastMessage.add(tag + ": " + obj);
+			}
+		}
+		else if (!suspended && lastMessage != null)
 		{
 			lastMessage.add(tag + ": " + obj);
 		}
@@ -253,24 +325,31 @@ abstract public class TypeChecker
 		warnings.clear();
 	}
 
+	/**
+	 * Note that the counts and lists are those of the calling thread's buffer, if
+	 * it has one. So annotations that look at the messages raised during their own
+	 * checks work in the same way when checking in parallel.
+	 */
 	public static int getErrorCount()
 	{
-		return errors.size();
+		return getErrors().size();
 	}
 
 	public static int getWarningCount()
 	{
-		return warnings.size();
+		return getWarnings().size();
 	}
 
 	public static List<VDMError> getErrors()
 	{
-		return errors;
+		MessageBuffer buffer = buffers.get();
+		return (buffer != null) ? buffer.errors : errors;
 	}
 
 	public static List<VDMWarning> getWarnings()
 	{
-		return warnings;
+		MessageBuffer buffer = buffers.get();
+		return (buffer != null) ? buffer.warnings : warnings;
 	}
 
 	public static void printErrors(ConsoleWriter out)
@@ -291,6 +370,51 @@ abstract public class TypeChecker
 
 	public static void suspend(boolean suspend)
 	{
-		suspended  = suspend;
+		MessageBuffer buffer = buffers.get();
+		
+		if (buffer != null)
+		{
+			buffer.suspended = suspend;
+		}
+		else
+		{
+			suspended  = suspend;
+		}
+	}
+	
+	/**
+	 * Make the messages reported by this thread go into a buffer, rather than the
+	 * static lists. This is used by threads type checking concurrently.
+	 */
+	public static void startBuffer()
+	{
+		buffers.set(new MessageBuffer());
+	}
+	
+	/**
+	 * Stop buffering this thread's messages, returning those reported since startBuffer.
+	 */
+	public static MessageBuffer endBuffer()
+	{
+		MessageBuffer buffer = buffers.get();
+		buffers.remove();
+		return buffer;
+	}
+	
+	/**
+	 * Add the buffered messages from endBuffer. Buffers should be merged in the order
+	 * in which the specification would have been checked sequentially.
+	 */
+	public static synchronized void mergeBuffer(MessageBuffer buffer)
+	{
+		for (VDMError error: buffer.errors)
+		{
+			addError(error);
+		}
+		
+		for (VDMWarning warning: buffer.warnings)
+		{
+			addWarning(warning);
+		}
 	}
 }
@@ -25,13 +25,18 @@
 package com.fujitsu.vdmj.typechecker;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.config.Properties;
 import com.fujitsu.vdmj.lex.Dialect;
 import com.fujitsu.vdmj.tc.definitions.TCDefinition;
 import com.fujitsu.vdmj.tc.definitions.TCTypeDefinition;
 import com.fujitsu.vdmj.tc.lex.TCNameList;
+import com.fujitsu.vdmj.tc.types.TCBasicType;
 import com.fujitsu.vdmj.tc.types.TCBracketType;
 import com.fujitsu.vdmj.tc.types.TCClassType;
 import com.fujitsu.vdmj.tc.types.TCFunctionType;
@@ -70,10 +75,18 @@ public class TypeComparator
 	/**
 	 * A vector of type pairs that have already been compared. This is to
 	 * allow recursive type definitions to be compared without infinite
-	 * regress.
+	 * regress. Each thread has its own vector, so that comparisons can be
+	 * made concurrently without a global lock.
 	 */
 
-	private static Vector<TypePair> done = new Vector<TypePair>(256);
+	private static final ThreadLocal<Vector<TypePair>> threadDone = new ThreadLocal<Vector<TypePair>>()
+	{
+		@Override
+		protected Vector<TypePair> initialValue()
+		{
+			return new Vector<TypePair>(256);
+		}
+	};
 
 	/**
 	 * A result value for comparison of types. The "Maybe" value is needed so
@@ -120,22 +133,119 @@ public class TypeComparator
 		}
 	}
 	
+	/**
+	 * The results of top level comparisons, keyed on the identity of the types
+	 * compared, the kind of comparison and the current module. Results that are
+	 * "Maybe" at lower levels are never cached, because they depend on the
+	 * comparison that is in progress above them. Types that are not resolved are
+	 * never cached either, because resolution changes them in place.
+	 */
+
+	private static final Map<CacheKey, Boolean> cache = new ConcurrentHashMap<CacheKey, Boolean>();
+
+	private static enum Kind { COMPATIBLE, PARAM_ONLY, SUBTYPE, SUBTYPE_INVIGNORE }
+
+	private static class CacheKey
+	{
+		private final String module;
+		private final TCType a;
+		private final TCType b;
+		private final Kind kind;
+
+		public CacheKey(String module, TCType a, TCType b, Kind kind)
+		{
+			this.module = module;
+			this.a = a;
+			this.b = b;
+			this.kind = kind;
+		}
+
+		@Override
+		public boolean equals(Object other)
+		{
+			if (other instanceof CacheKey)
+			{
+				CacheKey key = (CacheKey)other;
+				return a == key.a && b == key.b && kind == key.kind && Objects.equals(module, key.module);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(a) * 31 + System.identityHashCode(b) + kind.ordinal();
+		}
+	}
+
+	/**
+	 * Clear the cached results. This is called when type checking starts, since
+	 * types can be re-resolved or replaced.
+	 */
+	public static void clearCache()
+	{
+		cache.clear();
+	}
+
+	/**
+	 * Return the number of cached results, for testing.
+	 */
+	public static int getCacheSize()
+	{
+		return cache.size();
+	}
+
+	private static boolean cacheable(CacheKey key)
+	{
+		return Properties.tc_comparator_cache > 0 && isResolved(key.a) && isResolved(key.b);
+	}
+
+	private static boolean isResolved(TCType type)
+	{
+		return type != null && (type.resolved || type instanceof TCBasicType);
+	}
+
+	private static Boolean cached(CacheKey key)
+	{
+		return cacheable(key) ? cache.get(key) : null;
+	}
+
+	private static boolean cache(CacheKey key, boolean result)
+	{
+		if (cacheable(key))
+		{
+			if (cache.size() >= Properties.tc_comparator_cache)
+			{
+				cache.clear();		// Simple, but keeps the table bounded
+			}
+
+			cache.put(key, result);
+		}
+
+		return result;
+	}
+
 	/**
 	 * The current module name. This is set as the type checker goes from module
 	 * to module, and is used to affect the processing of opaque "non-struct"
-	 * type exports.
+	 * type exports. A thread that sets the module sees its own setting, and other
+	 * threads see the last module set by any thread.
 	 */
 	
-	private static String currentModule = null;
+	private static volatile String currentModule = null;
+	private static final ThreadLocal<String> threadModule = new ThreadLocal<String>();
 
 	public static void setCurrentModule(String module)
 	{
 		currentModule = module;
+		threadModule.set(module);
 	}
 	
 	public static String getCurrentModule()
 	{
-		return currentModule;
+		String module = threadModule.get();
+		return module != null ? module : currentModule;
 	}
 	
 	/**
@@ -147,32 +257,38 @@ public class TypeComparator
 	 * @param from
 	 * @return True if types "a" and "b" are compatible.
 	 */
-	public synchronized static boolean compatible(TCType to, TCType from)
+	public static boolean compatible(TCType to, TCType from)
 	{
-		done.clear();
-		return searchCompatible(to, from, false) == Result.Yes;
+		return compatible(to, from, false);
 	}
 
-	public synchronized static boolean compatible(String module, TCType to, TCType from)
+	public static boolean compatible(String module, TCType to, TCType from)
 	{
-		String old = currentModule;
+		String old = threadModule.get();
 		
 		try
 		{
-			setCurrentModule(module);
-			done.clear();
-			return searchCompatible(to, from, false) == Result.Yes;
+			threadModule.set(module);	// Just for this thread
+			return compatible(to, from, false);
 		}
 		finally
 		{
-			setCurrentModule(old);
+			threadModule.set(old);
 		}
 	}
 
-	public synchronized static boolean compatible(TCType to, TCType from, boolean paramOnly)
+	public static boolean compatible(TCType to, TCType from, boolean paramOnly)
 	{
-		done.clear();
-		return searchCompatible(to, from, paramOnly) == Result.Yes;
+		CacheKey key = new CacheKey(getCurrentModule(), to, from, paramOnly ? Kind.PARAM_ONLY : Kind.COMPATIBLE);
+		Boolean result = cached(key);
+		
+		if (result == null)
+		{
+			threadDone.get().clear();
+			result = cache(key, searchCompatible(to, from, paramOnly) == Result.Yes);
+		}
+		
+		return result;
 	}
 
 	/**
@@ -183,9 +299,9 @@ public class TypeComparator
 	 * @return True if all types compatible.
 	 */
 
-	public synchronized static boolean compatible(TCTypeList to, TCTypeList from)
+	public static boolean compatible(TCTypeList to, TCTypeList from)
 	{
-		done.clear();
+		threadDone.get().clear();
 		return allCompatible(to, from, false) == Result.Yes;
 	}
 
@@ -231,6 +347,7 @@ public class TypeComparator
 
 	private static Result searchCompatible(TCType to, TCType from, boolean paramOnly)
 	{
+		Vector<TypePair> done = threadDone.get();
 		TypePair pair = new TypePair(to, from);
 		int i = done.indexOf(pair);
 
@@ -353,7 +470,7 @@ public class TypeComparator
     		{
     			TCInvariantType ito =(TCInvariantType)to;
     			
-	    		if (to instanceof TCNamedType && !ito.isOpaque(currentModule))
+	    		if (to instanceof TCNamedType && !ito.isOpaque(getCurrentModule()))
 	    		{
 	    			to = ((TCNamedType)to).type;
 	    			continue;
@@ -364,7 +481,7 @@ public class TypeComparator
     		{
     			TCInvariantType ifrom =(TCInvariantType)from;
     			
-	    		if (from instanceof TCNamedType && !ifrom.isOpaque(currentModule))
+	    		if (from instanceof TCNamedType && !ifrom.isOpaque(getCurrentModule()))
 	    		{
 	    			from = ((TCNamedType)from).type;
 	    			continue;
@@ -632,15 +749,23 @@ public class TypeComparator
 	 * @return True if sub is a subtype of sup.
 	 */
 
-	public synchronized static boolean isSubType(TCType sub, TCType sup)
+	public static boolean isSubType(TCType sub, TCType sup)
 	{
 		return isSubType(sub, sup, false);	// By default, invariants fail a match 
 	}
 
-	public synchronized static boolean isSubType(TCType sub, TCType sup, boolean invignore)
+	public static boolean isSubType(TCType sub, TCType sup, boolean invignore)
 	{
-		done.clear();
-		return searchSubType(sub, sup, invignore) == Result.Yes;
+		CacheKey key = new CacheKey(getCurrentModule(), sub, sup, invignore ? Kind.SUBTYPE_INVIGNORE : Kind.SUBTYPE);
+		Boolean result = cached(key);
+		
+		if (result == null)
+		{
+			threadDone.get().clear();
+			result = cache(key, searchSubType(sub, sup, invignore) == Result.Yes);
+		}
+		
+		return result;
 	}
 
 	/**
@@ -686,6 +811,7 @@ public class TypeComparator
 
 	private static Result searchSubType(TCType sub, TCType sup, boolean invignore)
 	{
+		Vector<TypePair> done = threadDone.get();
 		TypePair pair = new TypePair(sub, sup);
 		int i = done.indexOf(pair);
 
@@ -1274,12 +1400,13 @@ public class TypeComparator
 	/**
 	 * Return the narrowest of two types/type lists.
 	 */
-	public static synchronized TCTypeList narrowest(TCTypeList t1, TCTypeList t2)
+	public static TCTypeList narrowest(TCTypeList t1, TCTypeList t2)
 	{
+		threadDone.get().clear();
 		return allSubTypes(t1, t2, false) == Result.Yes ? t1 : t2;
 	}
 	
-	public static synchronized TCType narrowest(TCType t1, TCType t2)
+	public static TCType narrowest(TCType t1, TCType t2)
 	{
 		return isSubType(t1, t2) ? t1 : t2;
 	}
@@ -33,13 +33,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Stack;
 import java.util.Vector;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.fujitsu.vdmj.tc.TCReferenceNames;
 import com.fujitsu.vdmj.tc.definitions.TCClassDefinition;
 import com.fujitsu.vdmj.tc.definitions.TCClassList;
 import com.fujitsu.vdmj.tc.definitions.TCDefinition;
 import com.fujitsu.vdmj.tc.definitions.TCDefinitionList;
+import com.fujitsu.vdmj.tc.definitions.visitors.TCReferenceDefinitionFinder;
 import com.fujitsu.vdmj.tc.lex.TCNameSet;
 import com.fujitsu.vdmj.tc.lex.TCNameToken;
 import com.fujitsu.vdmj.tc.modules.TCImportFromModule;
@@ -95,6 +98,33 @@ public class DependencyOrder
     	}
 	}
 
+    /**
+     * Add the classes that each class refers to, including its superclasses. Unlike
+     * classOrder, this can be used before the classes have been type checked.
+     */
+    public void classReferences(TCClassList classList)
+    {
+    	for (TCClassDefinition c: classList)
+    	{
+    		String classname = c.name.getName();
+    		nameToFile.put(classname, c.name.getLocation().file);
+    		TCReferenceDefinitionFinder finder = new TCReferenceDefinitionFinder(TCReferenceNames.MODULES);
+
+    		for (TCNameToken supername: c.supernames)
+    		{
+    			add(classname, supername.getName());
+    		}
+
+    		for (TCDefinition def: c.definitions)
+    		{
+    			for (String ref: def.apply(finder, null))
+    			{
+    				add(classname, ref);
+    			}
+    		}
+    	}
+    }
+
 	public void moduleOrder(TCModuleList moduleList)
     {
 		for (TCModule m: moduleList)
@@ -163,6 +193,34 @@ public class DependencyOrder
 		fw.close();
 	}
     
+    /**
+     * Return all of the names that a name uses, directly or indirectly.
+     */
+    public Set<String> getAllUses(String name)
+    {
+    	Set<String> all = new HashSet<String>();
+    	Stack<String> pending = new Stack<String>();
+    	pending.push(name);
+    	
+    	while (!pending.isEmpty())
+    	{
+    		Set<String> next = uses.get(pending.pop());
+    		
+    		if (next != null)
+    		{
+    			for (String n: next)
+    			{
+    				if (all.add(n))
+    				{
+    					pending.push(n);
+    				}
+    			}
+    		}
+    	}
+    	
+    	return all;
+    }
+    
     public List<String> getStartpoints()
     {
 		/*
@@ -39,11 +39,32 @@ public class CharacterValue extends Value
 	private static final long serialVersionUID = 1L;
 	public final char unicode;
 
+	/** Shared instances for the Latin-1 range, which covers most strings */
+	private static final int CACHE_SIZE = 256;
+	private static final CharacterValue[] cache = new CharacterValue[CACHE_SIZE];
+
+	static
+	{
+		for (int c=0; c<CACHE_SIZE; c++)
+		{
+			cache[c] = new CharacterValue((char)c);
+		}
+	}
+
 	public CharacterValue(char value)
 	{
 		this.unicode = value;
 	}
 
+	/**
+	 * Return a CharacterValue for the char passed. Values are immutable, so
+	 * common characters are shared rather than allocated each time.
+	 */
+	public static CharacterValue valueOf(char value)
+	{
+		return (value < CACHE_SIZE) ? cache[value] : new CharacterValue(value);
+	}
+
 	@Override
 	public char charValue(Context ctxt)
 	{
@@ -37,6 +37,7 @@ import com.fujitsu.vdmj.in.definitions.INClassDefinition;
 import com.fujitsu.vdmj.in.definitions.INExplicitFunctionDefinition;
 import com.fujitsu.vdmj.in.definitions.INImplicitFunctionDefinition;
 import com.fujitsu.vdmj.in.expressions.INExpression;
+import com.fujitsu.vdmj.in.expressions.INNotYetSpecifiedExpression;
 import com.fujitsu.vdmj.in.patterns.INPattern;
 import com.fujitsu.vdmj.in.patterns.INPatternList;
 import com.fujitsu.vdmj.in.patterns.INPatternListList;
@@ -60,6 +61,7 @@ import com.fujitsu.vdmj.tc.types.TCTypeSet;
 import com.fujitsu.vdmj.tc.types.TCUnionType;
 import com.fujitsu.vdmj.typechecker.TypeComparator;
 import com.fujitsu.vdmj.util.Utils;
+import com.fujitsu.vdmj.values.visitors.ObjectValueFinder;
 import com.fujitsu.vdmj.values.visitors.ValueVisitor;
 
 public class FunctionValue extends Value
@@ -87,6 +89,10 @@ public class FunctionValue extends Value
 	private boolean isStatic = false;
 	public boolean uninstantiated = false;
 
+	private boolean memoAllowed = false;
+	private boolean memoAnnotated = false;
+	private transient MemoTable memoTable = null;
+
 	/**
 	 * Private constructor used by clone and curry.
 	 * @param typeValues 
@@ -167,6 +173,8 @@ public class FunctionValue extends Value
 		this.classdef = def.classDefinition;
 		this.uninstantiated = (def.typeParams != null);
 		this.isStatic = def.accessSpecifier.isStatic;
+		this.memoAnnotated = def.annotations != null && def.annotations.isMemoised();
+		this.memoAllowed = !(body instanceof INNotYetSpecifiedExpression);
 
 		if (Settings.measureChecks && measure != null)
 		{
@@ -212,6 +220,8 @@ public class FunctionValue extends Value
 		this.classdef = def.classDefinition;
 		this.uninstantiated = (def.typeParams != null);
 		this.isStatic = def.accessSpecifier.isStatic;
+		this.memoAnnotated = def.annotations != null && def.annotations.isMemoised();
+		this.memoAllowed = !(body instanceof INNotYetSpecifiedExpression);
 
 		if (Settings.measureChecks && measure != null)
 		{
@@ -531,13 +541,29 @@ public class FunctionValue extends Value
 			}
 
 			Value rv = null;
+			MemoTable memo = getMemoTable(argValues);
 			
 			try
 			{
 				// Functions are executed atomically, so they can safely access arg object state
 				evalContext.threadState.setAtomic(true);
 				evalContext.threadState.setPure(true);
-				rv = body.eval(evalContext).convertTo(type.result, evalContext);
+				
+				if (memo != null)
+				{
+					rv = memo.lookup(argValues);
+				}
+				
+				if (rv == null)
+				{
+					long delegations = evalContext.threadState.getDelegations();
+					rv = body.eval(evalContext).convertTo(type.result, evalContext);
+					
+					if (memo != null && evalContext.threadState.getDelegations() == delegations)
+					{
+						memo.store(argValues.getConstant(), rv.getConstant());
+					}
+				}
 			}
 			finally
 			{
@@ -642,6 +668,44 @@ public class FunctionValue extends Value
 		}
 	}
 
+	/**
+	 * Return the memo table to use for a call with the arguments passed, or null if
+	 * the call should not be memoised. Only the body evaluation is replaced by a
+	 * cached result, so pre/post/measure checks are still made for every call.
+	 * Calls that pass objects, anywhere within their arguments, are never memoised,
+	 * as their state may change. Functions with delegated bodies are never memoised,
+	 * and results are not stored if the body called a delegate (see ThreadState).
+	 * Arguments and results are stored as constants, so that later updates to any
+	 * state that was passed cannot change the cached entries.
+	 */
+	private MemoTable getMemoTable(ValueList argValues)
+	{
+		if (!memoAllowed || !(memoAnnotated || Settings.memoise))
+		{
+			return null;
+		}
+		
+		ObjectValueFinder finder = new ObjectValueFinder();
+		
+		for (Value arg: argValues)
+		{
+			if (!arg.apply(finder, null).isEmpty())
+			{
+				return null;
+			}
+		}
+		
+		synchronized (this)
+		{
+			if (memoTable == null || !memoTable.isCurrent())
+			{
+				memoTable = MemoTable.create(name, location);
+			}
+			
+			return memoTable;
+		}
+	}
+
 	private RootContext newContext(LexLocation from, String title, Context ctxt, Context sctxt)
 	{
 		RootContext evalContext;
@@ -812,9 +876,13 @@ public class FunctionValue extends Value
 	@Override
 	public Object clone()
 	{
-		return new FunctionValue(location, name, type, typeValues,
+		FunctionValue copy = new FunctionValue(location, name, type, typeValues,
 			paramPatternList, body, precondition, postcondition, measure,
 			freeVariables, measureValues, classdef);
+		
+		copy.memoAllowed = memoAllowed;
+		copy.memoAnnotated = memoAnnotated;
+		return copy;
 	}
 	
 	/**
@@ -828,6 +896,7 @@ public class FunctionValue extends Value
 		}
 
 		freeVariables.putAll(free);
+		memoTable = null;	// Results may depend on the new free variables
 		
 		if (precondition != null)
 		{
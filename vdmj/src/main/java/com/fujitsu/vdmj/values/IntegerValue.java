@@ -37,12 +37,70 @@ public class IntegerValue extends RationalValue
 	private static final long serialVersionUID = 1L;
 	protected final long longVal;
 
+	/** Shared instances for small integers, which are the most common */
+	private static final int CACHE_LOW = -128;
+	private static final int CACHE_HIGH = 1024;
+	private static final IntegerValue[] cache = new IntegerValue[CACHE_HIGH - CACHE_LOW + 1];
+
+	/** Shared plain IntegerValues for the same range, for ValueFactory.mkInt */
+	private static final IntegerValue[] intCache = new IntegerValue[CACHE_HIGH - CACHE_LOW + 1];
+
+	static
+	{
+		try
+		{
+			for (int i=CACHE_LOW; i<=CACHE_HIGH; i++)
+			{
+				cache[i - CACHE_LOW] =
+					(i > 0) ? new NaturalOneValue(i) :
+					(i == 0) ? new NaturalValue(i) :
+					new IntegerValue(i);
+
+				intCache[i - CACHE_LOW] = new IntegerValue(i);
+			}
+		}
+		catch (Exception e)
+		{
+			throw new InternalException(0, "Cannot create integer cache: " + e.getMessage());
+		}
+	}
+
 	public IntegerValue(long value)
 	{
 		super(value);
 		longVal = value;
 	}
 
+	/**
+	 * Return a shared instance for a small integer, or null if the value is
+	 * outside the cached range. The instance is a NaturalOneValue, NaturalValue
+	 * or IntegerValue, as NumericValue.valueOf would create.
+	 */
+	public static IntegerValue cached(long value)
+	{
+		if (value >= CACHE_LOW && value <= CACHE_HIGH)
+		{
+			return cache[(int)value - CACHE_LOW];
+		}
+
+		return null;
+	}
+
+	/**
+	 * Return a shared plain IntegerValue for a small integer, or null if the value
+	 * is outside the cached range. Unlike cached, the kind does not depend on the
+	 * value's magnitude.
+	 */
+	public static IntegerValue cachedInt(long value)
+	{
+		if (value >= CACHE_LOW && value <= CACHE_HIGH)
+		{
+			return intCache[(int)value - CACHE_LOW];
+		}
+
+		return null;
+	}
+
 	@Override
 	public int compareTo(Value other)
 	{
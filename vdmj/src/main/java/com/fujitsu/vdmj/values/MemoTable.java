@@ -0,0 +1,131 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.values;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.LexLocation;
+
+/**
+ * A bounded LRU cache of function results, keyed by the argument values passed.
+ * These are created by FunctionValues that are memoised, either because the
+ * Settings.memoise flag is set or because the definition has an annotation that
+ * requests it. All tables are discarded when the interpreter is initialized.
+ */
+@SuppressWarnings("serial")
+public class MemoTable extends LinkedHashMap<ValueList, Value>
+{
+	/** All tables created since the last init, for reporting */
+	private static final List<MemoTable> tables = new Vector<MemoTable>();
+
+	/** Incremented by each init, to invalidate existing tables */
+	private static final AtomicInteger generation = new AtomicInteger();
+
+	public final String name;
+	public final LexLocation location;
+
+	private final int created;
+	private long hits = 0;
+	private long misses = 0;
+
+	private MemoTable(String name, LexLocation location)
+	{
+		super(16, 0.75f, true);		// Access order, for LRU
+		this.name = name;
+		this.location = location;
+		this.created = generation.get();
+	}
+
+	public static MemoTable create(String name, LexLocation location)
+	{
+		MemoTable table = new MemoTable(name, location);
+		tables.add(table);
+		return table;
+	}
+
+	public static void init()
+	{
+		generation.incrementAndGet();
+		tables.clear();
+	}
+
+	public static List<MemoTable> getTables()
+	{
+		return tables;
+	}
+
+	public boolean isCurrent()
+	{
+		return created == generation.get();
+	}
+
+	public synchronized Value lookup(ValueList args)
+	{
+		Value rv = get(args);
+
+		if (rv == null)
+		{
+			misses++;
+		}
+		else
+		{
+			hits++;
+		}
+
+		return rv;
+	}
+
+	public synchronized void store(ValueList args, Value result)
+	{
+		put(args, result);
+	}
+
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+
+	@Override
+	protected boolean removeEldestEntry(Map.Entry<ValueList, Value> eldest)
+	{
+		return size() > Properties.in_memo_limit;
+	}
+
+	@Override
+	public synchronized String toString()
+	{
+		return name + " " + location + ": " + hits + " hits, " + misses + " misses, " + size() + " cached";
+	}
+}
@@ -35,6 +35,16 @@ public class NilValue extends Value
 {
 	private static final long serialVersionUID = 1L;
 
+	private static final NilValue NIL = new NilValue();
+
+	/**
+	 * Return the shared nil instance.
+	 */
+	public static NilValue valueOf()
+	{
+		return NIL;
+	}
+
 	@Override
 	public String toString()
 	{
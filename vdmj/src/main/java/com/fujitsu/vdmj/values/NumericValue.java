@@ -72,6 +72,13 @@ public abstract class NumericValue extends Value
 
 	public static NumericValue valueOf(long iv, Context ctxt) throws ValueException
 	{
+		IntegerValue small = IntegerValue.cached(iv);
+
+		if (small != null)
+		{
+			return small;
+		}
+
 		if (iv > 0)
 		{
 			try
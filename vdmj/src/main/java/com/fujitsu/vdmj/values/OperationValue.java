@@ -46,6 +46,8 @@ import com.fujitsu.vdmj.ast.lex.LexKeywordToken;
 import com.fujitsu.vdmj.lex.LexLocation;
 import com.fujitsu.vdmj.lex.Token;
 import com.fujitsu.vdmj.messages.RTLogger;
+import com.fujitsu.vdmj.messages.rtlog.RTEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTOperationEvent;
 import com.fujitsu.vdmj.runtime.ClassContext;
 import com.fujitsu.vdmj.runtime.Context;
 import com.fujitsu.vdmj.runtime.ContextException;
@@ -568,14 +570,14 @@ public class OperationValue extends Value
 		// "from" CPU, whereas the OpActivate and OpComplete are made
 		// by the called object, using self's CPU (see trace(msg)).
 
-		RTLogger.log(
-			"OpRequest -> id: " + Thread.currentThread().getId() +
-			" opname: \"" + name.getExplicit(true) + "\"" +
-			" objref: " + self.objectReference +
-			" clnm: \"" + self.type.name.getName() + "\"" +
-			" cpunm: " + from.getNumber() +
-			" async: " + isAsync
-			);
+		RTLogger.log(new RTOperationEvent(
+			RTOperationEvent.Kind.REQUEST,
+			Thread.currentThread().getId(),
+			name.getExplicit(true).toString(),
+			self.objectReference,
+			self.type.name.getName(),
+			from.getNumber(),
+			isAsync));
 
 		if (from != to)		// Remote CPU call
 		{
@@ -685,7 +687,7 @@ public class OperationValue extends Value
 
 		if (logreq)		// Async OpRequests are made in asyncEval
 		{
-			trace("OpRequest");
+			trace(RTOperationEvent.Kind.REQUEST);
 		}
 
 		debug("#req = " + hashReq);
@@ -697,7 +699,7 @@ public class OperationValue extends Value
 
 		if (!ResourceScheduler.isStopping())
 		{
-			trace("OpActivate");
+			trace(RTOperationEvent.Kind.ACTIVATE);
 			debug("#act = " + hashAct);
 		}
 	}
@@ -708,12 +710,12 @@ public class OperationValue extends Value
 
 		if (!ResourceScheduler.isStopping())
 		{
-			trace("OpCompleted");
+			trace(RTOperationEvent.Kind.COMPLETED);
 			debug("#fin = " + hashFin);
 		}
 	}
 
-	private void trace(String kind)
+	private void trace(RTOperationEvent.Kind kind)
 	{
 		if (traceRT)
 		{
@@ -733,25 +735,25 @@ public class OperationValue extends Value
 					cpu = 0;	// Initialization on vCPU
 				}
 
-	    		RTLogger.log(
-	    			kind + " -> id: " + ct.getId() +
-	    			" opname: \"" + name.getExplicit(true) + "\"" +
-	    			" objref: nil" +
-	    			" clnm: \"" + classdef.name.getName() + "\"" +
-	    			" cpunm: " + cpu +
-	    			" async: " + isAsync
-	    			);
+	    		RTLogger.log(new RTOperationEvent(
+	    			kind,
+	    			ct.getId(),
+	    			name.getExplicit(true).toString(),
+	    			RTEvent.NIL,
+	    			classdef.name.getName(),
+	    			cpu,
+	    			isAsync));
 			}
 			else
 			{
-        		RTLogger.log(
-        			kind + " -> id: " + ct.getId() +
-        			" opname: \"" + name.getExplicit(true) + "\"" +
-        			" objref: " + self.objectReference +
-        			" clnm: \"" + self.type.name.getName() + "\"" +
-        			" cpunm: " + self.getCPU().getNumber() +
-        			" async: " + isAsync
-        			);
+        		RTLogger.log(new RTOperationEvent(
+        			kind,
+        			ct.getId(),
+        			name.getExplicit(true).toString(),
+        			self.objectReference,
+        			self.type.name.getName(),
+        			self.getCPU().getNumber(),
+        			isAsync));
 			}
 		}
 	}
@@ -34,19 +34,36 @@ import com.fujitsu.vdmj.runtime.PatternMatchException;
 public class Quantifier
 {
 	public final INPattern pattern;
-	public final ValueList values;
+	public final ValueSource source;
 	private List<NameValuePairList> nvlist;
+	private Context matchContext = null;
 
 	public Quantifier(INPattern pattern, ValueList values)
+	{
+		this(pattern, new ValueSource(values));
+	}
+
+	public Quantifier(INPattern pattern, ValueSource source)
 	{
 		this.pattern = pattern;
-		this.values = values;
-		this.nvlist = new Vector<NameValuePairList>(values.size());
+		this.source = source;
+		this.nvlist = new Vector<NameValuePairList>();
 	}
 
+	/**
+	 * Match the values against the pattern, returning the number of matches. But if
+	 * the values are generated on demand, they are matched on demand too, so that the
+	 * size is not known yet and -1 is returned. See has().
+	 */
 	public int size(Context ctxt, boolean allPossibilities)
 	{
-		for (Value value: values)
+		if (!source.isComplete() && !allPossibilities)
+		{
+			matchContext = ctxt;
+			return -1;
+		}
+
+		for (Value value: source.getValues())
 		{
 			try
 			{
@@ -68,9 +85,35 @@ public class Quantifier
 		return nvlist.size();
 	}
 
+	/**
+	 * True if there is an entry at the index, when the size is not known.
+	 */
+	public boolean has(int index)
+	{
+		return source.has(index);
+	}
+
 	public NameValuePairList get(int index)
 		throws PatternMatchException
 	{
+		if (matchContext != null)	// Matching on demand, one entry per value
+		{
+			while (nvlist.size() <= index)
+			{
+				try
+				{
+					nvlist.add(pattern.getNamedValues(source.get(nvlist.size()), matchContext));
+				}
+				catch (PatternMatchException e)
+				{
+					nvlist.add(null);
+				}
+			}
+			
+			NameValuePairList nvpl = nvlist.get(index);
+			return nvpl != null ? nvpl : pattern.getNamedValues(source.get(index), matchContext);
+		}
+
 		if (index >= nvlist.size())		// no values
 		{
 			return new NameValuePairList();
@@ -50,7 +50,13 @@ public class QuantifierList extends Vector<Quantifier>
 		for (int i=0; i<count; i++)
 		{
 			size[i] = get(i).size(ctxt, allPossibilities);
-			someData = someData || size[i] > 0;
+
+			if (size[i] < 0 && !get(i).has(0))		// Unknown size, but empty
+			{
+				size[i] = 0;
+			}
+
+			someData = someData || size[i] != 0;
 			oneHasNoData = oneHasNoData || size[i] == 0;
 			next[i] = 0;
 		}
@@ -58,11 +64,22 @@ public class QuantifierList extends Vector<Quantifier>
 		done = count == 0 || !someData || oneHasNoData;
 	}
 
+	/**
+	 * Permute the indexes in the same order whether or not the sizes are known in
+	 * advance. An unknown size is found when its quantifier runs out of entries.
+	 */
 	private void permute()
 	{
 		for (int i=0; i<count; i++)
 		{
-			if (++next[i] < size[i])
+			++next[i];
+
+			if (size[i] < 0 && !get(i).has(next[i]))
+			{
+				size[i] = next[i];
+			}
+
+			if (size[i] < 0 || next[i] < size[i])
 			{
 				break;
 			}
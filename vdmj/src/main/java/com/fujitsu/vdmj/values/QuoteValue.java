@@ -26,6 +26,8 @@ package com.fujitsu.vdmj.values;
 
 import java.util.FormattableFlags;
 import java.util.Formatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.fujitsu.vdmj.runtime.Context;
 import com.fujitsu.vdmj.runtime.ValueException;
@@ -39,11 +41,23 @@ public class QuoteValue extends Value
 	private static final long serialVersionUID = 1L;
 	public final String value;
 
+	/** Shared instances, one per quote literal */
+	private static final Map<String, QuoteValue> cache = new ConcurrentHashMap<String, QuoteValue>();
+
 	public QuoteValue(String value)
 	{
 		this.value = value;
 	}
 
+	/**
+	 * Return the shared QuoteValue for a quote. A specification has a fixed
+	 * number of distinct quotes, so the cache is small.
+	 */
+	public static QuoteValue valueOf(String value)
+	{
+		return cache.computeIfAbsent(value, QuoteValue::new);
+	}
+
 	@Override
 	public String quoteValue(Context ctxt)
 	{
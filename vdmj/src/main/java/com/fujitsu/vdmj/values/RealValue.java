@@ -128,6 +128,13 @@ public class RealValue extends NumericValue
 	@Override
 	public int hashCode()
 	{
+		long rounded = Math.round(value);
+
+		if (rounded == value)
+		{
+			return (int)rounded;	// Consistent with IntegerValue, which can be equal
+		}
+
 		return toString().hashCode();
 	}
 
@@ -395,7 +395,17 @@ public class RecordValue extends Value
 	@Override
 	public int hashCode()
 	{
-		return type.name.hashCode() + fieldmap.hashCode();
+		if (equality != null)
+		{
+			// As with InvariantValue, the hashCode has to be consistent with the equality
+			// function, which can equate records with any field values. So all we can use
+			// is the type name.
+			return type.name.hashCode();
+		}
+		else
+		{
+			return type.name.hashCode() + fieldmap.hashCode();
+		}
 	}
 
 	@Override
@@ -53,12 +53,12 @@ public class SeqValue extends Value
 
 	public SeqValue(String s)
 	{
-		this.values = new ValueList();
 		int len = s.length();
+		this.values = new ValueList(len);
 
 		for (int i=0; i<len; i++)
 		{
-			this.values.add(new CharacterValue(s.charAt(i)));
+			this.values.add(CharacterValue.valueOf(s.charAt(i)));
 		}
 	}
 
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.values;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.runtime.RootContext;
+
+/**
+ * A journal of the changes made to a saved trace state, so that the state can be
+ * restored between trace tests by undoing those changes, rather than by reading a
+ * complete copy of the state from its serialized form. Nothing is copied, so value
+ * aliasing is preserved, and the time to restore is proportional to the number of
+ * UpdatableValues changed by the previous test.
+ * 
+ * Only UpdatableValue changes can be undone. If a test extends a map or sequence
+ * within the saved state, the journal is abandoned and the caller deserializes the
+ * saved state as before.
+ */
+public class StateJournal
+{
+	/** The root context being journalled, or null if inactive */
+	private static volatile Context root = null;
+
+	/** The UpdatableValues reachable from the root when it was saved */
+	private static Set<UpdatableValue> members = null;
+
+	/** The original values of the members that have been changed */
+	private static Map<UpdatableValue, Value> changes = null;
+
+	/** Set if a change has been made that cannot be undone */
+	private static boolean extended = false;
+
+	/**
+	 * Serialize the root context passed, and start journalling changes to it.
+	 */
+	public static ByteArrayOutputStream save(RootContext ctxt) throws IOException
+	{
+		ByteArrayOutputStream saved = new ByteArrayOutputStream();
+		Set<UpdatableValue> found = newMemberSet();
+
+		ObjectOutputStream oos = new ObjectOutputStream(saved)
+		{
+			{
+				enableReplaceObject(true);
+			}
+
+			@Override
+			protected Object replaceObject(Object obj)
+			{
+				if (obj instanceof UpdatableValue)
+				{
+					found.add((UpdatableValue)obj);
+				}
+
+				return obj;
+			}
+		};
+
+		oos.writeObject(ctxt);
+		oos.close();
+
+		start(ctxt, found);
+		return saved;
+	}
+
+	/**
+	 * Deserialize a saved root context, and start journalling changes to it.
+	 */
+	public static RootContext load(ByteArrayOutputStream saved) throws IOException, ClassNotFoundException
+	{
+		ByteArrayInputStream is = new ByteArrayInputStream(saved.toByteArray());
+		Set<UpdatableValue> found = newMemberSet();
+
+		ObjectInputStream ois = new ObjectInputStream(is)
+		{
+			{
+				enableResolveObject(true);
+			}
+
+			@Override
+			protected Object resolveObject(Object obj)
+			{
+				if (obj instanceof UpdatableValue)
+				{
+					found.add((UpdatableValue)obj);
+				}
+
+				return obj;
+			}
+		};
+
+		RootContext ctxt = (RootContext)ois.readObject();
+		ois.close();
+
+		start(ctxt, found);
+		return ctxt;
+	}
+
+	/**
+	 * Undo the changes made to the root context passed, returning false if that
+	 * is not possible because the context is not being journalled or a change
+	 * was made that cannot be undone.
+	 */
+	public static synchronized boolean restore(Context ctxt)
+	{
+		if (root == null || root != ctxt || extended)
+		{
+			return false;
+		}
+
+		for (Map.Entry<UpdatableValue, Value> entry: changes.entrySet())
+		{
+			UpdatableValue target = entry.getKey();
+
+			synchronized (target)
+			{
+				target.value = entry.getValue();
+			}
+		}
+
+		changes.clear();
+		return true;
+	}
+
+	public static synchronized void stop()
+	{
+		root = null;
+		members = null;
+		changes = null;
+		extended = false;
+	}
+
+	/**
+	 * Called by UpdatableValue before it changes its value.
+	 */
+	static void changing(UpdatableValue target, Value original)
+	{
+		if (root != null)
+		{
+			synchronized (StateJournal.class)
+			{
+				if (members != null && members.contains(target) && !changes.containsKey(target))
+				{
+					changes.put(target, original);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Called before the map or sequence held by an UpdatableValue is extended.
+	 */
+	public static void extending(UpdatableValue target)
+	{
+		if (root != null)
+		{
+			synchronized (StateJournal.class)
+			{
+				if (members != null && members.contains(target))
+				{
+					extended = true;
+				}
+			}
+		}
+	}
+
+	private static synchronized void start(Context ctxt, Set<UpdatableValue> found)
+	{
+		members = found;
+		changes = new IdentityHashMap<UpdatableValue, Value>();
+		extended = false;
+		root = ctxt;
+	}
+
+	private static Set<UpdatableValue> newMemberSet()
+	{
+		return Collections.newSetFromMap(new IdentityHashMap<UpdatableValue, Boolean>());
+	}
+}
@@ -163,6 +163,7 @@ public class UpdatableValue extends ReferenceValue
 				updated = (UpdatableValue) updated.convertTo(restrictedTo, ctxt);
     		}
 
+    		StateJournal.changing(this, value);
     		value = updated.value;	// To avoid nested updatables
 		}
 		
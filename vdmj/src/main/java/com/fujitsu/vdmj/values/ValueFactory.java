@@ -41,27 +41,30 @@ public class ValueFactory
 {
 	public static BooleanValue mkBool(boolean b)
 	{
-		return new BooleanValue(b);
+		return BooleanValue.valueOf(b);
 	}
 	
 	public static CharacterValue mkChar(char c)
 	{
-		return new CharacterValue(c);
+		return CharacterValue.valueOf(c);
 	}
 	
 	public static IntegerValue mkInt(long i)
 	{
-		return new IntegerValue(i);
+		IntegerValue small = IntegerValue.cachedInt(i);
+		return (small != null) ? small : new IntegerValue(i);
 	}
 	
 	public static NaturalValue mkNat(long n) throws Exception
 	{
-		return new NaturalValue(n);
+		IntegerValue small = (n >= 0) ? IntegerValue.cached(n) : null;
+		return (small != null) ? (NaturalValue)small : new NaturalValue(n);
 	}
 	
 	public static NaturalOneValue mkNat1(long n) throws Exception
 	{
-		return new NaturalOneValue(n);
+		IntegerValue small = (n >= 1) ? IntegerValue.cached(n) : null;
+		return (small != null) ? (NaturalOneValue)small : new NaturalOneValue(n);
 	}
 	
 	public static RationalValue mkRat(long p, long q) throws Exception
@@ -81,12 +84,12 @@ public class ValueFactory
 
 	public static NilValue mkNil()
 	{
-		return new NilValue();
+		return NilValue.valueOf();
 	}
 	
 	public static QuoteValue mkQuote(String q)
 	{
-		return new QuoteValue(q);
+		return QuoteValue.valueOf(q);
 	}
 	
 	public static SeqValue mkSeq(Value ...args)
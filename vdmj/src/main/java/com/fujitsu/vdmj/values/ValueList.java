@@ -29,7 +29,9 @@ import java.util.Vector;
 import com.fujitsu.vdmj.util.Utils;
 
 /**
- * A sequential list of values.
+ * A sequential list of values. Sequence operations like ^, tl and subsequences
+ * copy their operands into a new list, so they are linear in the length of the
+ * sequences involved.
  */
 
 @SuppressWarnings("serial")
@@ -42,8 +44,34 @@ public class ValueList extends Vector<Value>
 
 	public ValueList(ValueList from)
 	{
-		super(from.size());
-		addAll(from);
+		this(from, 0, from.size());
+	}
+
+	/**
+	 * Create a list from a range of another list, from start (inclusive) to
+	 * end (exclusive). The elements are copied in one step, rather than via
+	 * addAll, which copies them twice. This is used by tl and subsequences.
+	 */
+	public ValueList(ValueList from, int start, int end)
+	{
+		super(end - start);
+
+		synchronized (from)
+		{
+			System.arraycopy(from.elementData, start, elementData, 0, end - start);
+			elementCount = end - start;
+		}
+	}
+
+	/**
+	 * Create a list that is the concatenation of two others. The result has
+	 * exactly the capacity needed, so no reallocation takes place.
+	 */
+	public ValueList(ValueList left, ValueList right)
+	{
+		super(left.size() + right.size());
+		append(left);
+		append(right);
 	}
 
 	public ValueList(Value v)
@@ -71,6 +99,22 @@ public class ValueList extends Vector<Value>
 		return i >= 0 && i < size();
 	}
 
+	/**
+	 * Append the elements of another list with one copy, growing the capacity
+	 * once if needed.
+	 */
+	public synchronized void append(ValueList other)
+	{
+		synchronized (other)
+		{
+			int count = other.elementCount;
+			ensureCapacity(elementCount + count);
+			System.arraycopy(other.elementData, 0, elementData, elementCount, count);
+			elementCount += count;
+			modCount++;
+		}
+	}
+
 	@Override
 	public String toString()
 	{
@@ -26,6 +26,7 @@ package com.fujitsu.vdmj.values;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Vector;
 
@@ -42,13 +43,24 @@ import com.fujitsu.vdmj.util.Utils;
  * it is not based on a java.util.Set<Value>, but rather a Vector<Value>. This is
  * so that the possible orderings of set values can be enumerated when
  * performing quantifiers like "a,b,c in set {{1,2,3}, {4,5,6}}".
+ * 
+ * Membership tests on larger sets are made via a hashed index of the members,
+ * which is built lazily and kept up to date by the add methods here. Any other
+ * structural change to the Vector (detected via modCount) discards the index,
+ * so that it is rebuilt on the next contains call.
  */
 
 @SuppressWarnings("serial")
 public class ValueSet extends Vector<Value>		// NB based on Vector
 {
+	/** Sets smaller than this are searched linearly, without an index */
+	private static final int INDEX_THRESHOLD = 16;
+
 	private boolean isSorted;
 
+	private transient HashSet<Value> index = null;
+	private transient int indexModCount = 0;
+
 	public ValueSet()
 	{
 		super();
@@ -64,7 +76,7 @@ public class ValueSet extends Vector<Value>		// NB based on Vector
 	public ValueSet(ValueSet from)
 	{
 		super(from.size());
-		addAll(from);
+		super.addAll(from);		// No duplicates to check
 		isSorted = from.isSorted;
 	}
 
@@ -106,7 +118,9 @@ public class ValueSet extends Vector<Value>		// NB based on Vector
 				{
 					if (!this.get(i).equals(os.get(i)))
 					{
-						return false;
+						// Sets of unordered values, like sets of sets, are "sorted"
+						// by string, which does not give a unique order (eg. power).
+						return os.containsAll(this);
 					}
 				}
 				
@@ -134,6 +148,19 @@ public class ValueSet extends Vector<Value>		// NB based on Vector
 		return hash;
 	}
 
+	@Override
+	public synchronized boolean contains(Object v)
+	{
+		if (size() < INDEX_THRESHOLD)
+		{
+			return super.contains(v);
+		}
+		else
+		{
+			return getIndex().contains(v);
+		}
+	}
+
 	@Override
 	public boolean add(Value v)
 	{
@@ -144,7 +171,7 @@ public class ValueSet extends Vector<Value>		// NB based on Vector
 		else
 		{
 			isSorted = false;
-			return super.add(v);
+			return addIndexed(v);
 		}
 	}
 	
@@ -155,19 +182,65 @@ public class ValueSet extends Vector<Value>		// NB based on Vector
 	public boolean addSorted(Value v)
 	{
 		isSorted = true;
-		return super.add(v);
+		return addIndexed(v);
 	}
 
 	public boolean addUnsorted(Value v)
 	{
 		isSorted = false;
-		return super.add(v);
+		return addIndexed(v);
 	}
 	
 	public boolean addSorted(Value v, boolean sorted)
 	{
 		isSorted = sorted;
-		return super.add(v);
+		return addIndexed(v);
+	}
+
+	/**
+	 * Add a value to the underlying Vector, and to the index if there is a valid one.
+	 */
+	private synchronized boolean addIndexed(Value v)
+	{
+		boolean valid = (index != null && indexModCount == modCount);
+		super.add(v);
+
+		if (valid)
+		{
+			index.add(v);
+			indexModCount = modCount;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Return the hashed index, rebuilding it if the Vector has been changed since it
+	 * was last built.
+	 */
+	private HashSet<Value> getIndex()
+	{
+		if (index == null || indexModCount != modCount)
+		{
+			index = new HashSet<Value>(this);
+			indexModCount = modCount;
+		}
+
+		return index;
+	}
+
+	@Override
+	public synchronized Value set(int i, Value v)
+	{
+		index = null;		// Not a modCount change
+		return super.set(i, v);
+	}
+
+	@Override
+	public synchronized void setElementAt(Value v, int i)
+	{
+		index = null;		// Not a modCount change
+		super.setElementAt(v, i);
 	}
 
 	@Override
@@ -191,8 +264,14 @@ public class ValueSet extends Vector<Value>		// NB based on Vector
 	{
 		if (!isSorted)
 		{
+			boolean valid = (index != null && indexModCount == modCount);
 			Collections.sort(this);
 			isSorted = true;
+
+			if (valid)
+			{
+				indexModCount = modCount;	// Same members, so index still valid
+			}
 		}
 	}
 
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.values;
+
+import java.util.Iterator;
+
+/**
+ * A sequence of values which may be generated on demand, rather than all at once,
+ * for example by a QuickCheck strategy. Values are kept as they are generated, so
+ * that the sequence can be traversed more than once, but values that are never
+ * reached are never generated.
+ */
+public class ValueSource
+{
+	private final ValueList values;
+	private Iterator<Value> generator;
+
+	public ValueSource(ValueList values)
+	{
+		this.values = values;
+		this.generator = null;
+	}
+
+	/**
+	 * The initial values (if any) come first, followed by those from the generator.
+	 */
+	public ValueSource(ValueList initial, Iterator<Value> generator)
+	{
+		this.values = new ValueList();
+		this.generator = generator;
+		
+		if (initial != null)
+		{
+			values.addAll(initial);
+		}
+	}
+
+	/**
+	 * True if every value has been generated, so that the size is known.
+	 */
+	public boolean isComplete()
+	{
+		return generator == null;
+	}
+
+	/**
+	 * True if there is a value at the index, generating values up to it if necessary.
+	 */
+	public boolean has(int index)
+	{
+		while (generator != null && values.size() <= index)
+		{
+			if (generator.hasNext())
+			{
+				values.add(generator.next());
+			}
+			else
+			{
+				generator = null;
+			}
+		}
+
+		return index < values.size();
+	}
+
+	public Value get(int index)
+	{
+		has(index);
+		return values.get(index);
+	}
+
+	/**
+	 * Generate any remaining values, and return the complete list.
+	 */
+	public ValueList getValues()
+	{
+		while (generator != null)
+		{
+			has(values.size());
+		}
+
+		return values;
+	}
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.values.visitors;
+
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.values.ObjectValue;
+import com.fujitsu.vdmj.values.Value;
+
+/**
+ * Find the objects within a value, like a seq of objects. The search does not go
+ * inside the objects found.
+ */
+public class ObjectValueFinder extends LeafValueVisitor<ObjectValue, List<ObjectValue>, Object>
+{
+	@Override
+	public List<ObjectValue> caseValue(Value node, Object arg)
+	{
+		return newCollection();
+	}
+
+	@Override
+	public List<ObjectValue> caseObjectValue(ObjectValue node, Object arg)
+	{
+		List<ObjectValue> all = newCollection();
+		all.add(node);
+		return all;
+	}
+
+	@Override
+	protected List<ObjectValue> newCollection()
+	{
+		return new Vector<ObjectValue>();
+	}
+}
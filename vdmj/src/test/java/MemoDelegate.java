@@ -0,0 +1,43 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+import com.fujitsu.vdmj.runtime.VDMFunction;
+import com.fujitsu.vdmj.values.NaturalValue;
+import com.fujitsu.vdmj.values.Value;
+
+/**
+ * The delegate for the MemoDelegate module in MemoTest. This has a side effect, so
+ * calls to it must never be memoised.
+ */
+public class MemoDelegate
+{
+	private static long count = 0;
+
+	@VDMFunction
+	public static Value next() throws Exception
+	{
+		return new NaturalValue(++count);
+	}
+}
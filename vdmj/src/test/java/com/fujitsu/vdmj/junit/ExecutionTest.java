@@ -99,6 +99,7 @@ public class ExecutionTest extends TestCase
 		ModuleInterpreter interpreter = new ModuleInterpreter(runnable, checked);
 		interpreter.init();
 		AssertCommand cmd = new AssertCommand("assert " + assertions);
+		cmd.run("assert " + assertions);
 		assertEquals("Execution errors", true, !cmd.errors());
 	}
 
@@ -110,6 +111,7 @@ public class ExecutionTest extends TestCase
 		ModuleInterpreter interpreter = new ModuleInterpreter(new INModuleList(), new TCModuleList());
 		interpreter.init();
 		AssertCommand cmd = new AssertCommand("assert " + file);
+		cmd.run("assert " + file);
 		assertEquals("Execution errors", true, !cmd.errors());
 	}
 
@@ -138,6 +140,12 @@ public class ExecutionTest extends TestCase
 		process("sigma.vdm", "sigma.tests");
 	}
 
+	public void testEquality() throws Exception
+	{
+		Settings.release = Release.VDM_10;
+		process("equality.vdm", "equality.tests");
+	}
+
 	public void testFlat() throws Exception
 	{
 		process("flat.vdm", "flat.tests");
@@ -0,0 +1,231 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.junit;
+
+import java.io.File;
+import java.net.URL;
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.definitions.ASTClassList;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.in.INNode;
+import com.fujitsu.vdmj.in.definitions.INClassList;
+import com.fujitsu.vdmj.in.modules.INModuleList;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.plugins.analyses.INPlugin;
+import com.fujitsu.vdmj.plugins.commands.SetCommand;
+import com.fujitsu.vdmj.runtime.ClassInterpreter;
+import com.fujitsu.vdmj.runtime.ModuleInterpreter;
+import com.fujitsu.vdmj.syntax.ClassReader;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.definitions.TCClassList;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.typechecker.ClassTypeChecker;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+import com.fujitsu.vdmj.values.MemoTable;
+
+import junit.framework.TestCase;
+
+public class MemoTest extends TestCase
+{
+	private boolean savedMemoise;
+	private int savedLimit;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.release = Release.CLASSIC;
+		savedMemoise = Settings.memoise;
+		savedLimit = Properties.in_memo_limit;
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		super.tearDown();
+		Settings.memoise = savedMemoise;
+		Properties.in_memo_limit = savedLimit;
+	}
+
+	private File getFile(String resource)
+	{
+		URL rurl = getClass().getResource(resource);
+		return new File(rurl.getPath());
+	}
+
+	private ModuleInterpreter loadModules() throws Exception
+	{
+		Settings.dialect = Dialect.VDM_SL;
+		LexTokenReader ltr = new LexTokenReader(getFile("/memotest/memo.vdm"), Dialect.VDM_SL);
+		ModuleReader mr = new ModuleReader(ltr);
+		ASTModuleList parsed = mr.readModules();
+		assertEquals("Parse errors", 0, mr.getErrorCount());
+
+		TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ModuleTypeChecker(checked).typeCheck();
+		assertEquals("Type check errors", 0, TypeChecker.getErrorCount());
+
+		INModuleList runnable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(checked);
+		ModuleInterpreter interpreter = new ModuleInterpreter(runnable, checked);
+		interpreter.init();
+		interpreter.setDefaultName("Memo");
+		return interpreter;
+	}
+
+	private ClassInterpreter loadClasses() throws Exception
+	{
+		Settings.dialect = Dialect.VDM_PP;
+		LexTokenReader ltr = new LexTokenReader(getFile("/memotest/memo.vpp"), Dialect.VDM_PP);
+		ClassReader cr = new ClassReader(ltr);
+		ASTClassList parsed = cr.readClasses();
+		assertEquals("Parse errors", 0, cr.getErrorCount());
+
+		TCClassList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ClassTypeChecker(checked).typeCheck();
+		assertEquals("Type check errors", 0, TypeChecker.getErrorCount());
+
+		INClassList runnable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(checked);
+		ClassInterpreter interpreter = new ClassInterpreter(runnable, checked);
+		interpreter.init();
+		interpreter.setDefaultName("Memo");
+		return interpreter;
+	}
+
+	private MemoTable getTable(String name)
+	{
+		for (MemoTable table: MemoTable.getTables())
+		{
+			if (table.name.equals(name))
+			{
+				return table;
+			}
+		}
+
+		return null;
+	}
+
+	public void testMemoise() throws Exception
+	{
+		Settings.memoise = true;
+		ModuleInterpreter interpreter = loadModules();
+
+		assertEquals("6765", interpreter.execute("fib(20)").toString());
+		MemoTable fib = getTable("fib");
+		assertEquals(21, fib.size());
+		assertEquals(21, fib.getMisses());
+		assertEquals(18, fib.getHits());
+
+		assertEquals("6765", interpreter.execute("fib(20)").toString());
+		assertEquals(19, fib.getHits());
+
+		interpreter.init();
+		assertTrue(MemoTable.getTables().isEmpty());
+	}
+
+	public void testNotMemoised() throws Exception
+	{
+		Settings.memoise = false;
+		ModuleInterpreter interpreter = loadModules();
+
+		assertEquals("6765", interpreter.execute("fib(20)").toString());
+		assertTrue(MemoTable.getTables().isEmpty());
+	}
+
+	public void testLimit() throws Exception
+	{
+		Settings.memoise = true;
+		Properties.in_memo_limit = 5;
+		ModuleInterpreter interpreter = loadModules();
+
+		assertEquals("6765", interpreter.execute("fib(20)").toString());
+		assertEquals(5, getTable("fib").size());
+	}
+
+	public void testDelegates() throws Exception
+	{
+		Settings.memoise = true;
+		ModuleInterpreter interpreter = loadModules();
+
+		// Neither the delegated function nor a function that calls it are cached
+		long first = interpreter.execute("wrap(0)").intValue(null);
+		assertEquals(first + 1, interpreter.execute("wrap(0)").intValue(null));
+		assertEquals(first + 3, interpreter.execute("MemoDelegate`next() + 1").intValue(null));
+
+		assertNull(getTable("next"));
+		assertEquals(0, getTable("wrap").size());
+	}
+
+	public void testUpdatable() throws Exception
+	{
+		Settings.memoise = true;
+		ModuleInterpreter interpreter = loadModules();
+
+		// State passed as an argument is cached by value, not as the live state
+		assertEquals("2", interpreter.execute("getSize()").toString());
+		interpreter.execute("setValues({3})");
+		assertEquals("1", interpreter.execute("getSize()").toString());
+		interpreter.execute("setValues({1, 2})");
+		assertEquals("2", interpreter.execute("getSize()").toString());
+		assertEquals(1, getTable("size").getHits());
+	}
+
+	public void testObjects() throws Exception
+	{
+		Settings.memoise = true;
+		ClassInterpreter interpreter = loadClasses();
+
+		// Objects nested within arguments can change, so calls are not cached
+		interpreter.create("o", "new Memo()");
+		assertEquals("0", interpreter.execute("Memo`first([o])").toString());
+		interpreter.execute("o.update(5)");
+		assertEquals("5", interpreter.execute("Memo`first([o])").toString());
+		assertNull(getTable("first"));
+	}
+
+	public void testSwitches() throws Exception
+	{
+		Settings.memoise = false;
+		new SetCommand("set memo on").run("set memo on");
+		assertTrue(Settings.memoise);
+		new SetCommand("set memo off").run("set memo off");
+		assertFalse(Settings.memoise);
+
+		List<String> argv = new Vector<String>();
+		argv.add("-memo");
+		INPlugin.factory(Dialect.VDM_SL).processArgs(argv);
+		assertTrue(Settings.memoise);
+		assertTrue(argv.isEmpty());
+	}
+}
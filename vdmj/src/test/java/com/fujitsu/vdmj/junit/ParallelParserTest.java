@@ -0,0 +1,109 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.junit;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.lex.LexNameToken;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.syntax.ParallelParser;
+
+import junit.framework.TestCase;
+
+public class ParallelParserTest extends TestCase
+{
+	private int savedThreads;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.release = Release.CLASSIC;
+		Settings.dialect = Dialect.VDM_SL;
+		savedThreads = Properties.parser_threads;
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		super.tearDown();
+		Properties.parser_threads = savedThreads;
+		LexLocation.resetLocations();
+	}
+
+	/**
+	 * Parse the files, returning the modules, errors and name spans as a string.
+	 */
+	private String parse(List<File> files, int threads)
+	{
+		Properties.parser_threads = threads;
+		LexLocation.resetLocations();
+
+		List<String> results = ParallelParser.parse(files, file ->
+		{
+			LexTokenReader ltr = new LexTokenReader(file, Dialect.VDM_SL);
+			ModuleReader mr = new ModuleReader(ltr);
+			return mr.readModules().toString() + mr.getErrors() + mr.getWarnings();
+		});
+
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < files.size(); i++)
+		{
+			sb.append(results.get(i));
+
+			for (LexNameToken name: LexLocation.getSpanNames(files.get(i)))
+			{
+				sb.append(name + " " + LexLocation.getSpan(name) + "\n");
+			}
+		}
+
+		return sb.toString();
+	}
+
+	public void testModules() throws Exception
+	{
+		URL rurl = getClass().getResource("/modtest");
+		File[] files = new File(rurl.getPath()).listFiles((dir, name) -> name.endsWith(".vdm"));
+		Arrays.sort(files);
+		List<File> list = new Vector<File>(Arrays.asList(files));
+
+		String serial = parse(list, 1);
+		String parallel = parse(list, 4);
+
+		assertTrue(serial.contains("SAFER"));
+		assertEquals(serial, parallel);
+	}
+}
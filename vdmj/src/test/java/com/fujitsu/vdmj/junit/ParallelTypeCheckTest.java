@@ -0,0 +1,147 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.junit;
+
+import java.io.File;
+import java.net.URL;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.definitions.ASTClassList;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.syntax.ClassReader;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.definitions.TCClassList;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.typechecker.ClassTypeChecker;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+
+import junit.framework.TestCase;
+
+public class ParallelTypeCheckTest extends TestCase
+{
+	private int savedThreads;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.release = Release.CLASSIC;
+		savedThreads = Properties.tc_threads;
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		super.tearDown();
+		Properties.tc_threads = savedThreads;
+	}
+
+	private File getFile(String resource)
+	{
+		URL rurl = getClass().getResource(resource);
+		return new File(rurl.getPath());
+	}
+
+	/**
+	 * Type check the modules in the file, returning the errors and warnings as a string.
+	 */
+	private String checkModules(String resource, int threads) throws Exception
+	{
+		Settings.dialect = Dialect.VDM_SL;
+		Properties.tc_threads = threads;
+
+		LexTokenReader ltr = new LexTokenReader(getFile(resource), Dialect.VDM_SL);
+		ModuleReader mr = new ModuleReader(ltr);
+		ASTModuleList parsed = mr.readModules();
+		assertEquals("Parse errors", 0, mr.getErrorCount());
+
+		TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ModuleTypeChecker(checked).typeCheck();
+
+		return TypeChecker.getErrors().toString() + TypeChecker.getWarnings();
+	}
+
+	/**
+	 * Type check the classes in the file, returning the errors and warnings as a string.
+	 */
+	private String checkClasses(String resource, Dialect dialect, int threads) throws Exception
+	{
+		Settings.dialect = dialect;
+		Properties.tc_threads = threads;
+
+		LexTokenReader ltr = new LexTokenReader(getFile(resource), dialect);
+		ClassReader cr = new ClassReader(ltr);
+		ASTClassList parsed = cr.readClasses();
+		assertEquals("Parse errors", 0, cr.getErrorCount());
+
+		TCClassList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ClassTypeChecker(checked).typeCheck();
+
+		return TypeChecker.getErrors().toString() + TypeChecker.getWarnings();
+	}
+
+	public void testModules() throws Exception
+	{
+		String[] files = { "SAFER.vdm", "bar.vdm", "impcheck.vdm", "loose.vdm",
+			"metro.vdm", "railway.vdm", "soccer.vdm", "struct.vdm" };
+
+		for (String file: files)
+		{
+			String serial = checkModules("/modtest/" + file, 1);
+			String parallel = checkModules("/modtest/" + file, 4);
+			assertEquals(file, serial, parallel);
+		}
+	}
+
+	public void testClasses() throws Exception
+	{
+		String[] files = { "/VDMBook/Enigma.vpp", "/VDMBook/POP3.vpp",
+			"/Overture/typecheck/typecheck1.vpp", "/Overture/typecheck/varaccess.vpp" };
+
+		for (String file: files)
+		{
+			String serial = checkClasses(file, Dialect.VDM_PP, 1);
+			String parallel = checkClasses(file, Dialect.VDM_PP, 4);
+			assertEquals(file, serial, parallel);
+		}
+	}
+
+	public void testPure() throws Exception
+	{
+		Settings.release = Release.VDM_10;
+		String file = "/Overture/typecheck/puretest.vpp";
+		String serial = checkClasses(file, Dialect.VDM_RT, 1);
+		String parallel = checkClasses(file, Dialect.VDM_RT, 4);
+		assertTrue(serial.contains("Error"));
+		assertEquals(file, serial, parallel);
+	}
+}
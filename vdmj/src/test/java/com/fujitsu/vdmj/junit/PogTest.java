@@ -30,7 +30,9 @@ import java.net.URL;
 import com.fujitsu.vdmj.Release;
 import com.fujitsu.vdmj.Settings;
 import com.fujitsu.vdmj.ast.definitions.ASTClassList;
+import com.fujitsu.vdmj.ast.expressions.ASTExpression;
 import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.config.Properties;
 import com.fujitsu.vdmj.lex.Dialect;
 import com.fujitsu.vdmj.lex.LexTokenReader;
 import com.fujitsu.vdmj.mapper.ClassMapper;
@@ -38,6 +40,7 @@ import com.fujitsu.vdmj.messages.Console;
 import com.fujitsu.vdmj.po.PONode;
 import com.fujitsu.vdmj.po.definitions.POClassList;
 import com.fujitsu.vdmj.po.modules.POModuleList;
+import com.fujitsu.vdmj.pog.POParseCache;
 import com.fujitsu.vdmj.pog.ProofObligation;
 import com.fujitsu.vdmj.pog.ProofObligationList;
 import com.fujitsu.vdmj.syntax.ClassReader;
@@ -191,21 +194,163 @@ public class PogTest extends TestCase
 			/* 25 */ "(forall a:real, mk_Sigma(sv, xv, si, sr):Sigma &\n  (let sv$ = sv in\n    (not (a > 10) =>\n      (let sv : nat = (a + 1) in\n        (let r = (1 / sv) in\n          (sv > sv$))))))\n"
 	};
 	
+	private String[] expectedAlternatives =
+	{
+			/* 1 */ "(forall a:nat, b:nat, r:real, oldSigma:Sigma, Sigma:Sigma &\n  is_(post_nested(a, b, r, oldSigma, Sigma), bool))\n",
+			/* 2 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (1 = b => \n      (let sv : nat = a in\n        ((b > 10) =>\n          (let sv : nat = (sv + 1) in\n            sv <> 0))))))\n",
+			/* 3 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        ((a > 20) =>\n          (let sv : nat = 1 in\n            ((b > 10) =>\n              (let sv : nat = (sv + 1) in\n                sv <> 0))))))))\n",
+			/* 4 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (not 2 = b =>\n        (let sv : nat = b in\n          ((b > 10) =>\n            (let sv : nat = (sv + 1) in\n              sv <> 0)))))))\n",
+			/* 5 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  (not (a > 10) =>\n    (let sv : nat = (a + 1) in\n      ((b > 10) =>\n        (let sv : nat = (sv + 1) in\n          sv <> 0)))))\n",
+			/* 6 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (1 = b => \n      (let sv : nat = a in\n        (not (b > 10) =>\n          (not 0 = a =>\n            (let sq : seq of nat = [a] in\n              sv <> 0)))))))\n",
+			/* 7 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        ((a > 20) =>\n          (let sv : nat = 1 in\n            (not (b > 10) =>\n              (not 0 = a =>\n                (let sq : seq of nat = [a] in\n                  sv <> 0)))))))))\n",
+			/* 8 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (not 2 = b =>\n        (let sv : nat = b in\n          (not (b > 10) =>\n            (not 0 = a =>\n              (let sq : seq of nat = [a] in\n                sv <> 0))))))))\n",
+			/* 9 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  (not (a > 10) =>\n    (let sv : nat = (a + 1) in\n      (not (b > 10) =>\n        (not 0 = a =>\n          (let sq : seq of nat = [a] in\n            sv <> 0))))))\n",
+			/* 10 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (1 = b => \n      (let sv : nat = a in\n        ((b > 10) =>\n          (let sv : nat = (sv + 1) in\n            (let r = (1 / sv) in\n              (r <> 99))))))))\n",
+			/* 11 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        ((a > 20) =>\n          (let sv : nat = 1 in\n            ((b > 10) =>\n              (let sv : nat = (sv + 1) in\n                (let r = (1 / sv) in\n                  (r <> 99))))))))))\n",
+			/* 12 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        (not (a > 20) =>\n          (let r = 0 in\n            ((b > 10) =>\n              (let sv : nat = (sv + 1) in\n                (let r = (1 / sv) in\n                  (r <> 99))))))))))\n",
+			/* 13 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (not 2 = b =>\n        (let sv : nat = b in\n          ((b > 10) =>\n            (let sv : nat = (sv + 1) in\n              (let r = (1 / sv) in\n                (r <> 99)))))))))\n",
+			/* 14 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  (not (a > 10) =>\n    (let sv : nat = (a + 1) in\n      ((b > 10) =>\n        (let sv : nat = (sv + 1) in\n          (let r = (1 / sv) in\n            (r <> 99)))))))\n",
+			/* 15 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (1 = b => \n      (let sv : nat = a in\n        (not (b > 10) =>\n          (0 = a => \n            (let r = 1 in\n              (r <> 99))))))))\n",
+			/* 16 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        ((a > 20) =>\n          (let sv : nat = 1 in\n            (not (b > 10) =>\n              (0 = a => \n                (let r = 1 in\n                  (r <> 99))))))))))\n",
+			/* 17 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        (not (a > 20) =>\n          (let r = 0 in\n            (not (b > 10) =>\n              (0 = a => \n                (let r = 1 in\n                  (r <> 99))))))))))\n",
+			/* 18 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (not 2 = b =>\n        (let sv : nat = b in\n          (not (b > 10) =>\n            (0 = a => \n              (let r = 1 in\n                (r <> 99)))))))))\n",
+			/* 19 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  (not (a > 10) =>\n    (let sv : nat = (a + 1) in\n      (not (b > 10) =>\n        (0 = a => \n          (let r = 1 in\n            (r <> 99)))))))\n",
+			/* 20 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (1 = b => \n      (let sv : nat = a in\n        (not (b > 10) =>\n          (not 0 = a =>\n            (let sq : seq of nat = [a] in\n              (let r = (1 / sv) in\n                (r <> 99)))))))))\n",
+			/* 21 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        ((a > 20) =>\n          (let sv : nat = 1 in\n            (not (b > 10) =>\n              (not 0 = a =>\n                (let sq : seq of nat = [a] in\n                  (let r = (1 / sv) in\n                    (r <> 99)))))))))))\n",
+			/* 22 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (2 = b => \n        (not (a > 20) =>\n          (let r = 0 in\n            (not (b > 10) =>\n              (not 0 = a =>\n                (let sq : seq of nat = [a] in\n                  (let r = (1 / sv) in\n                    (r <> 99)))))))))))\n",
+			/* 23 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  ((a > 10) =>\n    (not 1 = b =>\n      (not 2 = b =>\n        (let sv : nat = b in\n          (not (b > 10) =>\n            (not 0 = a =>\n              (let sq : seq of nat = [a] in\n                (let r = (1 / sv) in\n                  (r <> 99))))))))))\n",
+			/* 24 */ "(forall a:nat, b:nat, mk_Sigma(sv, sq):Sigma &\n  (not (a > 10) =>\n    (let sv : nat = (a + 1) in\n      (not (b > 10) =>\n        (not 0 = a =>\n          (let sq : seq of nat = [a] in\n            (let r = (1 / sv) in\n              (r <> 99))))))))\n",
+			/* 25 */ "(forall a:nat, r:nat, oldSigma:Sigma, Sigma:Sigma &\n  is_(post_returns(a, r, oldSigma, Sigma), bool))\n",
+			/* 26 */ "(forall a:nat, mk_Sigma(sv, sq):Sigma &\n  (1 = a => \n    1 in set inds sq))\n",
+			/* 27 */ "(forall a:nat, mk_Sigma(sv, sq):Sigma &\n  (not 1 = a =>\n    (2 = a => \n      ((a > sv) =>\n        2 in set inds sq))))\n",
+			/* 28 */ "(forall a:nat, mk_Sigma(sv, sq):Sigma &\n  (not 1 = a =>\n    (2 = a => \n      (not (a > sv) =>\n        (let sv : nat = 2 in\n          sv in set inds sq)))))\n",
+			/* 29 */ "(forall a:nat, mk_Sigma(sv, sq):Sigma &\n  (1 = a => \n    (let r = sq(1) in\n      (r > a))))\n",
+			/* 30 */ "(forall a:nat, mk_Sigma(sv, sq):Sigma &\n  (not 1 = a =>\n    (2 = a => \n      ((a > sv) =>\n        (let r = sq(2) in\n          (r > a))))))\n",
+			/* 31 */ "(forall a:nat, mk_Sigma(sv, sq):Sigma &\n  (not 1 = a =>\n    (2 = a => \n      (not (a > sv) =>\n        (let sv : nat = 2 in\n          (let r = sq(sv) in\n            (r > a)))))))\n"
+	};
+	
 	public void testVDMSL() throws Exception
 	{
 		runPOG(Dialect.VDM_SL, "/pogtest/pog.vdmsl", expectedSL);
 	}
 	
+	public void testAlternatives() throws Exception
+	{
+		runPOG(Dialect.VDM_SL, "/pogtest/alternatives.vdmsl", expectedAlternatives);
+	}
+	
 	public void testVDMPP() throws Exception
 	{
 		runPOG(Dialect.VDM_PP, "/pogtest/pog.vdmpp", expectedPP);
 	}
+	
+	public void testParseCache() throws Exception
+	{
+		int oldlimit = Properties.pog_parse_cache;
+		boolean oldmax = Properties.parser_maximal_types;
+		
+		try
+		{
+			POParseCache.reset();
+			ASTExpression a = POParseCache.parse("1 + 2", "DEFAULT");
+			assertSame("Cache hit", a, POParseCache.parse("1 + 2", "DEFAULT"));
+			assertNotSame("Other module", a, POParseCache.parse("1 + 2", "M"));
+			
+			Properties.parser_maximal_types = !oldmax;
+			assertNotSame("Other parser properties", a, POParseCache.parse("1 + 2", "DEFAULT"));
+			Properties.parser_maximal_types = oldmax;
+			
+			Properties.pog_parse_cache = 2;
+			POParseCache.reset();
+			ASTExpression x = POParseCache.parse("x", "DEFAULT");
+			ASTExpression y = POParseCache.parse("y", "DEFAULT");
+			assertSame("Touch x", x, POParseCache.parse("x", "DEFAULT"));
+			POParseCache.parse("z", "DEFAULT");		// Evicts y, the least recently used
+			assertEquals("Cache size", 2, POParseCache.getSize());
+			assertSame("x kept", x, POParseCache.parse("x", "DEFAULT"));
+			assertNotSame("y evicted", y, POParseCache.parse("y", "DEFAULT"));
+			
+			Properties.pog_parse_cache = 0;
+			POParseCache.reset();
+			assertNotSame("No cache", x, POParseCache.parse("x", "DEFAULT"));
+			assertEquals("Cache size", 0, POParseCache.getSize());
+			
+			Properties.pog_parse_cache = oldlimit;
+			Properties.parser_maximal_types = false;
+			POParseCache.reset();
+			generate(Dialect.VDM_SL, "/pogtest/pog.vdmsl");
+			assertFalse("Maximal types restored", Properties.parser_maximal_types);
+			assertTrue("Cache used", POParseCache.getSize() > 0);
+		}
+		finally
+		{
+			Properties.pog_parse_cache = oldlimit;
+			Properties.parser_maximal_types = oldmax;
+			POParseCache.reset();
+		}
+	}
+	
+	public void testHasObligations() throws Exception
+	{
+		ProofObligationList polist = generate(Dialect.VDM_SL, "/pogtest/pog.vdmsl");
+		ProofObligation total = polist.get(3);		// 1 in set inds sr
+		ProofObligation partial = polist.get(5);	// (sr(1).size) <> 0
+		
+		assertFalse("Total PO", total.hasObligations());
+		assertTrue("Partial PO", partial.hasObligations());
+		
+		partial.setHasObligations(false);
+		assertFalse("Set PO", partial.hasObligations());
+		partial.setCheckedExpression(partial.getCheckedExpression());
+		assertTrue("Reset PO", partial.hasObligations());
+		
+		total.setCheckedExpression(null);
+		assertFalse("Unchecked PO", total.hasObligations());
+	}
 
 	/**
 	 * Compare the processing of one file with a list of expected POs.
 	 */
 	private void runPOG(Dialect dialect, String filename, String[] expected) throws Exception
 	{
+		ProofObligationList polist = generate(dialect, filename);
+
+		// Copy this output to re-generate the expected from the actuals...
+		int i = 0;
+
+		for (ProofObligation po: polist)
+		{
+			Console.out.println("/* " + ++i + " */ \"" + po.source.replaceAll("\n", "\\\\n") + "\",");
+			assertTrue("PO type checked failed", !po.isCheckable || po.getCheckedExpression() != null);
+		}
+
+		assertEquals("POs generated", expected.length, polist.size());
+
+		i = 0;
+		int errs = 0;
+
+		for (ProofObligation po: polist)
+		{
+			if (!expected[i].equals(po.source))
+			{
+				Console.out.println("PO# " + (i+1));
+				Console.out.print("Expected: " + expected[i]);
+				Console.out.print("Actual: " + po.source);
+				errs++;
+			}
+
+			i++;
+		}
+
+		assertEquals("POs failed", 0, errs);
+	}
+
+	/**
+	 * Parse, type check and generate the POs for one file.
+	 */
+	private ProofObligationList generate(Dialect dialect, String filename) throws Exception
+	{
+		Settings.dialect = dialect;
 		URL rurl = getClass().getResource(filename);
 		String file = rurl.getPath();
 		ProofObligationList polist = null;
@@ -248,33 +393,6 @@ public class PogTest extends TestCase
 			}				
 		}
 
-		// Copy this output to re-generate the expected from the actuals...
-		int i = 0;
-
-		for (ProofObligation po: polist)
-		{
-			Console.out.println("/* " + ++i + " */ \"" + po.source.replaceAll("\n", "\\\\n") + "\",");
-			assertTrue("PO type checked failed", !po.isCheckable || po.getCheckedExpression() != null);
-		}
-
-		assertEquals("POs generated", expected.length, polist.size());
-
-		i = 0;
-		int errs = 0;
-
-		for (ProofObligation po: polist)
-		{
-			if (!expected[i].equals(po.source))
-			{
-				Console.out.println("PO# " + (i+1));
-				Console.out.print("Expected: " + expected[i]);
-				Console.out.print("Actual: " + po.source);
-				errs++;
-			}
-
-			i++;
-		}
-
-		assertEquals("POs failed", 0, errs);
+		return polist;
 	}
 }
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.junit;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.in.annotations.INAnnotation;
+import com.fujitsu.vdmj.in.expressions.INExpressionList;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.messages.ConjectureException;
+import com.fujitsu.vdmj.messages.ConjectureProcessor;
+import com.fujitsu.vdmj.messages.RTLogger;
+import com.fujitsu.vdmj.messages.RTValidator;
+import com.fujitsu.vdmj.messages.rtlog.RTEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTInstVarEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTLogConverter;
+import com.fujitsu.vdmj.messages.rtlog.RTMessageEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTOperationEvent;
+import com.fujitsu.vdmj.messages.rtlog.RTThreadEvent;
+import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.scheduler.SystemClock;
+import com.fujitsu.vdmj.tc.lex.TCIdentifierToken;
+
+import junit.framework.TestCase;
+
+public class RTLogTest extends TestCase
+{
+	/**
+	 * A conjecture that fails at every request for A`op.
+	 */
+	private static class TestConjecture extends INAnnotation implements ConjectureProcessor
+	{
+		private static final long serialVersionUID = 1L;
+		public int processed = 0;
+		public int failed = 0;
+
+		public TestConjecture()
+		{
+			super(new TCIdentifierToken(LexLocation.ANY, "Test", false), new INExpressionList());
+		}
+
+		@Override
+		public void processReset()
+		{
+			processed = 0;
+			failed = 0;
+		}
+
+		@Override
+		public boolean process(Map<String, String> record, Context ctxt)
+		{
+			processed++;
+
+			if ("#req(A`op)".equals(record.get(RTValidator.HISTORY)))
+			{
+				failed++;
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int processComplete(File violations)
+		{
+			return failed;
+		}
+	}
+
+	private void logEvents()
+	{
+		RTLogger.log(RTThreadEvent.create(10, true, 1, "A", 1));
+		RTLogger.log(RTThreadEvent.swapIn(10, 1, "A", 1));
+		RTLogger.log(RTThreadEvent.swapOut(10, 1, "A", 1));		// Coalesced with swapIn
+		RTLogger.log(RTThreadEvent.delayedSwapIn(11, RTEvent.NIL, null, 100, 2));
+		RTLogger.log(new RTOperationEvent(RTOperationEvent.Kind.REQUEST, 11, "A`op(nat)", 1, "A", 2, false));
+		RTLogger.log(RTMessageEvent.request(1, 2, 1, 7, 11, "op(nat)", 1, 3));
+		RTLogger.log(RTMessageEvent.reply(1, 1, 2, 8, 7, 11, 12, 1));
+		RTLogger.log(RTMessageEvent.activate(7));
+		RTLogger.log(new RTInstVarEvent("last", "mk_R(\"x\")", 1, 11));
+		RTLogger.log("-- Diagnostic");
+		RTLogger.log(RTThreadEvent.kill(11, 2));
+	}
+
+	/**
+	 * The same events as rtlogtest/baseline.logrt, which was written by the
+	 * RTLogger that formatted events as strings.
+	 */
+	private void logBaselineEvents()
+	{
+		RTLogger.log("CPUdecl -> id: 1 expl: true sys: \"SYS\" name: \"cpu1\"");
+		RTLogger.log("BUSdecl -> id: 1 topo: {1, 2} name: \"bus\"");
+		RTLogger.log(RTThreadEvent.systemCreate(1));
+		RTLogger.log(RTThreadEvent.systemSwapIn(1));
+		RTLogger.log("DeployObj -> objref: 1 clnm: \"A\" cpunm: 1");
+		RTLogger.log(RTThreadEvent.create(10, true, 1, "A", 1));
+		RTLogger.log(RTThreadEvent.swapIn(10, 1, "A", 1));
+		RTLogger.log(RTThreadEvent.swapOut(10, 1, "A", 1));		// Coalesced with swapIn
+		SystemClock.advance(100);
+		RTLogger.log(RTThreadEvent.delayedSwapIn(11, RTEvent.NIL, null, 100, 2));
+		RTLogger.log(new RTOperationEvent(RTOperationEvent.Kind.REQUEST, 11, "A`op(nat)", 1, "A", 2, false));
+		RTLogger.log(RTMessageEvent.request(1, 2, 1, 7, 11, "op(nat)", 1, 3));
+		RTLogger.log(RTMessageEvent.activate(7));
+		RTLogger.log(RTMessageEvent.completed(7));
+		RTLogger.log(new RTOperationEvent(RTOperationEvent.Kind.ACTIVATE, 12, "B`op()", RTEvent.NIL, "B", 1, true));
+		RTLogger.log(new RTInstVarEvent("last", "mk_R(\"x\")", 1, 12));
+		RTLogger.log(new RTOperationEvent(RTOperationEvent.Kind.COMPLETED, 12, "B`op()", RTEvent.NIL, "B", 1, true));
+		RTLogger.log(RTMessageEvent.reply(1, 1, 2, 8, 7, 11, 12, 1));
+		RTLogger.log("-- Diagnostic");
+		RTLogger.log(RTThreadEvent.swapIn(12, 1, "A", 1));
+		SystemClock.advance(50);
+		RTLogger.log(RTThreadEvent.swapOut(12, 1, "A", 1));		// Not coalesced, time moved
+		RTLogger.log(RTThreadEvent.kill(11, 2));
+		RTLogger.log(RTThreadEvent.systemSwapOut(1));
+		RTLogger.log(RTThreadEvent.kill(1, 0));
+	}
+
+	private void write(File file) throws Exception
+	{
+		SystemClock.init();
+		RTLogger.setLogfileName(file);
+		logEvents();
+		RTLogger.enable(false);
+	}
+
+	public void testBinaryLog() throws Exception
+	{
+		File text = File.createTempFile("vdmj", ".logrt");
+		File binary = File.createTempFile("vdmj", ".rtbin");
+		File converted = File.createTempFile("vdmj", ".logrt");
+
+		try
+		{
+			write(text);
+			write(binary);
+			List<String> expected = Files.readAllLines(text.toPath());
+			RTLogConverter.convert(binary, converted);
+
+			assertEquals(9, expected.size());
+			assertEquals("ThreadCreate -> id: 10 period: true objref: 1 clnm: \"A\" cpunm: 1 time: 0", expected.get(0));
+			assertEquals("InstVarChange -> instnm: \"last\" val: \"mk_R('x')\" objref: 1 id: 11 time: 0", expected.get(6));
+			assertEquals(expected, Files.readAllLines(converted.toPath()));
+			assertTrue(binary.length() < text.length());
+		}
+		finally
+		{
+			text.delete();
+			binary.delete();
+			converted.delete();
+		}
+	}
+
+	public void testBaselineLog() throws Exception
+	{
+		URL rurl = getClass().getResource("/rtlogtest/baseline.logrt");
+		List<String> baseline = Files.readAllLines(new File(rurl.getPath()).toPath());
+		File text = File.createTempFile("vdmj", ".logrt");
+		File binary = File.createTempFile("vdmj", ".rtbin");
+		File converted = File.createTempFile("vdmj", ".logrt");
+
+		try
+		{
+			SystemClock.init();
+			RTLogger.setLogfileName(text);
+			logBaselineEvents();
+			RTLogger.enable(false);
+			assertEquals(baseline, Files.readAllLines(text.toPath()));
+
+			SystemClock.init();
+			RTLogger.setLogfileName(binary);
+			logBaselineEvents();
+			RTLogger.enable(false);
+			RTLogConverter.convert(binary, converted);
+			assertEquals(baseline, Files.readAllLines(converted.toPath()));
+		}
+		finally
+		{
+			text.delete();
+			binary.delete();
+			converted.delete();
+		}
+	}
+
+	public void testConcurrentLogging() throws Exception
+	{
+		File text = File.createTempFile("vdmj", ".logrt");
+		final int THREADS = 4;
+		final int EVENTS = 10000;
+
+		try
+		{
+			SystemClock.init();
+			RTLogger.setLogfileName(text);
+			List<Thread> threads = new ArrayList<Thread>();
+
+			for (int t = 0; t < THREADS; t++)
+			{
+				final long id = t;
+
+				threads.add(new Thread()
+				{
+					@Override
+					public void run()
+					{
+						for (int i = 0; i < EVENTS; i++)
+						{
+							RTLogger.log(RTMessageEvent.activate(id * EVENTS + i));
+						}
+					}
+				});
+			}
+
+			for (Thread thread: threads)
+			{
+				thread.start();
+			}
+
+			for (Thread thread: threads)
+			{
+				thread.join();
+			}
+
+			RTLogger.enable(false);
+			List<String> lines = Files.readAllLines(text.toPath());
+			assertEquals(THREADS * EVENTS, lines.size());
+
+			for (int t = 0; t < THREADS; t++)
+			{
+				long last = -1;
+
+				for (String line: lines)
+				{
+					long msgid = Long.parseLong(line.split(" ")[3]);
+
+					if (msgid / EVENTS == t)
+					{
+						assertTrue("Events out of order", msgid > last);
+						last = msgid;
+					}
+				}
+			}
+		}
+		finally
+		{
+			text.delete();
+		}
+	}
+
+	public void testOnlineValidation() throws Exception
+	{
+		File text = File.createTempFile("vdmj", ".logrt");
+		TestConjecture conjecture = new TestConjecture();
+		Properties.rt_validate_online = true;
+
+		try
+		{
+			SystemClock.init();
+			RTLogger.setLogfileName(text);
+			logEvents();
+			assertTrue(RTValidator.isOnline());
+			assertEquals(1, conjecture.processed);		// Only operation events
+			assertEquals(1, conjecture.failed);
+			RTLogger.enable(false);
+			assertFalse(RTValidator.isOnline());
+
+			Properties.rt_stop_on_violation = true;
+			RTLogger.setLogfileName(text);
+
+			try
+			{
+				logEvents();
+				fail("Expecting ConjectureException");
+			}
+			catch (ConjectureException e)
+			{
+				assertTrue(e.getMessage().contains("OpRequest"));
+			}
+			finally
+			{
+				RTLogger.enable(false);
+			}
+		}
+		finally
+		{
+			Properties.rt_validate_online = false;
+			Properties.rt_stop_on_violation = false;
+			INAnnotation.reset();
+			text.delete();
+			new File(text.getAbsolutePath() + ".violations").delete();
+		}
+	}
+}
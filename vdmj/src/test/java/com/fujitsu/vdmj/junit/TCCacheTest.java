@@ -0,0 +1,141 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.junit;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.in.INNode;
+import com.fujitsu.vdmj.in.modules.INModuleList;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.messages.VDMMessage;
+import com.fujitsu.vdmj.plugins.analyses.TCCache;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+
+import junit.framework.TestCase;
+
+public class TCCacheTest extends TestCase
+{
+	private String savedDir;
+	private File cacheDir;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.dialect = Dialect.VDM_SL;
+		Settings.release = Release.CLASSIC;
+		savedDir = Properties.tc_cache_dir;
+		cacheDir = Files.createTempDirectory("tccache").toFile();
+		Properties.tc_cache_dir = cacheDir.getPath();
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		super.tearDown();
+		Properties.tc_cache_dir = savedDir;
+
+		for (File file: cacheDir.listFiles())
+		{
+			file.delete();
+		}
+
+		cacheDir.delete();
+	}
+
+	private List<File> getFiles(String resource)
+	{
+		URL rurl = getClass().getResource(resource);
+		List<File> files = new Vector<File>();
+		files.add(new File(rurl.getPath()));
+		return files;
+	}
+
+	private TCModuleList check(List<File> files) throws Exception
+	{
+		LexTokenReader ltr = new LexTokenReader(files.get(0), Dialect.VDM_SL);
+		ModuleReader mr = new ModuleReader(ltr);
+		ASTModuleList parsed = mr.readModules();
+		assertEquals("Parse errors", 0, mr.getErrorCount());
+
+		TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ModuleTypeChecker(checked).typeCheck();
+		assertEquals("Type check errors", 0, TypeChecker.getErrorCount());
+
+		return checked;
+	}
+
+	public void testCache() throws Exception
+	{
+		List<File> files = getFiles("/modtest/SAFER.vdm");
+		assertNull(new TCCache(files).load(new Vector<VDMMessage>()));
+
+		TCModuleList checked = check(files);
+		new TCCache(files).save(checked, TypeChecker.getWarnings());
+		assertEquals(1, cacheDir.listFiles().length);
+
+		List<VDMMessage> messages = new Vector<VDMMessage>();
+		TCModuleList loaded = new TCCache(files).load(messages);
+
+		assertNotNull(loaded);
+		assertNotSame(checked, loaded);
+		assertEquals(checked.toString(), loaded.toString());
+		assertEquals(TypeChecker.getWarnings(), messages);
+		assertEquals(checked.get(0).name.getLocation(), loaded.get(0).name.getLocation());
+
+		INModuleList executable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(loaded);
+		assertEquals(checked.size(), executable.size());
+	}
+
+	public void testKey() throws Exception
+	{
+		List<File> files = getFiles("/modtest/SAFER.vdm");
+		TCModuleList checked = check(files);
+		new TCCache(files).save(checked, TypeChecker.getWarnings());
+
+		Settings.release = Release.VDM_10;
+		assertNull(new TCCache(files).load(new Vector<VDMMessage>()));
+		Settings.release = Release.CLASSIC;
+		assertNotNull(new TCCache(files).load(new Vector<VDMMessage>()));
+
+		Properties.tc_cache_dir = null;
+		assertNull(new TCCache(files).load(new Vector<VDMMessage>()));
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.junit;
+
+import java.util.Arrays;
+
+import com.fujitsu.vdmj.in.statements.INSkipStatement;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.traces.AlternativeIterator;
+import com.fujitsu.vdmj.traces.CallSequence;
+import com.fujitsu.vdmj.traces.ConcurrentIterator;
+import com.fujitsu.vdmj.traces.PermuteArray;
+import com.fujitsu.vdmj.traces.RepeatIterator;
+import com.fujitsu.vdmj.traces.SequenceIterator;
+import com.fujitsu.vdmj.traces.StatementIterator;
+import com.fujitsu.vdmj.traces.TraceIterator;
+import com.fujitsu.vdmj.traces.TraceIteratorList;
+
+import junit.framework.TestCase;
+
+public class TraceIteratorTest extends TestCase
+{
+	/**
+	 * Each statement is a distinct object, and CallSequences compare their
+	 * elements by identity, so streamed and indexed tests must be identical.
+	 */
+	private TraceIterator stmt()
+	{
+		return new StatementIterator(new INSkipStatement(LexLocation.ANY));
+	}
+
+	private TraceIteratorList list(TraceIterator... iterators)
+	{
+		TraceIteratorList list = new TraceIteratorList();
+		list.addAll(Arrays.asList(iterators));
+		return list;
+	}
+
+	private void check(TraceIterator iterator, long expected)
+	{
+		assertEquals(expected, iterator.count());
+		iterator.reset();
+		long n = 0;
+
+		while (iterator.hasMoreTests())
+		{
+			CallSequence streamed = iterator.getNextTest();
+			assertEquals("Test " + n, streamed, iterator.getTest(n));
+			n++;
+		}
+
+		assertEquals(expected, n);
+	}
+
+	public void testSimple()
+	{
+		check(stmt(), 1);
+		check(new SequenceIterator(list(stmt(), stmt(), stmt())), 1);
+		check(new AlternativeIterator(list(stmt(), stmt(), stmt())), 3);
+		check(new RepeatIterator(new AlternativeIterator(list(stmt(), stmt())), 0, 3), 15);
+		check(new ConcurrentIterator(list(stmt(), stmt(), stmt())), 6);
+	}
+
+	public void testNested()
+	{
+		TraceIterator alt1 = new AlternativeIterator(list(stmt(), stmt()));
+		TraceIterator rep = new RepeatIterator(new AlternativeIterator(list(stmt(), stmt(), stmt())), 1, 2);
+		TraceIterator conc = new ConcurrentIterator(list(stmt(), new AlternativeIterator(list(stmt(), stmt())), stmt()));
+		TraceIterator seq = new SequenceIterator(list(alt1, rep, conc));
+
+		check(seq, 2 * (3 + 9) * (2 * 6));
+	}
+
+	public void testPermutations()
+	{
+		PermuteArray permute = new PermuteArray(5);
+		long k = 0;
+
+		while (permute.hasNext())
+		{
+			int[] perm = permute.next();
+			assertTrue(Arrays.equals(perm, PermuteArray.getPermutation(5, k++)));
+		}
+	}
+
+	public void testLargeCount()
+	{
+		TraceIterator alt = new AlternativeIterator(list(stmt(), stmt(), stmt(), stmt()));
+		TraceIterator rep = new RepeatIterator(alt, 20, 20);		// 4^20 tests
+		assertEquals(1L << 40, rep.count());
+
+		CallSequence last = rep.getTest(rep.count() - 1);
+		assertEquals(20, last.size());
+	}
+
+	public void testLargeSubtraces()
+	{
+		TraceIterator big = new RepeatIterator(new AlternativeIterator(list(stmt(), stmt())), 32, 32);
+		TraceIterator conc = new ConcurrentIterator(list(stmt(), big));
+		TraceIterator rep = new RepeatIterator(big, 1, 1);
+
+		assertEquals(2L << 32, conc.count());
+		assertEquals(1L << 32, rep.count());
+
+		for (TraceIterator iterator: Arrays.asList(conc, rep))
+		{
+			iterator.reset();
+
+			for (long n = 0; n < 10; n++)
+			{
+				assertTrue(iterator.hasMoreTests());
+				assertEquals("Test " + n, iterator.getTest(n), iterator.getNextTest());
+			}
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.junit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URL;
+import java.util.List;
+import java.util.Vector;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.config.Properties;
+import com.fujitsu.vdmj.in.INNode;
+import com.fujitsu.vdmj.in.modules.INModuleList;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.messages.ConsolePrintWriter;
+import com.fujitsu.vdmj.runtime.Interpreter;
+import com.fujitsu.vdmj.runtime.ModuleInterpreter;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.traces.TraceReductionType;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+
+import junit.framework.TestCase;
+
+public class TraceTest extends TestCase
+{
+	private boolean savedState;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.release = Release.CLASSIC;
+		savedState = Properties.traces_save_state;
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		super.tearDown();
+		Properties.traces_save_state = savedState;
+		Interpreter.setTraceOutput(null);
+	}
+
+	private String getPath(String resource)
+	{
+		URL rurl = getClass().getResource(resource);
+		return new File(rurl.getPath()).getAbsolutePath();
+	}
+
+	/**
+	 * Run a trace in a separate VDMJ process, returning the output without the
+	 * lines that include timings.
+	 */
+	private List<String> runtrace(String trace, int workers, String... args) throws Exception
+	{
+		List<String> command = new Vector<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.add("-Dvdmj.traces.workers=" + workers);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add("VDMJ");
+
+		for (String arg: args)
+		{
+			command.add(arg);
+		}
+
+		command.add("-q");
+		command.add("-w");
+		command.add("-cmd");
+		command.add("runtrace " + trace);
+
+		ProcessBuilder pb = new ProcessBuilder(command);
+		pb.redirectErrorStream(true);
+		Process process = pb.start();
+		process.getOutputStream().close();
+		List<String> lines = new Vector<String>();
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream())))
+		{
+			String line = reader.readLine();
+
+			while (line != null)
+			{
+				if (!line.startsWith("Generated ") && !line.startsWith("Executed in "))
+				{
+					lines.add(line);
+				}
+
+				line = reader.readLine();
+			}
+		}
+
+		assertEquals("VDMJ exit status", 0, process.waitFor());
+		return lines;
+	}
+
+	private ModuleInterpreter loadModules(String resource) throws Exception
+	{
+		Settings.dialect = Dialect.VDM_SL;
+		LexTokenReader ltr = new LexTokenReader(new File(getPath(resource)), Dialect.VDM_SL);
+		ModuleReader mr = new ModuleReader(ltr);
+		ASTModuleList parsed = mr.readModules();
+		assertEquals("Parse errors", 0, mr.getErrorCount());
+
+		TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		new ModuleTypeChecker(checked).typeCheck();
+		assertEquals("Type check errors", 0, TypeChecker.getErrorCount());
+
+		INModuleList runnable = ClassMapper.getInstance(INNode.MAPPINGS).init().convert(checked);
+		ModuleInterpreter interpreter = new ModuleInterpreter(runnable, checked);
+		interpreter.init();
+		return interpreter;
+	}
+
+	/**
+	 * Run a trace in this process, returning the output without the lines that
+	 * include timings.
+	 */
+	private List<String> runtrace(Interpreter interpreter, String trace) throws Exception
+	{
+		return runtrace(interpreter, trace, 0, 0);
+	}
+
+	private List<String> runtrace(Interpreter interpreter, String trace, long startTest, long endTest) throws Exception
+	{
+		StringWriter out = new StringWriter();
+		Interpreter.setTraceOutput(new ConsolePrintWriter(new PrintWriter(out)));
+		assertTrue(trace + " failed", interpreter.runtrace(trace, startTest, endTest, false, 1.0F, TraceReductionType.NONE, 1234));
+		List<String> lines = new Vector<String>();
+
+		for (String line: out.toString().split("\\R"))
+		{
+			if (!line.startsWith("Generated ") && !line.startsWith("Executed in "))
+			{
+				lines.add(line);
+			}
+		}
+
+		return lines;
+	}
+
+	/**
+	 * The state is restored between tests by undoing the journalled changes of
+	 * the previous test, or by reading a fresh copy if a test extended a map or
+	 * sequence in the state. Either way, the results must be the same as those
+	 * when the state is initialized completely for every test.
+	 */
+	public void testJournal() throws Exception
+	{
+		Settings.release = Release.VDM_10;		// Traces in VDM-SL
+		ModuleInterpreter interpreter = loadModules("/tracetest/journal.vdm");
+		String[] traces = { "J`Maps", "J`Seqs", "J`Mixed" };
+		int[] counts = { 4, 6, 4 };
+
+		for (int t = 0; t < traces.length; t++)
+		{
+			Properties.traces_save_state = false;
+			List<String> initialized = runtrace(interpreter, traces[t]);
+
+			Properties.traces_save_state = true;
+			List<String> restored = runtrace(interpreter, traces[t]);
+
+			assertEquals(traces[t], 2 * counts[t], initialized.size());
+			assertEquals(traces[t], initialized, restored);
+		}
+
+		// The same values are updated in every test, so restore must undo them
+
+		List<String> maps = runtrace(interpreter, "J`Maps");
+		assertEquals("Result = [1, {1 |-> 11}, mk_(1, {1 |-> 11}, [1, 2]), PASSED]", maps.get(1));
+		assertEquals("Result = [1, 2, {1 |-> 12}, mk_(2, {1 |-> 12}, [1, 2]), PASSED]", maps.get(3));
+	}
+
+	/**
+	 * Test numbers beyond the range of an int can be run directly.
+	 */
+	public void testLongRange() throws Exception
+	{
+		Settings.release = Release.VDM_10;		// Traces in VDM-SL
+		ModuleInterpreter interpreter = loadModules("/tracetest/journal.vdm");
+		long last = 1L << 32;
+		List<String> lines = runtrace(interpreter, "J`Big", last, last);
+
+		assertEquals(3, lines.size());
+		assertTrue(lines.get(0).startsWith("Test 4294967296 = SetMap(2); SetMap(2);"));
+		assertTrue(lines.get(1).endsWith("mk_(0, {1 |-> 10, 2 |-> 20}, [1, 2]), PASSED]"));
+		assertEquals("Excluded 4294967295 tests", lines.get(2));
+	}
+
+	public void testWorkers() throws Exception
+	{
+		String spec = getPath("/VDMBook/Enigma.vpp");
+		List<String> serial = runtrace("UseSimpleEnigma`T", 1, "-vdmpp", "-r", "classic", spec);
+		List<String> parallel = runtrace("UseSimpleEnigma`T", 2, "-vdmpp", "-r", "classic", spec);
+
+		assertEquals(21, serial.size());	// Ten tests, their results and a summary
+		assertEquals(serial, parallel);
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.junit;
+
+import com.fujitsu.vdmj.Release;
+import com.fujitsu.vdmj.Settings;
+import com.fujitsu.vdmj.ast.modules.ASTModuleList;
+import com.fujitsu.vdmj.lex.Dialect;
+import com.fujitsu.vdmj.lex.LexTokenReader;
+import com.fujitsu.vdmj.mapper.ClassMapper;
+import com.fujitsu.vdmj.syntax.ModuleReader;
+import com.fujitsu.vdmj.tc.TCNode;
+import com.fujitsu.vdmj.tc.definitions.TCDefinition;
+import com.fujitsu.vdmj.tc.definitions.TCTypeDefinition;
+import com.fujitsu.vdmj.tc.modules.TCModuleList;
+import com.fujitsu.vdmj.tc.types.TCType;
+import com.fujitsu.vdmj.typechecker.ModuleTypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeCheckException;
+import com.fujitsu.vdmj.typechecker.TypeChecker;
+import com.fujitsu.vdmj.typechecker.TypeComparator;
+
+import junit.framework.TestCase;
+
+public class TypeComparatorTest extends TestCase
+{
+	private static final String SPEC =
+		"module M\n" +
+		"exports all\n" +
+		"definitions\n" +
+		"types\n" +
+		"	T = nat;\n" +
+		"	S = set of T;\n" +
+		"	U = set of nat;\n" +
+		"	V = seq of nat;\n" +
+		"end M\n";
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		Settings.dialect = Dialect.VDM_SL;
+		Settings.release = Release.CLASSIC;
+	}
+
+	private TCType getType(TCModuleList modules, String name)
+	{
+		for (TCDefinition def: modules.get(0).defs)
+		{
+			if (def instanceof TCTypeDefinition && def.name.getName().equals(name))
+			{
+				return ((TCTypeDefinition)def).type;
+			}
+		}
+
+		fail("Type not found: " + name);
+		return null;
+	}
+
+	public void testUnresolved() throws Exception
+	{
+		LexTokenReader ltr = new LexTokenReader(SPEC, Dialect.VDM_SL);
+		ModuleReader mr = new ModuleReader(ltr);
+		ASTModuleList parsed = mr.readModules();
+		assertEquals("Parse errors", 0, mr.getErrorCount());
+
+		TCModuleList checked = ClassMapper.getInstance(TCNode.MAPPINGS).init().convert(parsed);
+		TCType s = getType(checked, "S");
+		TCType u = getType(checked, "U");
+		TCType v = getType(checked, "V");
+
+		// Before resolution, S is a set of an unresolved type, T
+
+		TypeComparator.clearCache();
+		assertFalse(TypeComparator.compatible(s, v));
+		assertFalse(TypeComparator.isSubType(s, v));
+
+		try
+		{
+			TypeComparator.compatible(s, u);
+			fail("Expecting unresolved type");
+		}
+		catch (TypeCheckException e)
+		{
+			// Expected
+		}
+
+		assertEquals(0, TypeComparator.getCacheSize());
+
+		// After resolution, the same type objects are compared and cached
+
+		ModuleTypeChecker tc = new ModuleTypeChecker(checked);
+		tc.typeCheck();
+		assertEquals("Type check errors", 0, TypeChecker.getErrorCount());
+
+		assertTrue(TypeComparator.compatible(s, u));
+		assertTrue(TypeComparator.isSubType(s, u));
+		assertFalse(TypeComparator.compatible(s, v));
+		int size = TypeComparator.getCacheSize();
+		assertTrue(size > 0);
+
+		assertTrue(TypeComparator.compatible(s, u));
+		assertEquals(size, TypeComparator.getCacheSize());
+	}
+}
@@ -71,6 +71,7 @@ public class VDMBookTest extends VDMTestCase
 		ClassInterpreter interpreter = new ClassInterpreter(runnable, checked);
 		interpreter.init();
 		AssertCommand cmd = new AssertCommand("assert " + assertions);
+		cmd.run("assert " + assertions);
 		assertEquals("Execution errors", true, !cmd.errors());
 	}
 
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+package com.fujitsu.vdmj.junit;
+
+import com.fujitsu.vdmj.values.IntegerValue;
+import com.fujitsu.vdmj.values.NaturalOneValue;
+import com.fujitsu.vdmj.values.NaturalValue;
+import com.fujitsu.vdmj.values.ValueFactory;
+
+import junit.framework.TestCase;
+
+public class ValueFactoryTest extends TestCase
+{
+	public void testMkInt()
+	{
+		long[] values = { -129, -128, -1, 0, 1, 1024, 1025, Long.MAX_VALUE };
+
+		for (long v: values)
+		{
+			IntegerValue iv = ValueFactory.mkInt(v);
+			assertEquals("mkInt(" + v + ")", IntegerValue.class, iv.getClass());
+			assertEquals(v, iv.intValue(null));
+		}
+
+		assertSame(ValueFactory.mkInt(7), ValueFactory.mkInt(7));
+	}
+
+	public void testMkNat() throws Exception
+	{
+		assertEquals(NaturalValue.class, ValueFactory.mkNat(0).getClass());
+		assertEquals(NaturalValue.class, ValueFactory.mkNat(5000).getClass());
+		assertEquals(NaturalOneValue.class, ValueFactory.mkNat1(1).getClass());
+		assertEquals(NaturalOneValue.class, ValueFactory.mkNat1(5000).getClass());
+		assertSame(ValueFactory.mkNat1(7), ValueFactory.mkNat1(7));
+	}
+}
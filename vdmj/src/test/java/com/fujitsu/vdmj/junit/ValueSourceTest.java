@@ -0,0 +1,158 @@
+/*******************************************************************************
+ *
+ *	Copyright (c) 2026 Nick Battle.
+ *
+ *	Author: Nick Battle
+ *
+ *	This file is part of VDMJ.
+ *
+ *	VDMJ is free software: you can redistribute it and/or modify
+ *	it under the terms of the GNU General Public License as published by
+ *	the Free Software Foundation, either version 3 of the License, or
+ *	(at your option) any later version.
+ *
+ *	VDMJ is distributed in the hope that it will be useful,
+ *	but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *	MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *	GNU General Public License for more details.
+ *
+ *	You should have received a copy of the GNU General Public License
+ *	along with VDMJ.  If not, see <http://www.gnu.org/licenses/>.
+ *	SPDX-License-Identifier: GPL-3.0-or-later
+ *
+ ******************************************************************************/
+
+
+package com.fujitsu.vdmj.junit;
+
+import java.util.Iterator;
+
+import com.fujitsu.vdmj.in.patterns.INIdentifierPattern;
+import com.fujitsu.vdmj.lex.LexLocation;
+import com.fujitsu.vdmj.runtime.Context;
+import com.fujitsu.vdmj.tc.lex.TCNameToken;
+import com.fujitsu.vdmj.values.IntegerValue;
+import com.fujitsu.vdmj.values.Quantifier;
+import com.fujitsu.vdmj.values.QuantifierList;
+import com.fujitsu.vdmj.values.Value;
+import com.fujitsu.vdmj.values.ValueList;
+import com.fujitsu.vdmj.values.ValueSource;
+
+import junit.framework.TestCase;
+
+public class ValueSourceTest extends TestCase
+{
+	private static class Counter implements Iterator<Value>
+	{
+		private final int limit;
+		public int pulled = 0;
+
+		public Counter(int limit)
+		{
+			this.limit = limit;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			return pulled < limit;
+		}
+
+		@Override
+		public Value next()
+		{
+			return new IntegerValue(pulled++);
+		}
+	}
+
+	private ValueList values(int limit)
+	{
+		ValueList list = new ValueList();
+
+		for (int i=0; i<limit; i++)
+		{
+			list.add(new IntegerValue(i));
+		}
+
+		return list;
+	}
+
+	private QuantifierList quantifiers(Object... sources)
+	{
+		QuantifierList list = new QuantifierList();
+		char name = 'a';
+
+		for (Object source: sources)
+		{
+			INIdentifierPattern p = new INIdentifierPattern(
+				new TCNameToken(LexLocation.ANY, "DEFAULT", String.valueOf(name++)));
+
+			if (source instanceof ValueList)
+			{
+				list.add(new Quantifier(p, (ValueList)source));
+			}
+			else
+			{
+				list.add(new Quantifier(p, (ValueSource)source));
+			}
+		}
+
+		list.init(new Context(LexLocation.ANY, "test", null), false);
+		return list;
+	}
+
+	private String permutations(QuantifierList list)
+	{
+		StringBuilder sb = new StringBuilder();
+
+		while (list.hasNext())
+		{
+			sb.append(list.next());
+			sb.append(";");
+		}
+
+		return sb.toString();
+	}
+
+	public void testSource()
+	{
+		Counter counter = new Counter(5);
+		ValueSource source = new ValueSource(values(2), counter);
+		assertFalse(source.isComplete());
+		assertTrue(source.has(3));
+		assertEquals(2, counter.pulled);
+		assertEquals("1", source.get(3).toString());
+		assertFalse(source.has(7));
+		assertTrue(source.isComplete());
+		assertEquals(7, source.getValues().size());
+	}
+
+	public void testPermutations()
+	{
+		String expected = permutations(quantifiers(values(3), values(4), values(2)));
+		assertEquals(24, expected.split(";").length);
+
+		assertEquals(expected, permutations(quantifiers(
+			new ValueSource(null, new Counter(3)), values(4), new ValueSource(null, new Counter(2)))));
+
+		assertEquals(expected, permutations(quantifiers(
+			new ValueSource(values(1), new Counter(3) {{ pulled = 1; }}),
+			new ValueSource(null, new Counter(4)),
+			new ValueSource(null, new Counter(2)))));
+
+		assertEquals("", permutations(quantifiers(values(3), new ValueSource(null, new Counter(0)))));
+	}
+
+	public void testOnDemand()
+	{
+		Counter counter = new Counter(1000);
+		QuantifierList list = quantifiers(values(3), new ValueSource(null, counter));
+
+		for (int i=0; i<7; i++)		// Uses values 0, 1 and 2 of the counter
+		{
+			assertTrue(list.hasNext());
+		}
+
+		assertEquals(3, counter.pulled);
+	}
+}
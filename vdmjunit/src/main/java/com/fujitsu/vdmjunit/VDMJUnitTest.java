@@ -195,6 +195,14 @@ public abstract class VDMJUnitTest
 	 * @throws Exception
 	 */
 	protected boolean runTrace(String name, int startTest, int endTest) throws Exception
+	{
+		return runTrace(name, (long)startTest, (long)endTest);
+	}
+
+	/**
+	 * As above, for traces with more tests than an int can number.
+	 */
+	protected boolean runTrace(String name, long startTest, long endTest) throws Exception
 	{
 		return interpreter.runtrace(name, startTest, endTest, false, 0, TraceReductionType.NONE, 0);
 	}